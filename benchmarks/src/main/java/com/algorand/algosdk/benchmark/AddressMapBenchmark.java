@@ -0,0 +1,118 @@
+package com.algorand.algosdk.benchmark;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.AddressMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap used per entry and lookup cost of HashMap&lt;Address, Long&gt; against AddressMap, on and off heap.
+ *
+ * The lookups run under JMH. The memory per entry is printed by {@link #main(String[])}, run it with
+ * java -cp target/benchmarks.jar com.algorand.algosdk.benchmark.AddressMapBenchmark [entries]
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class AddressMapBenchmark {
+    private static final int PROBES = 1024;
+
+    @State(Scope.Benchmark)
+    public static class Maps {
+        @Param({"HashMap", "AddressMap", "AddressMap.offHeap"})
+        public String impl;
+
+        @Param({"1000000"})
+        public int entries;
+
+        HashMap<Address, Long> hashMap;
+        AddressMap map;
+        Address[] probes;
+        long heapBytes;
+        long directBytes;
+
+        @Setup
+        public void setup() {
+            byte[] keys = new byte[entries * Address.LEN_BYTES];
+            new Random(1).nextBytes(keys);
+            long before = usedHeap();
+            if (impl.equals("HashMap")) {
+                hashMap = new HashMap<>();
+                for (int i = 0; i < entries; i++) {
+                    hashMap.put(address(keys, i), (long) i);
+                }
+            } else {
+                map = impl.equals("AddressMap") ? new AddressMap() : AddressMap.offHeap(0);
+                for (int i = 0; i < entries; i++) {
+                    map.put(keys, i * Address.LEN_BYTES, i);
+                }
+                directBytes = map.isOffHeap() ? map.storageBytes() : 0;
+            }
+            // keys is used below, so it is reachable in both measurements and only the map is counted.
+            heapBytes = usedHeap() - before;
+            probes = new Address[PROBES];
+            for (int i = 0; i < PROBES; i++) {
+                probes[i] = address(keys, i * (entries / PROBES));
+            }
+        }
+
+        private static Address address(byte[] keys, int i) {
+            byte[] bytes = new byte[Address.LEN_BYTES];
+            System.arraycopy(keys, i * Address.LEN_BYTES, bytes, 0, Address.LEN_BYTES);
+            return new Address(bytes);
+        }
+
+        private static long usedHeap() {
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            Runtime rt = Runtime.getRuntime();
+            return rt.totalMemory() - rt.freeMemory();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public long get(Maps maps, Cursor cursor) {
+        Address probe = maps.probes[cursor.next++ & (PROBES - 1)];
+        if (maps.hashMap != null) {
+            Long value = maps.hashMap.get(probe);
+            return value == null ? -1 : value;
+        }
+        return maps.map.get(probe, -1);
+    }
+
+    /**
+     * Print the heap retained per entry by each map, and the direct buffer per entry of the off heap map.
+     */
+    public static void main(String[] args) {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        for (String impl : new String[]{"HashMap", "AddressMap", "AddressMap.offHeap"}) {
+            Maps maps = new Maps();
+            maps.impl = impl;
+            maps.entries = entries;
+            maps.setup();
+            System.out.printf("%-20s %6d heap bytes/entry %6d direct bytes/entry%n",
+                    impl, maps.heapBytes / entries, maps.directBytes / entries);
+        }
+    }
+}
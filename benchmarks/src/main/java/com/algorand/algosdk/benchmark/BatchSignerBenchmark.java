@@ -0,0 +1,91 @@
+package com.algorand.algosdk.benchmark;
+
+import com.algorand.algosdk.account.Account;
+import com.algorand.algosdk.account.BatchSigner;
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.transaction.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing throughput of a batch of 256 payments, in transactions per second: a signTransaction loop on the calling
+ * thread, and {@link BatchSigner} on pools of 1, 4, 16 and 64 threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchSignerBenchmark {
+    private static final int BATCH = 256;
+
+    @Param({"1", "4", "16", "64"})
+    public int threads;
+
+    private Account account;
+    private List<Transaction> txns;
+    private ExecutorService pool;
+    private BatchSigner signer;
+
+    @Setup
+    public void setup() throws Exception {
+        account = new Account();
+        txns = new ArrayList<>();
+        for (int i = 0; i < BATCH; i++) {
+            txns.add(Transaction.PaymentTransactionBuilder()
+                    .sender(account.getAddress())
+                    .receiver(new Address("CQW2QBBUW5AGFDXMURQBRJN2AM3OHHQWXXI4PEJXRCVTEJ3E5VBTNRTEAE"))
+                    .amount(i)
+                    .flatFee(1000)
+                    .firstValid(301)
+                    .lastValid(1300)
+                    .genesisID("testnet-v1.0")
+                    .genesisHash(new Digest("SGO1GKSzyE7IEPItTxCByw9x8FmnrCDexi9/cOUJOiI="))
+                    .build());
+        }
+        pool = Executors.newFixedThreadPool(threads);
+        signer = new BatchSigner(account, pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public byte[] batchSigner() throws Exception {
+        return signer.signTransactionsEncoded(txns);
+    }
+
+    /**
+     * The loop does not use the pool, its result is the same for every thread count.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void signTransactionLoop(Blackhole bh) throws Exception {
+        for (Transaction tx : txns) {
+            bh.consume(account.signTransaction(tx));
+        }
+    }
+}
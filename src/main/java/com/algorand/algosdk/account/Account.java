@@ -4,17 +4,16 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
-import java.security.SignatureException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import com.algorand.algosdk.auction.Bid;
 import com.algorand.algosdk.auction.SignedBid;
 import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Ed25519Engine;
 import com.algorand.algosdk.crypto.Ed25519PublicKey;
 import com.algorand.algosdk.crypto.LogicsigSignature;
 import com.algorand.algosdk.crypto.MultisigAddress;
@@ -22,29 +21,41 @@ import com.algorand.algosdk.crypto.MultisigSignature;
 import com.algorand.algosdk.crypto.MultisigSignature.MultisigSubsig;
 import com.algorand.algosdk.crypto.Signature;
 import com.algorand.algosdk.mnemonic.Mnemonic;
+import com.algorand.algosdk.transaction.CanonicalEncoder;
+import com.algorand.algosdk.transaction.EncodedSize;
+import com.algorand.algosdk.transaction.FrozenTransaction;
 import com.algorand.algosdk.transaction.SignedTransaction;
 import com.algorand.algosdk.transaction.Transaction;
-import com.algorand.algosdk.util.CryptoProvider;
+import com.algorand.algosdk.util.Digester;
 import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.MsgPackWriter;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
-import org.bouncycastle.asn1.ASN1Encodable;
-import org.bouncycastle.asn1.ASN1OctetString;
-import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 
 /**
  * Create and manage secrets, and perform account-based work such as signing transactions.
  */
-public class Account {
-    private final KeyPair privateKeyPair;
+public class Account implements Signer {
+    private final byte[] seed;
     private final Address address;
+    private final byte[] publicKey;
+    private final SigningEngine signer;
     private static final String KEY_ALGO = "Ed25519";
     private static final String SIGN_ALGO = "EdDSA";
     private static final int PK_SIZE = 32;
-    private static final int PK_X509_PREFIX_LENGTH = 12; // Ed25519 specific
     private static final int SK_SIZE = 32;
-    private static final int SK_SIZE_BITS = SK_SIZE * 8;
+    static final int SK_SIZE_BITS = SK_SIZE * 8;
     private static final byte[] BID_SIGN_PREFIX = ("aB").getBytes(StandardCharsets.UTF_8);
     private static final byte[] BYTES_SIGN_PREFIX = ("MX").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TX_SIGN_PREFIX = ("TX").getBytes(StandardCharsets.UTF_8);
+    // per thread encoding buffer for the bytes to sign.
+    private static final ThreadLocal<MsgPackWriter> SCRATCH = new ThreadLocal<MsgPackWriter>() {
+        @Override
+        protected MsgPackWriter initialValue() {
+            return new MsgPackWriter();
+        }
+    };
     public static final BigInteger MIN_TX_FEE_UALGOS = BigInteger.valueOf(1000);
 
     /**
@@ -71,15 +82,13 @@ public class Account {
 
     // randomSrc can be null, in which case system default is used
     private Account(SecureRandom randomSrc) throws NoSuchAlgorithmException {
-        CryptoProvider.setupIfNeeded();
-        KeyPairGenerator gen = KeyPairGenerator.getInstance(KEY_ALGO);
-        if (randomSrc != null) {
-            gen.initialize(SK_SIZE_BITS, randomSrc);
-        }
-        this.privateKeyPair = gen.generateKeyPair();
-        // now, convert public key to an address
-        byte[] raw = this.getClearTextPublicKey();
-        this.address = new Address(Arrays.copyOf(raw, raw.length));
+        // the seed is drawn exactly as the Ed25519 key pair generators draw it, the public key is derived from
+        // it directly instead of going through a KeyPairGenerator and its X.509 encoding.
+        this.seed = new byte[SK_SIZE];
+        (randomSrc == null ? new SecureRandom() : randomSrc).nextBytes(this.seed);
+        this.publicKey = Ed25519Engine.publicKey(this.seed);
+        this.address = new Address(Arrays.copyOf(this.publicKey, PK_SIZE));
+        this.signer = new SigningEngine(SIGN_ALGO, KEY_ALGO, this.seed, this.publicKey);
     }
 
     /**
@@ -87,13 +96,7 @@ public class Account {
      * @return the public key as length 32 byte array.
      */
     public byte[] getClearTextPublicKey() {
-        byte[] b = this.privateKeyPair.getPublic().getEncoded(); // X.509 prepended with ASN.1 prefix
-        if (b.length != PK_SIZE + PK_X509_PREFIX_LENGTH) {
-            throw new RuntimeException("Generated public key and X.509 prefix is the wrong size");
-        }
-        byte[] raw = new byte[PK_SIZE];
-        System.arraycopy(b, PK_X509_PREFIX_LENGTH, raw, 0, PK_SIZE);
-        return raw;
+        return Arrays.copyOf(this.publicKey, PK_SIZE);
     }
 
     public Ed25519PublicKey getEd25519PublicKey() {
@@ -114,16 +117,7 @@ public class Account {
      * @return string a 25 word mnemonic
      */
     public String toMnemonic() {
-        // this is the only place we use a bouncy castle compile-time dependency
-        byte[] X509enc = this.privateKeyPair.getPrivate().getEncoded();
-        PrivateKeyInfo pkinfo = PrivateKeyInfo.getInstance(X509enc);
-        try {
-            ASN1Encodable keyOcts = pkinfo.parsePrivateKey();
-            byte[] res = ASN1OctetString.getInstance(keyOcts).getOctets();
-            return Mnemonic.fromKey(res);
-        } catch (IOException e) {
-            throw new RuntimeException("unexpected behavior", e);
-        }
+        return Mnemonic.fromKey(this.seed);
     }
 
     /**
@@ -133,12 +127,42 @@ public class Account {
      * @throws NoSuchAlgorithmException if signing algorithm could not be found
      */
     public SignedTransaction signTransaction(Transaction tx) throws NoSuchAlgorithmException {
+        // encode once, the same prefixed bytes are signed and hashed into the transaction ID.
+        MsgPackWriter out = SCRATCH.get();
+        out.reset();
+        out.writeRaw(TX_SIGN_PREFIX);
+        CanonicalEncoder.writeTransaction(out, tx);
+        Signature txSig = sign(out.buffer(), out.offset(), out.length());
+        String txID = Encoder.encodeToBase32StripPad(Digester.digest(out.buffer(), out.offset(), out.length()));
+        return new SignedTransaction(tx, txSig, txID);
+    }
+
+    /**
+     * Sign a transaction snapshot with this account. The snapshot is not encoded again, the signature covers its
+     * memoized bytes and the signed transaction reuses its transaction ID.
+     * @param tx the transaction snapshot to sign
+     * @return a signed transaction
+     * @throws NoSuchAlgorithmException if signing algorithm could not be found
+     */
+    public SignedTransaction signTransaction(FrozenTransaction tx) throws NoSuchAlgorithmException {
+        return tx.sign(this);
+    }
+
+    /**
+     * Sign transactions on the calling thread, see {@link Signer}.
+     * @param txns transactions to sign
+     * @return an already completed future
+     */
+    @Override
+    public ListenableFuture<List<SignedTransaction>> signAsync(List<Transaction> txns) {
         try {
-            byte[] prefixEncodedTx = tx.bytesToSign();
-            Signature txSig = rawSignBytes(Arrays.copyOf(prefixEncodedTx, prefixEncodedTx.length));
-            return new SignedTransaction(tx, txSig, tx.txID());
-        } catch (IOException e) {
-            throw new RuntimeException("unexpected behavior", e);
+            List<SignedTransaction> signed = new ArrayList<>(txns.size());
+            for (Transaction tx : txns) {
+                signed.add(this.signTransaction(tx));
+            }
+            return Futures.immediateFuture(signed);
+        } catch (Exception e) {
+            return Futures.immediateFailedFuture(e);
         }
     }
 
@@ -177,13 +201,10 @@ public class Account {
     public SignedBid signBid(Bid bid) throws NoSuchAlgorithmException {
         try {
             byte[] encodedBid = Encoder.encodeToMsgPack(bid);
-            // prepend hashable prefix
-            byte[] prefixEncodedBid = new byte[encodedBid.length + BID_SIGN_PREFIX.length];
-            System.arraycopy(BID_SIGN_PREFIX, 0, prefixEncodedBid, 0, BID_SIGN_PREFIX.length);
-            System.arraycopy(encodedBid, 0, prefixEncodedBid, BID_SIGN_PREFIX.length, encodedBid.length);
-            // sign
-            Signature bidSig = rawSignBytes(prefixEncodedBid);
-            return new SignedBid(bid, bidSig);
+            // sign with the hashable prefix
+            byte[] bidSig = new byte[SigningEngine.SIGNATURE_LEN];
+            this.signer.sign(BID_SIGN_PREFIX, encodedBid, 0, encodedBid.length, bidSig, 0);
+            return new SignedBid(bid, new Signature(bidSig));
         } catch (IOException e) {
             throw new RuntimeException("unexpected behavior", e);
         }
@@ -252,15 +273,11 @@ public class Account {
     /**
      * EstimateEncodedSize returns the estimated encoded size of the transaction including the signature.
      * This function is useful for calculating the fee from suggested fee per byte.
+     * The size is computed from the transaction fields, see {@link EncodedSize#singleSig(Transaction)}.
      * @return an estimated byte size for the transaction.
      */
     public static BigInteger estimatedEncodedSize(Transaction tx) throws NoSuchAlgorithmException {
-        Account acc = new Account();
-        try {
-            return BigInteger.valueOf(Encoder.encodeToMsgPack(acc.signTransaction(tx)).length);
-        } catch (IOException e) {
-            throw new RuntimeException("unexpected behavior", e);
-        }
+        return BigInteger.valueOf(EncodedSize.singleSig(tx));
     }
 
     /**
@@ -269,16 +286,21 @@ public class Account {
      * @return a signature
      */
     private Signature rawSignBytes(byte[] bytes) throws NoSuchAlgorithmException {
-        try {
-            CryptoProvider.setupIfNeeded();
-            java.security.Signature signer = java.security.Signature.getInstance(SIGN_ALGO);
-            signer.initSign(this.privateKeyPair.getPrivate());
-            signer.update(bytes);
-            byte[] sigRaw = signer.sign();
-            return new Signature(sigRaw);
-        } catch (InvalidKeyException|SignatureException e) {
-            throw new RuntimeException("unexpected behavior", e);
-        }
+        return sign(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Sign part of an array as is, without copying it. Unlike {@link #signBytes(byte[])} no domain separation
+     * prefix is added, the data must already start with one, e.g. "TX" followed by an encoded transaction.
+     * Safe to call from several threads at once. Final, because the signing methods of this class pass it buffers
+     * they keep, such as the memoized bytes of a {@link FrozenTransaction}.
+     * @param buf array holding the data to sign
+     * @param off position of the first byte to sign
+     * @param len number of bytes to sign
+     * @return a signature
+     */
+    public final Signature sign(byte[] buf, int off, int len) throws NoSuchAlgorithmException {
+        return new Signature(this.signer.sign(buf, off, len));
     }
 
     /**
@@ -287,12 +309,9 @@ public class Account {
      * @return a signature
      */
     public Signature signBytes(byte[] bytes) throws NoSuchAlgorithmException {
-        // prepend hashable prefix
-        byte[] prefixBytes = new byte[bytes.length + BYTES_SIGN_PREFIX.length];
-        System.arraycopy(BYTES_SIGN_PREFIX, 0, prefixBytes, 0, BYTES_SIGN_PREFIX.length);
-        System.arraycopy(bytes, 0, prefixBytes, BYTES_SIGN_PREFIX.length, bytes.length);
-        // sign
-        return rawSignBytes(prefixBytes);
+        byte[] sig = new byte[SigningEngine.SIGNATURE_LEN];
+        this.signer.sign(BYTES_SIGN_PREFIX, bytes, 0, bytes.length, sig, 0);
+        return new Signature(sig);
     }
 
     /* Multisignature support */
@@ -306,7 +325,7 @@ public class Account {
      */
     public SignedTransaction signMultisigTransaction(MultisigAddress from, Transaction tx) throws NoSuchAlgorithmException {
         // check that from addr of tx matches multisig preimage
-        if (!tx.sender.toString().equals(from.toString())) {
+        if (!tx.sender.equals(from.toAddress())) {
             throw new IllegalArgumentException("Transaction sender does not match multisig account");
         }
         // check that account secret key is in multisig pk list
@@ -532,7 +551,7 @@ public class Account {
     }
 
     // Return a pre-set seed in response to nextBytes or generateSeed
-    private static class FixedSecureRandom extends SecureRandom {
+    static class FixedSecureRandom extends SecureRandom {
         private final byte[] fixedValue;
         private int index = 0;
 
@@ -0,0 +1,240 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Ed25519Engine;
+import com.algorand.algosdk.mnemonic.Mnemonic;
+import com.algorand.algosdk.util.ChunkedTasks;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates many keys at once, and searches for vanity addresses, spreading the work across an executor.
+ *
+ * Each worker draws seeds from its own SecureRandom and derives public keys with {@link Ed25519Engine} in a tight
+ * loop, without building {@link Account} objects or address strings. Vanity prefixes are compiled once into a bit
+ * mask over the public key: the first 51 characters of an address are the Base32 encoding of the public key, so a
+ * prefix of n characters fixes its first 5n bits.
+ *
+ * Results are handed to a {@link Sink} from the worker threads as they are found. A search stops once the
+ * requested number of keys has been found, the attempt budget is spent, or the calling thread is interrupted.
+ */
+public class AccountGenerator {
+    /**
+     * Longest vanity prefix, the characters after it depend on the checksum.
+     */
+    public static final int MAX_PREFIX_LENGTH = (Ed25519Engine.PUBLIC_KEY_LENGTH * 8) / 5;
+
+    private static final String BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    /**
+     * Receives generated keys. Called concurrently from the worker threads.
+     */
+    public interface Sink {
+        void accept(GeneratedKey key);
+    }
+
+    /**
+     * A generated seed and its address.
+     */
+    public static final class GeneratedKey {
+        private final byte[] seed;
+        private final Address address;
+
+        GeneratedKey(byte[] seed, byte[] publicKey) {
+            this.seed = seed;
+            this.address = new Address(publicKey);
+        }
+
+        /**
+         * @return the 32 byte rfc8032 private key
+         */
+        public byte[] getSeed() {
+            return Arrays.copyOf(seed, seed.length);
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        /**
+         * @return the 25 word mnemonic of the seed
+         */
+        public String toMnemonic() {
+            return Mnemonic.fromKey(seed);
+        }
+
+        /**
+         * @return an account for the seed, able to sign
+         * @throws NoSuchAlgorithmException if the key algorithm could not be found
+         */
+        public Account toAccount() throws NoSuchAlgorithmException {
+            return new Account(seed);
+        }
+    }
+
+    /**
+     * Create a generator running one worker per available processor.
+     * @param executor executor running the workers
+     */
+    public AccountGenerator(ExecutorService executor) {
+        this(executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param executor executor running the workers
+     * @param parallelism number of workers
+     */
+    public AccountGenerator(ExecutorService executor, int parallelism) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Generate count random keys.
+     * @return the generated keys, in no particular order
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public List<GeneratedKey> generate(int count) throws InterruptedException {
+        final List<GeneratedKey> keys = Collections.synchronizedList(new ArrayList<GeneratedKey>(count));
+        generate(count, new Sink() {
+            @Override
+            public void accept(GeneratedKey key) {
+                keys.add(key);
+            }
+        });
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * Generate count random keys, handing each to sink as soon as it is generated.
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public void generate(long count, Sink sink) throws InterruptedException {
+        search(null, null, count, Long.MAX_VALUE, sink);
+    }
+
+    /**
+     * Search for keys whose address starts with prefix.
+     * @param prefix Base32 address prefix, case insensitive, at most {@link #MAX_PREFIX_LENGTH} characters
+     * @param count number of keys to find
+     * @param maxAttempts stop after this many keys were tried, even if fewer than count were found
+     * @return the matching keys, in no particular order
+     * @throws IllegalArgumentException if prefix is not valid Base32 or too long
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public List<GeneratedKey> findVanity(String prefix, int count, long maxAttempts) throws InterruptedException {
+        final List<GeneratedKey> keys = Collections.synchronizedList(new ArrayList<GeneratedKey>(count));
+        findVanity(prefix, count, maxAttempts, new Sink() {
+            @Override
+            public void accept(GeneratedKey key) {
+                keys.add(key);
+            }
+        });
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * Search for keys whose address starts with prefix, handing each match to sink as soon as it is found.
+     * @see #findVanity(String, int, long)
+     */
+    public void findVanity(String prefix, long count, long maxAttempts, Sink sink) throws InterruptedException {
+        byte[] mask = new byte[(prefix.length() * 5 + 7) / 8];
+        byte[] value = new byte[mask.length];
+        compilePrefix(prefix, mask, value);
+        search(mask, value, count, maxAttempts, sink);
+    }
+
+    /**
+     * Compile a Base32 prefix into the public key bits it fixes.
+     */
+    static void compilePrefix(String prefix, byte[] mask, byte[] value) {
+        if (prefix.length() > MAX_PREFIX_LENGTH) {
+            throw new IllegalArgumentException("prefix must be at most " + MAX_PREFIX_LENGTH + " characters");
+        }
+        for (int c = 0; c < prefix.length(); c++) {
+            int v = BASE32_ALPHABET.indexOf(Character.toUpperCase(prefix.charAt(c)));
+            if (v < 0) {
+                throw new IllegalArgumentException("prefix is not valid base32: " + prefix);
+            }
+            for (int b = 0; b < 5; b++) {
+                int bit = c * 5 + b;
+                int shift = 7 - (bit & 7);
+                mask[bit >> 3] |= 1 << shift;
+                if ((v & (0x10 >> b)) != 0) {
+                    value[bit >> 3] |= 1 << shift;
+                }
+            }
+        }
+    }
+
+    static boolean matches(byte[] publicKey, byte[] mask, byte[] value) {
+        for (int i = 0; i < mask.length; i++) {
+            if ((publicKey[i] & mask[i]) != value[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void search(final byte[] mask, final byte[] value, final long count, long maxAttempts, final Sink sink)
+            throws InterruptedException {
+        if (count <= 0) {
+            return;
+        }
+        final AtomicLong remaining = new AtomicLong(count);
+        final AtomicLong attempts = new AtomicLong(maxAttempts);
+        final AtomicBoolean done = new AtomicBoolean();
+        try {
+            // one chunk per worker, each worker runs until the search is done.
+            ChunkedTasks.run(executor, parallelism, 1, RuntimeException.class,
+                    new ChunkedTasks.Chunk<Void, RuntimeException>() {
+                        @Override
+                        public Void run(int chunk, int from, int to) {
+                            SecureRandom random = new SecureRandom();
+                            byte[] seed = new byte[Ed25519Engine.SEED_LENGTH];
+                            byte[] publicKey = new byte[Ed25519Engine.PUBLIC_KEY_LENGTH];
+                            while (!done.get() && !Thread.currentThread().isInterrupted()) {
+                                if (attempts.getAndDecrement() <= 0) {
+                                    done.set(true);
+                                    break;
+                                }
+                                random.nextBytes(seed);
+                                Ed25519Engine.publicKey(seed, 0, publicKey, 0);
+                                if (mask != null && !matches(publicKey, mask, value)) {
+                                    continue;
+                                }
+                                long left = remaining.getAndDecrement();
+                                if (left <= 0) {
+                                    break;
+                                }
+                                if (left == 1) {
+                                    done.set(true);
+                                }
+                                sink.accept(new GeneratedKey(seed.clone(), publicKey.clone()));
+                            }
+                            Arrays.fill(seed, (byte) 0);
+                            return null;
+                        }
+                    });
+        } finally {
+            done.set(true);
+        }
+    }
+}
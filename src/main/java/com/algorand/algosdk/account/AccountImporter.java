@@ -0,0 +1,76 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.util.ChunkedTasks;
+
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Creates accounts from many mnemonics at once, spreading the work across an executor.
+ *
+ * Mnemonics are split into chunks, each chunk is imported by one task. Accounts are always returned in input
+ * order. The first invalid mnemonic found fails the whole import, its error names its index in the input.
+ */
+public class AccountImporter {
+    /**
+     * Default number of mnemonics imported by a single task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64;
+
+    private final ExecutorService executor;
+    private final int chunkSize;
+
+    /**
+     * @param executor executor running the import tasks
+     */
+    public AccountImporter(ExecutorService executor) {
+        this(executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param executor executor running the import tasks
+     * @param chunkSize number of mnemonics imported by a single task
+     */
+    public AccountImporter(ExecutorService executor, int chunkSize) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive");
+        }
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Create an account for each mnemonic, see {@link Account#Account(String)}.
+     * @param mnemonics 25 word mnemonics
+     * @return accounts, in input order
+     * @throws GeneralSecurityException if a mnemonic has an invalid checksum, the message gives its index
+     * @throws IllegalArgumentException if a mnemonic is malformed, the message gives its index
+     * @throws InterruptedException if interrupted while waiting for the import tasks
+     */
+    public List<Account> importMnemonics(List<String> mnemonics) throws GeneralSecurityException, InterruptedException {
+        final String[] array = mnemonics.toArray(new String[mnemonics.size()]);
+        final Account[] accounts = new Account[array.length];
+        ChunkedTasks.run(executor, array.length, chunkSize, GeneralSecurityException.class,
+                new ChunkedTasks.Chunk<Void, GeneralSecurityException>() {
+                    @Override
+                    public Void run(int chunk, int from, int to) throws GeneralSecurityException {
+                        for (int i = from; i < to; i++) {
+                            try {
+                                accounts[i] = new Account(array[i]);
+                            } catch (GeneralSecurityException e) {
+                                throw new GeneralSecurityException("mnemonic " + i + ": " + e.getMessage(), e);
+                            } catch (IllegalArgumentException e) {
+                                throw new IllegalArgumentException("mnemonic " + i + ": " + e.getMessage(), e);
+                            }
+                        }
+                        return null;
+                    }
+                });
+        return Arrays.asList(accounts);
+    }
+}
@@ -0,0 +1,144 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.transaction.CanonicalEncoder;
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+import com.algorand.algosdk.util.ChunkedTasks;
+import com.algorand.algosdk.util.MsgPackWriter;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Signs many transactions with one account, spreading the work across an executor.
+ *
+ * Transactions are split into chunks, each chunk is signed by one task. Results are always returned in input
+ * order, the encoded form is written chunk by chunk into one buffer without a second pass over the signed
+ * transactions.
+ */
+public class BatchSigner {
+    /**
+     * Default number of transactions signed by a single task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 32;
+
+    private final Account account;
+    private final ExecutorService executor;
+    private final int chunkSize;
+
+    /**
+     * @param account account signing the transactions
+     * @param executor executor running the signing tasks
+     */
+    public BatchSigner(Account account, ExecutorService executor) {
+        this(account, executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param account account signing the transactions
+     * @param executor executor running the signing tasks
+     * @param chunkSize number of transactions signed by a single task
+     */
+    public BatchSigner(Account account, ExecutorService executor, int chunkSize) {
+        if (account == null || executor == null) {
+            throw new IllegalArgumentException("account and executor must not be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive");
+        }
+        this.account = account;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Sign a list of transactions.
+     * @param txns transactions to sign
+     * @return signed transactions, in input order
+     * @throws NoSuchAlgorithmException if the signing algorithm could not be found
+     * @throws InterruptedException if interrupted while waiting for the signing tasks
+     */
+    public List<SignedTransaction> signTransactions(List<Transaction> txns) throws NoSuchAlgorithmException, InterruptedException {
+        Transaction[] array = txns.toArray(new Transaction[txns.size()]);
+        return Arrays.asList(sign(array, null));
+    }
+
+    /**
+     * Sign transaction groups. Group IDs must already be assigned.
+     * @param groups transaction groups to sign
+     * @return signed groups, in input order
+     * @throws NoSuchAlgorithmException if the signing algorithm could not be found
+     * @throws InterruptedException if interrupted while waiting for the signing tasks
+     */
+    public SignedTransaction[][] signGroups(Transaction[][] groups) throws NoSuchAlgorithmException, InterruptedException {
+        List<Transaction> flat = new ArrayList<>();
+        for (Transaction[] group : groups) {
+            flat.addAll(Arrays.asList(group));
+        }
+        SignedTransaction[] signed = sign(flat.toArray(new Transaction[flat.size()]), null);
+        SignedTransaction[][] result = new SignedTransaction[groups.length][];
+        int pos = 0;
+        for (int g = 0; g < groups.length; g++) {
+            result[g] = Arrays.copyOfRange(signed, pos, pos + groups[g].length);
+            pos += groups[g].length;
+        }
+        return result;
+    }
+
+    /**
+     * Sign a list of transactions and encode the signed transactions into one contiguous buffer, in input order.
+     * The result can be submitted as is with the rawTransaction endpoint, for a transaction group the
+     * transactions must be passed in group order.
+     * @param txns transactions to sign
+     * @return concatenated msgpack encoded signed transactions
+     * @throws NoSuchAlgorithmException if the signing algorithm could not be found
+     * @throws InterruptedException if interrupted while waiting for the signing tasks
+     */
+    public byte[] signTransactionsEncoded(List<Transaction> txns) throws NoSuchAlgorithmException, InterruptedException {
+        Transaction[] array = txns.toArray(new Transaction[txns.size()]);
+        MsgPackWriter[] encoded = new MsgPackWriter[chunks(array.length)];
+        sign(array, encoded);
+        int total = 0;
+        for (MsgPackWriter chunk : encoded) {
+            total += chunk.length();
+        }
+        byte[] out = new byte[total];
+        int pos = 0;
+        for (MsgPackWriter chunk : encoded) {
+            System.arraycopy(chunk.buffer(), chunk.offset(), out, pos, chunk.length());
+            pos += chunk.length();
+        }
+        return out;
+    }
+
+    private int chunks(int count) {
+        return (count + chunkSize - 1) / chunkSize;
+    }
+
+    // Sign all transactions, if encoded is not null each chunk is also encoded into encoded[chunk].
+    private SignedTransaction[] sign(final Transaction[] txns, final MsgPackWriter[] encoded)
+            throws NoSuchAlgorithmException, InterruptedException {
+        final SignedTransaction[] signed = new SignedTransaction[txns.length];
+        ChunkedTasks.run(executor, txns.length, chunkSize, NoSuchAlgorithmException.class,
+                new ChunkedTasks.Chunk<Void, NoSuchAlgorithmException>() {
+                    @Override
+                    public Void run(int chunk, int from, int to) throws NoSuchAlgorithmException {
+                        MsgPackWriter out = encoded == null ? null : new MsgPackWriter();
+                        for (int i = from; i < to; i++) {
+                            signed[i] = account.signTransaction(txns[i]);
+                            if (out != null) {
+                                CanonicalEncoder.writeSignedTransaction(out, signed[i]);
+                            }
+                        }
+                        if (out != null) {
+                            encoded[chunk] = out;
+                        }
+                        return null;
+                    }
+                });
+        return signed;
+    }
+}
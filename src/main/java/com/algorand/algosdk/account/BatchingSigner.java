@@ -0,0 +1,163 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces signing requests from many threads into batches for a slower {@link Signer}, e.g. a kmd wallet, an HSM
+ * or a remote signing service, so that one round trip signs many transactions.
+ *
+ * A batch is sent as soon as it holds maxBatchSize transactions, or once the oldest queued transaction has waited
+ * maxLatency, whichever comes first. Each caller gets a future for its own transactions only. If the delegate
+ * fails a batch, every future of that batch fails with the same cause.
+ */
+public class BatchingSigner implements Signer {
+    private final Signer delegate;
+    private final int maxBatchSize;
+    private final long maxLatencyNanos;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private List<Transaction> queued = new ArrayList<>();
+    private List<SettableFuture<SignedTransaction>> waiting = new ArrayList<>();
+    // incremented by each flush, so a timer armed for an earlier batch does not flush a later one.
+    private long epoch;
+
+    /**
+     * @param delegate signer receiving the batches
+     * @param maxBatchSize largest number of transactions sent in one batch
+     * @param maxLatency longest time a transaction is queued before its batch is sent
+     * @param unit unit of maxLatency
+     * @param scheduler scheduler running the latency timers, owned by the caller
+     */
+    public BatchingSigner(Signer delegate, int maxBatchSize, long maxLatency, TimeUnit unit,
+                          ScheduledExecutorService scheduler) {
+        if (delegate == null || scheduler == null) {
+            throw new IllegalArgumentException("delegate and scheduler must not be null");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("max batch size must be positive");
+        }
+        if (maxLatency < 0) {
+            throw new IllegalArgumentException("max latency must not be negative");
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLatencyNanos = unit.toNanos(maxLatency);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Queue a transaction for signing.
+     * @return a future completing with the signed transaction
+     */
+    public ListenableFuture<SignedTransaction> sign(Transaction tx) {
+        SettableFuture<SignedTransaction> future = SettableFuture.create();
+        List<Transaction> batch = null;
+        List<SettableFuture<SignedTransaction>> futures = null;
+        synchronized (lock) {
+            queued.add(tx);
+            waiting.add(future);
+            if (queued.size() >= maxBatchSize) {
+                batch = queued;
+                futures = waiting;
+                reset();
+            } else if (queued.size() == 1) {
+                armTimer(epoch);
+            }
+        }
+        if (batch != null) {
+            dispatch(batch, futures);
+        }
+        return future;
+    }
+
+    /**
+     * Queue transactions for signing. They may be sent in different batches.
+     * @return a future completing with the signed transactions in input order
+     */
+    @Override
+    public ListenableFuture<List<SignedTransaction>> signAsync(List<Transaction> txns) {
+        List<ListenableFuture<SignedTransaction>> futures = new ArrayList<>(txns.size());
+        for (Transaction tx : txns) {
+            futures.add(sign(tx));
+        }
+        return Futures.allAsList(futures);
+    }
+
+    /**
+     * Send the queued transactions now, without waiting for the batch to fill up.
+     */
+    public void flush() {
+        flush(-1);
+    }
+
+    private void flush(long expectedEpoch) {
+        List<Transaction> batch;
+        List<SettableFuture<SignedTransaction>> futures;
+        synchronized (lock) {
+            if (queued.isEmpty() || (expectedEpoch >= 0 && expectedEpoch != epoch)) {
+                return;
+            }
+            batch = queued;
+            futures = waiting;
+            reset();
+        }
+        dispatch(batch, futures);
+    }
+
+    // Callers hold the lock.
+    private void reset() {
+        queued = new ArrayList<>();
+        waiting = new ArrayList<>();
+        epoch++;
+    }
+
+    private void armTimer(final long batchEpoch) {
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                flush(batchEpoch);
+            }
+        }, maxLatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void dispatch(List<Transaction> batch, final List<SettableFuture<SignedTransaction>> futures) {
+        ListenableFuture<List<SignedTransaction>> signed;
+        try {
+            signed = delegate.signAsync(batch);
+        } catch (RuntimeException e) {
+            signed = Futures.immediateFailedFuture(e);
+        }
+        Futures.addCallback(signed, new FutureCallback<List<SignedTransaction>>() {
+            @Override
+            public void onSuccess(List<SignedTransaction> result) {
+                if (result == null || result.size() != futures.size()) {
+                    onFailure(new IllegalStateException("signer returned " + (result == null ? 0 : result.size())
+                            + " transactions for a batch of " + futures.size()));
+                    return;
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    futures.get(i).set(result.get(i));
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                for (SettableFuture<SignedTransaction> future : futures) {
+                    future.setException(t);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+    }
+}
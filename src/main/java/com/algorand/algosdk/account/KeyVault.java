@@ -0,0 +1,353 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Ed25519Engine;
+import com.algorand.algosdk.crypto.Signature;
+import com.algorand.algosdk.mnemonic.Mnemonic;
+import com.algorand.algosdk.transaction.CanonicalEncoder;
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+import com.algorand.algosdk.util.Digester;
+import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.MsgPackWriter;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Fixed capacity store of signing keys kept outside of the Java heap.
+ *
+ * All keys live in one direct buffer divided into fixed size slots, each holding a seed and its public key. Keys
+ * are looked up by address through an open addressing table of slot numbers which compares the public keys in
+ * place, so a key costs {@link #SLOT_SIZE} bytes off heap and 12 to 20 bytes of heap, with no per key objects.
+ * Signing copies the seed into a per thread buffer which is zeroed again right after the signature is computed,
+ * no PrivateKey or Account object is ever created. Removing a key, or closing the vault, zeroes its slot.
+ *
+ * Signing always uses the raw arithmetic of {@link Ed25519Engine}. All methods are thread safe.
+ */
+public class KeyVault implements Closeable {
+    /**
+     * Off heap bytes used by each key: the 32 byte seed followed by the 32 byte public key.
+     */
+    public static final int SLOT_SIZE = Ed25519Engine.SEED_LENGTH + Ed25519Engine.PUBLIC_KEY_LENGTH;
+
+    private static final byte[] BYTES_SIGN_PREFIX = ("MX").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TX_SIGN_PREFIX = ("TX").getBytes(StandardCharsets.UTF_8);
+
+    private static final ThreadLocal<byte[]> KEY_SCRATCH = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[SLOT_SIZE];
+        }
+    };
+
+    private static final ThreadLocal<MsgPackWriter> SCRATCH = new ThreadLocal<MsgPackWriter>() {
+        @Override
+        protected MsgPackWriter initialValue() {
+            return new MsgPackWriter();
+        }
+    };
+
+    private final ByteBuffer slots;
+    private final int capacity;
+    // linear probing table of slot + 1 by public key, 0 marks an empty entry
+    private final int[] table;
+    private final int mask;
+    private int size;
+    private final int[] free;
+    private int freeCount;
+    private boolean closed;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * @param capacity maximum number of keys
+     */
+    public KeyVault(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slots = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+        // at least twice the capacity, so a full vault still leaves empty entries to end every probe.
+        int tableSize = Integer.highestOneBit(2 * capacity - 1) << 1;
+        this.table = new int[tableSize];
+        this.mask = tableSize - 1;
+        this.free = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            this.free[i] = capacity - 1 - i;
+        }
+        this.freeCount = capacity;
+    }
+
+    /**
+     * Store a key. The seed array is not retained, callers should zero it once the key is stored.
+     * @param seed 32 byte rfc8032 private key
+     * @return address of the key
+     * @throws IllegalStateException if the vault is full or closed
+     */
+    public Address add(byte[] seed) {
+        byte[] publicKey = Ed25519Engine.publicKey(seed);
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            if (find(publicKey) < 0) {
+                if (freeCount == 0) {
+                    throw new IllegalStateException("key vault is full");
+                }
+                int slot = free[--freeCount];
+                int pos = slot * SLOT_SIZE;
+                for (int i = 0; i < Ed25519Engine.SEED_LENGTH; i++) {
+                    slots.put(pos + i, seed[i]);
+                }
+                for (int i = 0; i < Ed25519Engine.PUBLIC_KEY_LENGTH; i++) {
+                    slots.put(pos + Ed25519Engine.SEED_LENGTH + i, publicKey[i]);
+                }
+                insert(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new Address(publicKey);
+    }
+
+    /**
+     * Store the key of a 25 word mnemonic.
+     * @return address of the key
+     * @throws GeneralSecurityException if the mnemonic checksum is invalid
+     */
+    public Address addMnemonic(String mnemonic) throws GeneralSecurityException {
+        byte[] seed = Mnemonic.toKey(mnemonic);
+        try {
+            return add(seed);
+        } finally {
+            Arrays.fill(seed, (byte) 0);
+        }
+    }
+
+    /**
+     * Generate and store a new random key.
+     * @return address of the key
+     */
+    public Address generate() {
+        byte[] seed = new byte[Ed25519Engine.SEED_LENGTH];
+        try {
+            random.nextBytes(seed);
+            return add(seed);
+        } finally {
+            Arrays.fill(seed, (byte) 0);
+        }
+    }
+
+    /**
+     * Remove a key and zero its slot.
+     * @return true if the key was stored
+     */
+    public boolean remove(Address address) {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            int pos = find(address.getBytes());
+            if (pos < 0) {
+                return false;
+            }
+            int slot = table[pos] - 1;
+            delete(pos);
+            zero(slot);
+            free[freeCount++] = slot;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true if the vault holds the key of address
+     */
+    public boolean contains(Address address) {
+        lock.readLock().lock();
+        try {
+            return !closed && find(address.getBytes()) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of stored keys
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return maximum number of keys
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Sign part of an array as is, see {@link Account#sign(byte[], int, int)}.
+     * @throws IllegalArgumentException if the vault does not hold the key of address
+     */
+    public Signature sign(Address address, byte[] buf, int off, int len) {
+        byte[] sig = new byte[Ed25519Engine.SIGNATURE_LENGTH];
+        sign(address, null, buf, off, len, sig);
+        return new Signature(sig);
+    }
+
+    /**
+     * Sign bytes with the "MX" prefix, see {@link Account#signBytes(byte[])}.
+     * @throws IllegalArgumentException if the vault does not hold the key of address
+     */
+    public Signature signBytes(Address address, byte[] bytes) {
+        byte[] sig = new byte[Ed25519Engine.SIGNATURE_LENGTH];
+        sign(address, BYTES_SIGN_PREFIX, bytes, 0, bytes.length, sig);
+        return new Signature(sig);
+    }
+
+    /**
+     * Sign a transaction, see {@link Account#signTransaction(Transaction)}.
+     * @param address key to sign with
+     * @throws IllegalArgumentException if the vault does not hold the key of address
+     */
+    public SignedTransaction signTransaction(Address address, Transaction tx) {
+        MsgPackWriter out = SCRATCH.get();
+        out.reset();
+        out.writeRaw(TX_SIGN_PREFIX);
+        CanonicalEncoder.writeTransaction(out, tx);
+        byte[] sig = new byte[Ed25519Engine.SIGNATURE_LENGTH];
+        sign(address, null, out.buffer(), out.offset(), out.length(), sig);
+        String txID = Encoder.encodeToBase32StripPad(Digester.digest(out.buffer(), out.offset(), out.length()));
+        return new SignedTransaction(tx, new Signature(sig), txID);
+    }
+
+    /**
+     * Zero all slots and drop all keys. The vault can not be used afterwards.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            for (int i = 0; i < capacity * SLOT_SIZE; i++) {
+                slots.put(i, (byte) 0);
+            }
+            Arrays.fill(table, 0);
+            size = 0;
+            freeCount = 0;
+            closed = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void sign(Address address, byte[] prefix, byte[] buf, int off, int len, byte[] sigOut) {
+        byte[] key = KEY_SCRATCH.get();
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            int entry = find(address.getBytes());
+            if (entry < 0) {
+                throw new IllegalArgumentException("key vault does not hold the key of " + address);
+            }
+            int pos = (table[entry] - 1) * SLOT_SIZE;
+            for (int i = 0; i < SLOT_SIZE; i++) {
+                key[i] = slots.get(pos + i);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        try {
+            Ed25519Engine.sign(key, 0, key, Ed25519Engine.SEED_LENGTH, prefix, buf, off, len, sigOut, 0);
+        } finally {
+            Arrays.fill(key, (byte) 0);
+        }
+    }
+
+    // public keys are uniformly distributed, their first bytes make a good hash.
+    private static int hash(int firstBytes) {
+        return firstBytes ^ (firstBytes >>> 16);
+    }
+
+    private int hashOfSlot(int slot) {
+        return hash(slots.getInt(slot * SLOT_SIZE + Ed25519Engine.SEED_LENGTH));
+    }
+
+    // table position holding publicKey, -1 if it is not stored. Callers hold the lock.
+    private int find(byte[] publicKey) {
+        int first = ((publicKey[0] & 0xff) << 24) | ((publicKey[1] & 0xff) << 16)
+                | ((publicKey[2] & 0xff) << 8) | (publicKey[3] & 0xff);
+        int pos = hash(first) & mask;
+        while (table[pos] != 0) {
+            int keyPos = (table[pos] - 1) * SLOT_SIZE + Ed25519Engine.SEED_LENGTH;
+            boolean equal = true;
+            for (int i = 0; i < Ed25519Engine.PUBLIC_KEY_LENGTH && equal; i++) {
+                equal = slots.get(keyPos + i) == publicKey[i];
+            }
+            if (equal) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(int slot) {
+        int pos = hashOfSlot(slot) & mask;
+        while (table[pos] != 0) {
+            pos = (pos + 1) & mask;
+        }
+        table[pos] = slot + 1;
+        size++;
+    }
+
+    // remove the entry at pos, shifting back entries of the same probe sequence.
+    private void delete(int pos) {
+        table[pos] = 0;
+        size--;
+        int hole = pos;
+        int next = pos;
+        while (true) {
+            next = (next + 1) & mask;
+            if (table[next] == 0) {
+                return;
+            }
+            int home = hashOfSlot(table[next] - 1) & mask;
+            // the entry may move into the hole unless its home lies cyclically in (hole, next].
+            boolean stays = hole <= next ? (home > hole && home <= next) : (home > hole || home <= next);
+            if (!stays) {
+                table[hole] = table[next];
+                table[next] = 0;
+                hole = next;
+            }
+        }
+    }
+
+    private void zero(int slot) {
+        int pos = slot * SLOT_SIZE;
+        for (int i = 0; i < SLOT_SIZE; i++) {
+            slots.put(pos + i, (byte) 0);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("key vault is closed");
+        }
+    }
+}
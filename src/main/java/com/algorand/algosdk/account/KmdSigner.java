@@ -0,0 +1,62 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.kmd.client.api.KmdApi;
+import com.algorand.algosdk.kmd.client.model.SignTransactionRequest;
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+import com.algorand.algosdk.util.Encoder;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Signs with the keys of a kmd wallet. kmd signs one transaction per request, the requests of a call are sent one
+ * after the other on the executor so the caller is never blocked.
+ */
+public class KmdSigner implements Signer {
+    private final KmdApi kmd;
+    private final String walletHandleToken;
+    private final String walletPassword;
+    private final ListeningExecutorService executor;
+
+    /**
+     * @param kmd kmd client
+     * @param walletHandleToken handle of an unlocked wallet
+     * @param walletPassword wallet password
+     * @param executor executor sending the requests
+     */
+    public KmdSigner(KmdApi kmd, String walletHandleToken, String walletPassword, ExecutorService executor) {
+        if (kmd == null || executor == null) {
+            throw new IllegalArgumentException("kmd and executor must not be null");
+        }
+        this.kmd = kmd;
+        this.walletHandleToken = walletHandleToken;
+        this.walletPassword = walletPassword;
+        this.executor = MoreExecutors.listeningDecorator(executor);
+    }
+
+    @Override
+    public ListenableFuture<List<SignedTransaction>> signAsync(List<Transaction> txns) {
+        final List<Transaction> copy = new ArrayList<>(txns);
+        return executor.submit(new Callable<List<SignedTransaction>>() {
+            @Override
+            public List<SignedTransaction> call() throws Exception {
+                List<SignedTransaction> signed = new ArrayList<>(copy.size());
+                for (Transaction tx : copy) {
+                    SignTransactionRequest req = new SignTransactionRequest()
+                            .transaction(Encoder.encodeToMsgPack(tx))
+                            .walletHandleToken(walletHandleToken)
+                            .walletPassword(walletPassword);
+                    byte[] stx = kmd.signTransaction(req).getSignedTransaction();
+                    signed.add(Encoder.decodeFromMsgPack(stx, SignedTransaction.class));
+                }
+                return signed;
+            }
+        });
+    }
+}
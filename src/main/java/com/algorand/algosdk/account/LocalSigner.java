@@ -0,0 +1,79 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for a remote signer, e.g. in tests. Holds a set of accounts and signs each transaction with
+ * the account of its sender, on an executor. Every call counts as one round trip, see {@link #getRequestCount()}.
+ */
+public class LocalSigner implements Signer {
+    private final ListeningExecutorService executor;
+    private final Map<String, Account> accounts = new HashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong transactions = new AtomicLong();
+
+    /**
+     * @param executor executor signing the requests
+     * @param accounts accounts able to sign
+     */
+    public LocalSigner(ExecutorService executor, Account... accounts) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        this.executor = MoreExecutors.listeningDecorator(executor);
+        for (Account account : accounts) {
+            this.accounts.put(account.getAddress().toString(), account);
+        }
+    }
+
+    /**
+     * Sign each transaction with the account of its sender. The future fails with an IllegalArgumentException if
+     * a sender is unknown.
+     */
+    @Override
+    public ListenableFuture<List<SignedTransaction>> signAsync(List<Transaction> txns) {
+        final List<Transaction> copy = new ArrayList<>(txns);
+        requests.incrementAndGet();
+        transactions.addAndGet(copy.size());
+        return executor.submit(new Callable<List<SignedTransaction>>() {
+            @Override
+            public List<SignedTransaction> call() throws Exception {
+                List<SignedTransaction> signed = new ArrayList<>(copy.size());
+                for (Transaction tx : copy) {
+                    Account account = accounts.get(tx.sender.toString());
+                    if (account == null) {
+                        throw new IllegalArgumentException("no account for sender " + tx.sender);
+                    }
+                    signed.add(account.signTransaction(tx));
+                }
+                return signed;
+            }
+        });
+    }
+
+    /**
+     * @return number of signAsync calls so far
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * @return number of transactions received so far
+     */
+    public long getTransactionCount() {
+        return transactions.get();
+    }
+}
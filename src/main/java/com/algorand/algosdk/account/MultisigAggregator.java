@@ -0,0 +1,222 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.crypto.Ed25519PublicKey;
+import com.algorand.algosdk.crypto.MultisigAddress;
+import com.algorand.algosdk.crypto.MultisigSignature;
+import com.algorand.algosdk.crypto.MultisigSignature.MultisigSubsig;
+import com.algorand.algosdk.crypto.Signature;
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe collector of partial multisig signatures.
+ *
+ * Pending transactions are keyed by transaction ID. Each arriving subsig is merged into its pending transaction
+ * through a public key to index lookup, and the fully signed transaction is returned to the caller whose signature
+ * reaches the threshold. Completed transactions stay registered, so late signatures are ignored, until they are
+ * evicted with {@link #evictExpired(BigInteger)} once their last valid round has passed.
+ *
+ * Signatures are not verified when merged, completed transactions can be checked with
+ * {@link com.algorand.algosdk.transaction.BatchVerifier}.
+ */
+public class MultisigAggregator {
+    private static final Signature EMPTY_SIGNATURE = new Signature();
+
+    private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Merge the signatures of a (partially) signed multisig transaction.
+     * @param partial multisig transaction carrying one or more subsig signatures
+     * @return the completed transaction if this call reached the threshold, null otherwise
+     * @throws NoSuchAlgorithmException if the transaction ID could not be computed
+     * @throws IllegalArgumentException if the multisig does not match the sender or the pending transaction,
+     * or a different signature was already merged for the same key
+     */
+    public SignedTransaction add(SignedTransaction partial) throws NoSuchAlgorithmException {
+        MultisigSignature msig = partial.mSig;
+        if (msig == null || msig.subsigs == null || msig.subsigs.isEmpty()) {
+            throw new IllegalArgumentException("transaction has no multisig");
+        }
+        List<Ed25519PublicKey> keys = new ArrayList<>(msig.subsigs.size());
+        for (MultisigSubsig subsig : msig.subsigs) {
+            keys.add(subsig.key);
+        }
+        Pending entry = pendingFor(partial.tx, partial.transactionID, new MultisigAddress(msig.version, msig.threshold, keys));
+        synchronized (entry) {
+            // reject a conflicting signature before merging any, so a completed transaction is never lost.
+            for (int i = 0; i < msig.subsigs.size(); i++) {
+                Signature sig = msig.subsigs.get(i).sig;
+                if (sig != null && !EMPTY_SIGNATURE.equals(sig)) {
+                    entry.checkMergeable(i, sig);
+                }
+            }
+            SignedTransaction completed = null;
+            for (int i = 0; i < msig.subsigs.size(); i++) {
+                Signature sig = msig.subsigs.get(i).sig;
+                if (sig != null && !EMPTY_SIGNATURE.equals(sig)) {
+                    SignedTransaction result = entry.merge(i, sig);
+                    if (result != null) {
+                        completed = result;
+                    }
+                }
+            }
+            return completed;
+        }
+    }
+
+    /**
+     * Merge a single subsig signature.
+     * @param tx the multisig transaction
+     * @param from the multisig account sending the transaction
+     * @param key public key of the signer
+     * @param sig signature of the transaction by key
+     * @return the completed transaction if this call reached the threshold, null otherwise
+     * @throws NoSuchAlgorithmException if the transaction ID could not be computed
+     * @throws IllegalArgumentException if the key is not part of the multisig account, the account does not match
+     * the sender or the pending transaction, or a different signature was already merged for the key
+     */
+    public SignedTransaction add(Transaction tx, MultisigAddress from, Ed25519PublicKey key, Signature sig)
+            throws NoSuchAlgorithmException {
+        Pending entry = pendingFor(tx, null, from);
+        Integer index = entry.indexes.get(ByteBuffer.wrap(key.getBytes()));
+        if (index == null) {
+            throw new IllegalArgumentException("Multisig account does not contain this public key");
+        }
+        synchronized (entry) {
+            return entry.merge(index, sig);
+        }
+    }
+
+    /**
+     * Remove transactions which can no longer be committed. Transactions without a last valid round are kept,
+     * they can be dropped with {@link #remove(String)}.
+     * @param round current round, transactions with a last valid round before it are removed
+     * @return number of removed transactions
+     */
+    public int evictExpired(BigInteger round) {
+        int evicted = 0;
+        Iterator<Pending> it = pending.values().iterator();
+        while (it.hasNext()) {
+            BigInteger lastValid = it.next().tx.lastValid;
+            if (lastValid != null && lastValid.compareTo(round) < 0) {
+                it.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Stop tracking a transaction.
+     * @param txID transaction ID
+     * @return true if the transaction was tracked
+     */
+    public boolean remove(String txID) {
+        return pending.remove(txID) != null;
+    }
+
+    /**
+     * @param txID transaction ID
+     * @return number of distinct signatures merged for the transaction, 0 if it is not tracked
+     */
+    public int signatureCount(String txID) {
+        Pending entry = pending.get(txID);
+        if (entry == null) {
+            return 0;
+        }
+        synchronized (entry) {
+            return entry.count;
+        }
+    }
+
+    /**
+     * @return number of tracked transactions, pending or completed
+     */
+    public int size() {
+        return pending.size();
+    }
+
+    private Pending pendingFor(Transaction tx, String txID, MultisigAddress from) throws NoSuchAlgorithmException {
+        if (txID == null || txID.isEmpty()) {
+            try {
+                txID = tx.txID();
+            } catch (IOException e) {
+                throw new RuntimeException("unexpected behavior", e);
+            }
+        }
+        Pending entry = pending.get(txID);
+        if (entry == null) {
+            if (!tx.sender.equals(from.toAddress())) {
+                throw new IllegalArgumentException("Transaction sender does not match multisig account");
+            }
+            Pending created = new Pending(tx, txID, from);
+            entry = pending.putIfAbsent(txID, created);
+            if (entry == null) {
+                return created;
+            }
+        }
+        if (!entry.from.equals(from)) {
+            throw new IllegalArgumentException("transaction msig parameters do not match");
+        }
+        return entry;
+    }
+
+    private static final class Pending {
+        final Transaction tx;
+        final String txID;
+        final MultisigAddress from;
+        final Map<ByteBuffer, Integer> indexes;
+        final Signature[] sigs;
+        int count;
+        boolean completed;
+
+        Pending(Transaction tx, String txID, MultisigAddress from) {
+            this.tx = tx;
+            this.txID = txID;
+            this.from = from;
+            this.indexes = new HashMap<>();
+            for (int i = 0; i < from.publicKeys.size(); i++) {
+                this.indexes.put(ByteBuffer.wrap(from.publicKeys.get(i).getBytes()), i);
+            }
+            this.sigs = new Signature[from.publicKeys.size()];
+        }
+
+        // Callers hold the lock of this entry.
+        void checkMergeable(int index, Signature sig) {
+            if (sigs[index] != null && !sigs[index].equals(sig)) {
+                throw new IllegalArgumentException("transaction msig has mismatched signatures");
+            }
+        }
+
+        // Callers hold the lock of this entry.
+        SignedTransaction merge(int index, Signature sig) {
+            checkMergeable(index, sig);
+            if (sigs[index] != null) {
+                return null;
+            }
+            sigs[index] = sig;
+            count++;
+            if (completed || count < from.threshold) {
+                return null;
+            }
+            completed = true;
+            MultisigSignature msig = new MultisigSignature(from.version, from.threshold);
+            for (int i = 0; i < sigs.length; i++) {
+                Ed25519PublicKey key = from.publicKeys.get(i);
+                msig.subsigs.add(sigs[i] == null ? new MultisigSubsig(key) : new MultisigSubsig(key, sigs[i]));
+            }
+            return new SignedTransaction(tx, msig, txID);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.util.List;
+
+/**
+ * Something able to sign transactions: an in-process {@link Account}, a kmd wallet ({@link KmdSigner}), or an
+ * external service such as an HSM or a remote signer.
+ *
+ * Implementations may complete the returned future on any thread and must be safe to call from several threads
+ * at once. Round trips to remote signers can be amortized by wrapping them in a {@link BatchingSigner}.
+ */
+public interface Signer {
+    /**
+     * Sign transactions.
+     * @param txns transactions to sign
+     * @return a future completing with the signed transactions in input order, or failing if any could not be
+     * signed
+     */
+    ListenableFuture<List<SignedTransaction>> signAsync(List<Transaction> txns);
+}
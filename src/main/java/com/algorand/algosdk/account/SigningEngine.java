@@ -0,0 +1,106 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.crypto.Ed25519Engine;
+import com.algorand.algosdk.util.CryptoProvider;
+
+import java.security.InvalidKeyException;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.SignatureException;
+
+/**
+ * Ed25519 signing with a single private key, safe to use from any number of threads.
+ *
+ * With the {@link Ed25519Engine.Backend#RAW} backend the raw seed is signed with directly. With the JCA backend
+ * each thread keeps its own Signature object, initialized with the key once. The provider lookup and key
+ * initialization are paid the first time a thread signs with this key instead of on every signature.
+ * Signature.sign() returns the object to its initialized state, so it is reused as is.
+ */
+final class SigningEngine {
+    static final int SIGNATURE_LEN = 64;
+
+    private final String algorithm;
+    private final String keyAlgorithm;
+    private final byte[] seed;
+    private final byte[] publicKey;
+    private final ThreadLocal<Signature> signers = new ThreadLocal<>();
+    // JCA private key, only created once the JCA backend is used.
+    private volatile PrivateKey key;
+
+    /**
+     * @param algorithm JCA signature algorithm
+     * @param keyAlgorithm JCA key pair generator algorithm
+     * @param seed raw 32 byte seed
+     * @param publicKey raw 32 byte public key
+     */
+    SigningEngine(String algorithm, String keyAlgorithm, byte[] seed, byte[] publicKey) {
+        this.algorithm = algorithm;
+        this.keyAlgorithm = keyAlgorithm;
+        this.seed = seed;
+        this.publicKey = publicKey;
+    }
+
+    /**
+     * Sign part of an array.
+     * @return the 64 byte signature
+     */
+    byte[] sign(byte[] buf, int off, int len) throws NoSuchAlgorithmException {
+        byte[] sig = new byte[SIGNATURE_LEN];
+        sign(null, buf, off, len, sig, 0);
+        return sig;
+    }
+
+    /**
+     * Sign a prefix followed by part of an array, without joining them, writing the signature into sigOut.
+     * @param prefix domain separation prefix, may be null
+     */
+    void sign(byte[] prefix, byte[] buf, int off, int len, byte[] sigOut, int sigOff) throws NoSuchAlgorithmException {
+        if (Ed25519Engine.getBackend() == Ed25519Engine.Backend.RAW) {
+            Ed25519Engine.sign(seed, 0, publicKey, 0, prefix, buf, off, len, sigOut, sigOff);
+            return;
+        }
+        Signature signer = signer();
+        try {
+            if (prefix != null) {
+                signer.update(prefix);
+            }
+            signer.update(buf, off, len);
+            if (signer.sign(sigOut, sigOff, SIGNATURE_LEN) != SIGNATURE_LEN) {
+                throw new RuntimeException("unexpected signature length");
+            }
+        } catch (SignatureException e) {
+            // drop the signer, its state is unknown.
+            signers.remove();
+            throw new RuntimeException("unexpected behavior", e);
+        }
+    }
+
+    private Signature signer() throws NoSuchAlgorithmException {
+        Signature signer = signers.get();
+        if (signer == null) {
+            CryptoProvider.setupIfNeeded();
+            signer = Signature.getInstance(algorithm);
+            try {
+                signer.initSign(privateKey());
+            } catch (InvalidKeyException e) {
+                throw new RuntimeException("unexpected behavior", e);
+            }
+            signers.set(signer);
+        }
+        return signer;
+    }
+
+    private PrivateKey privateKey() throws NoSuchAlgorithmException {
+        PrivateKey k = key;
+        if (k == null) {
+            // Ed25519 key pair generators take the seed as private key straight up.
+            KeyPairGenerator gen = KeyPairGenerator.getInstance(keyAlgorithm);
+            gen.initialize(Account.SK_SIZE_BITS, new Account.FixedSecureRandom(seed));
+            k = gen.generateKeyPair().getPrivate();
+            key = k;
+        }
+        return k;
+    }
+}
@@ -1,13 +1,11 @@
 package com.algorand.algosdk.crypto;
 
-import com.algorand.algosdk.util.CryptoProvider;
 import com.algorand.algosdk.util.Digester;
 import com.algorand.algosdk.util.Encoder;
-import java.security.KeyFactory;
+import com.algorand.algosdk.util.TextCodec;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonValue;
-import org.apache.commons.codec.binary.Base32;
 
 import java.io.Serializable;
 import java.security.NoSuchAlgorithmException;
@@ -16,17 +14,14 @@ import java.util.Arrays;
 import java.util.Objects;
 import java.security.*;
 import java.nio.charset.StandardCharsets;
-import java.security.spec.X509EncodedKeySpec;
-import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
-import org.bouncycastle.asn1.edec.EdECObjectIdentifiers;
-import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
-import java.io.IOException;
 
 /**
  * Address represents a serializable 32-byte length Algorand address.
  */
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
-public class Address implements Serializable {
+public class Address implements Serializable, Comparable<Address> {
+    private static final long serialVersionUID = 6667453880927147912L;
+
     /**
      * The length of an address. Equal to the size of a SHA256 checksum.
      */
@@ -38,11 +33,10 @@ public class Address implements Serializable {
     private static final int CHECKSUM_LEN_BYTES = 4;
     // expected length of base32-encoded checksum-appended addresses
     private static final int EXPECTED_STR_ENCODED_LEN = 58;
-    // signature algorithm for verifying signature
-    private static final String SIGN_ALGO = "EdDSA";
-    private static final String KEY_ALGO = "Ed25519";
     // prefix for signing bytes
     private static final byte[] BYTES_SIGN_PREFIX = ("MX").getBytes(StandardCharsets.UTF_8);
+    // the encoded form, computed on first use. Racy but idempotent, like String.hashCode.
+    private transient String encoded;
 
 
     /**
@@ -73,15 +67,46 @@ public class Address implements Serializable {
         return Arrays.copyOf(bytes, bytes.length);
     }
 
+    // the underlying array, for lookups within this package. Must not be modified.
+    byte[] bytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Copy the underlying bytes into dst, without allocating.
+     * @param dst destination array
+     * @param off offset in dst
+     * @throws IndexOutOfBoundsException if dst does not have room for {@link #LEN_BYTES} bytes at off
+     */
+    public void writeTo(byte[] dst, int off) {
+        FixedBytes.writeTo(this.bytes, dst, off);
+    }
+
+    /**
+     * @param i index, 0 to {@link #LEN_BYTES} - 1
+     * @return byte i of the address
+     */
+    public byte byteAt(int i) {
+        return this.bytes[i];
+    }
+
     /**
      * Create a new address from an encoded string, (encoded by encodeAsString)
      * @param encodedAddr
      */
     public Address(final String encodedAddr) throws NoSuchAlgorithmException {
         Objects.requireNonNull(encodedAddr, "address must not be null");
+        // canonical 58 character addresses take the allocation free path.
+        int status = AddressParser.decode(encodedAddr, 0, encodedAddr.length(), this.bytes, 0);
+        if (status == AddressParser.OK) {
+            return;
+        }
+        if (status == AddressParser.ParseError.CHECKSUM.ordinal()) {
+            throw new IllegalArgumentException("Input checksum did not validate");
+        }
+        // otherwise decode leniently, as before.
         // interpret as base32
-        Base32 codec = new Base32();
-        final byte[] checksumAddr = codec.decode(encodedAddr); // may expect padding
+        final byte[] checksumAddr = TextCodec.decodeBase32(encodedAddr); // may expect padding
         // sanity check length
         if (checksumAddr.length != LEN_BYTES + CHECKSUM_LEN_BYTES) {
             throw new IllegalArgumentException("Input string is an invalid address. Wrong length");
@@ -91,7 +116,7 @@ public class Address implements Serializable {
         final byte[] addr = Arrays.copyOf(checksumAddr, LEN_BYTES); // truncates
 
         // compute expected checksum
-        final byte[] hashedAddr = Digester.digest(Arrays.copyOf(addr, LEN_BYTES));
+        final byte[] hashedAddr = Digester.digest(addr);
         final byte[] expectedChecksum = Arrays.copyOfRange(hashedAddr, LEN_BYTES - CHECKSUM_LEN_BYTES, hashedAddr.length);
 
         // compare
@@ -105,12 +130,21 @@ public class Address implements Serializable {
     /**
      * encodeAsString converts the address to a human-readable representation, with
      * a 4-byte checksum appended at the end, using SHA256. Note that string representations
-     * of addresses generated by different SDKs may not be compatible.
+     * of addresses generated by different SDKs may not be compatible. The result is cached.
      * @return
      */
     public String encodeAsString() throws NoSuchAlgorithmException {
+        String res = this.encoded;
+        if (res == null) {
+            res = encode();
+            this.encoded = res;
+        }
+        return res;
+    }
+
+    private String encode() throws NoSuchAlgorithmException {
         // compute sha512/256 checksum
-        final byte[] hashedAddr = Digester.digest(Arrays.copyOf(bytes, LEN_BYTES));
+        final byte[] hashedAddr = Digester.digest(bytes);
 
         // take the last 4 bytes, and append to addr
         final byte[] checksum = Arrays.copyOfRange(hashedAddr, LEN_BYTES - CHECKSUM_LEN_BYTES, hashedAddr.length);
@@ -132,44 +166,19 @@ public class Address implements Serializable {
      * @return boolean; true if the signature is valid
      */
     public boolean verifyBytes(byte[] message, Signature signature) throws NoSuchAlgorithmException, InvalidKeySpecException, InvalidKeyException, SignatureException {
-        PublicKey pk = this.toVerifyKey();
-
-        // prepend the message prefix
-        byte[] prefixBytes = new byte[message.length + BYTES_SIGN_PREFIX.length];
-        System.arraycopy(BYTES_SIGN_PREFIX, 0, prefixBytes, 0, BYTES_SIGN_PREFIX.length);
-        System.arraycopy(message, 0, prefixBytes, BYTES_SIGN_PREFIX.length, message.length);
-
-        // verify signature
-        java.security.Signature sig = java.security.Signature.getInstance(SIGN_ALGO);
-        sig.initVerify(pk);
-        sig.update(prefixBytes);
-        return sig.verify(signature.getBytes());
+        return Ed25519Engine.verify(this.bytes, 0, BYTES_SIGN_PREFIX, message, 0, message.length, signature.getBytes(), 0);
     }
 
     /**
      * toVerifyKey returns address' public key in a form suitable for
-     * java.security.Signature.initVerify
+     * java.security.Signature.initVerify. Decoded keys are shared through {@link VerifyKeyCache}.
      *
      * @return PublicKey
      * @throws InvalidKeySpecException
      * @throws NoSuchAlgorithmException
      */
     public PublicKey toVerifyKey() throws InvalidKeySpecException, NoSuchAlgorithmException {
-        CryptoProvider.setupIfNeeded();
-        X509EncodedKeySpec pkS;
-        try {
-            // Wrap the public key in ASN.1 format.
-            SubjectPublicKeyInfo publicKeyInfo = new SubjectPublicKeyInfo(new AlgorithmIdentifier(EdECObjectIdentifiers.id_Ed25519), this.bytes);
-            pkS = new X509EncodedKeySpec(publicKeyInfo.getEncoded());
-        } catch (IOException e) {
-            throw new RuntimeException("could not parse raw key bytes", e);
-        }
-
-        // create public key
-        KeyFactory kf = KeyFactory.getInstance(KEY_ALGO);
-        PublicKey pk = kf.generatePublic(pkS);
-
-        return pk;
+        return VerifyKeyCache.get(this.bytes);
     }
 
     @Override
@@ -190,6 +199,20 @@ public class Address implements Serializable {
             return false;
         }
     }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.bytes);
+    }
+
+    /**
+     * Order addresses by their bytes, as unsigned big-endian numbers.
+     */
+    @Override
+    public int compareTo(Address other) {
+        return FixedBytes.compare(this.bytes, other.bytes);
+    }
+
     
     // Compare to an address, with default address considered as empty string
     public boolean compareTo(String address) {
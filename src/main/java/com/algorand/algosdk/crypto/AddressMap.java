@@ -0,0 +1,149 @@
+package com.algorand.algosdk.crypto;
+
+/**
+ * Map from addresses to primitive longs, e.g. balances or counters, for tracking millions of accounts.
+ *
+ * Keys are stored as raw bytes, four longs per address in an open addressing table, with the value in a fifth
+ * long: an entry costs 40 bytes per slot, and there are no per entry objects, no boxed values and no encoded
+ * strings. With {@link #offHeap(int)} the slots live in a direct buffer and only an occupancy bitmap of one bit
+ * per slot stays on the heap.
+ *
+ * Lookups take either an {@link Address} or a 32 byte range of an array, e.g. the sender field of an encoded
+ * transaction, and never allocate. This class is not thread safe.
+ */
+public class AddressMap extends AddressTable {
+    private static final int STRIDE = KEY_LONGS + 1;
+
+    /**
+     * Receives the entries of a map.
+     */
+    public interface EntryVisitor {
+        void visit(Address address, long value);
+    }
+
+    public AddressMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize number of entries the map can hold without growing
+     */
+    public AddressMap(int expectedSize) {
+        this(expectedSize, false);
+    }
+
+    private AddressMap(int expectedSize, boolean offHeap) {
+        super(STRIDE, expectedSize, offHeap);
+    }
+
+    /**
+     * Create a map storing its entries outside of the Java heap.
+     * @param expectedSize number of entries the map can hold without growing
+     */
+    public static AddressMap offHeap(int expectedSize) {
+        return new AddressMap(expectedSize, true);
+    }
+
+    public boolean containsKey(Address address) {
+        return find(address.bytes(), 0) >= 0;
+    }
+
+    /**
+     * @param buf array holding a 32 byte address at off
+     */
+    public boolean containsKey(byte[] buf, int off) {
+        return find(buf, off) >= 0;
+    }
+
+    /**
+     * @return the value of address, or defaultValue if it has none
+     */
+    public long get(Address address, long defaultValue) {
+        return get(address.bytes(), 0, defaultValue);
+    }
+
+    /**
+     * @param buf array holding a 32 byte address at off
+     * @return the value of the address, or defaultValue if it has none
+     */
+    public long get(byte[] buf, int off, long defaultValue) {
+        int pos = find(buf, off);
+        return pos < 0 ? defaultValue : slots.get(pos * STRIDE + KEY_LONGS);
+    }
+
+    /**
+     * Set the value of address.
+     * @return true if address was not in the map
+     */
+    public boolean put(Address address, long value) {
+        return put(address.bytes(), 0, value);
+    }
+
+    /**
+     * Set the value of the address at buf[off].
+     * @return true if the address was not in the map
+     */
+    public boolean put(byte[] buf, int off, long value) {
+        int pos = insert(buf, off);
+        boolean added = pos < 0;
+        if (added) {
+            pos = ~pos;
+        }
+        slots.put(pos * STRIDE + KEY_LONGS, value);
+        return added;
+    }
+
+    /**
+     * Add delta to the value of address, which starts at 0 if address is not in the map.
+     * @return the new value
+     */
+    public long addTo(Address address, long delta) {
+        return addTo(address.bytes(), 0, delta);
+    }
+
+    /**
+     * Add delta to the value of the address at buf[off], which starts at 0 if the address is not in the map.
+     * @return the new value
+     */
+    public long addTo(byte[] buf, int off, long delta) {
+        int pos = insert(buf, off);
+        if (pos < 0) {
+            pos = ~pos;
+        }
+        int index = pos * STRIDE + KEY_LONGS;
+        long value = slots.get(index) + delta;
+        slots.put(index, value);
+        return value;
+    }
+
+    /**
+     * @return true if address was in the map
+     */
+    public boolean remove(Address address) {
+        return remove(address.bytes(), 0);
+    }
+
+    /**
+     * @param buf array holding a 32 byte address at off
+     * @return true if the address was in the map
+     */
+    public boolean remove(byte[] buf, int off) {
+        int pos = find(buf, off);
+        if (pos < 0) {
+            return false;
+        }
+        delete(pos);
+        return true;
+    }
+
+    /**
+     * Visit all entries, in no particular order. The map must not be modified while visiting.
+     */
+    public void forEach(EntryVisitor visitor) {
+        for (int pos = 0; pos < capacity(); pos++) {
+            if (isUsed(pos)) {
+                visitor.visit(keyAt(pos), slots.get(pos * STRIDE + KEY_LONGS));
+            }
+        }
+    }
+}
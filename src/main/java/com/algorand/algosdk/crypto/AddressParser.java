@@ -0,0 +1,341 @@
+package com.algorand.algosdk.crypto;
+
+import com.algorand.algosdk.util.ChunkedTasks;
+import com.algorand.algosdk.util.Digester;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Decodes and checksum validates many Base32 addresses at once, spreading the work across an executor.
+ *
+ * Addresses are decoded into one flat array of 32 byte keys, with a validity bitmap and the positions and causes
+ * of invalid entries; no Address or intermediate array is created per entry. Inputs are split into chunks, each
+ * decoded by one task into its own range of the output, so tasks share no state. Inputs no larger than one chunk
+ * are decoded on the calling thread.
+ *
+ * Parsing is stricter than {@link Address#Address(String)}: apart from surrounding whitespace an entry must be
+ * exactly 58 Base32 characters, of either case.
+ */
+public class AddressParser {
+    /**
+     * Default number of addresses decoded by a single task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    /**
+     * Why an entry is invalid.
+     */
+    public enum ParseError {
+        /**
+         * Not 58 Base32 characters.
+         */
+        MALFORMED,
+        /**
+         * Well formed, but the checksum does not match the key.
+         */
+        CHECKSUM
+    }
+
+    static final int OK = -1;
+
+    private static final int ENCODED_LEN = 58;
+    private static final int CHECKSUM_LEN = 4;
+    private static final int DECODED_LEN = Address.LEN_BYTES + CHECKSUM_LEN;
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = (byte) i;
+            DECODE_TABLE[Character.toLowerCase(alphabet.charAt(i))] = (byte) i;
+        }
+    }
+
+    // decoded key and checksum, followed by the digest of the key.
+    private static final ThreadLocal<byte[]> SCRATCH = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[DECODED_LEN + Digester.DIGEST_LEN];
+        }
+    };
+
+    private final ExecutorService executor;
+    private final int chunkSize;
+
+    /**
+     * @param executor executor running the decoding tasks
+     */
+    public AddressParser(ExecutorService executor) {
+        this(executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param executor executor running the decoding tasks
+     * @param chunkSize number of addresses decoded by a single task, a multiple of 64
+     */
+    public AddressParser(ExecutorService executor, int chunkSize) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        if (chunkSize <= 0 || chunkSize % 64 != 0) {
+            throw new IllegalArgumentException("chunk size must be a positive multiple of 64");
+        }
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Decode a list of addresses.
+     * @return the decoded addresses, in input order
+     * @throws InterruptedException if interrupted while waiting for the decoding tasks
+     */
+    public Result parse(List<? extends CharSequence> addresses) throws InterruptedException {
+        CharSequence[] items = addresses.toArray(new CharSequence[addresses.size()]);
+        return run(null, items, null, null, items.length);
+    }
+
+    /**
+     * Decode a column of addresses, one per line. Lines end with "\n" or "\r\n", a final line break is optional.
+     * Empty lines are reported as {@link ParseError#MALFORMED}, so entry indexes are line numbers starting at 0.
+     * @return the decoded addresses, in input order
+     * @throws InterruptedException if interrupted while waiting for the decoding tasks
+     */
+    public Result parseLines(CharSequence column) throws InterruptedException {
+        int count = 0;
+        int length = column.length();
+        for (int i = 0; i < length; i++) {
+            if (column.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        if (length > 0 && column.charAt(length - 1) != '\n') {
+            count++;
+        }
+        int[] starts = new int[count];
+        int[] ends = new int[count];
+        int line = 0;
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            if (column.charAt(i) == '\n') {
+                starts[line] = start;
+                ends[line++] = i;
+                start = i + 1;
+            }
+        }
+        if (line < count) {
+            starts[line] = start;
+            ends[line] = length;
+        }
+        return run(column, null, starts, ends, count);
+    }
+
+    /**
+     * Decode a column of addresses, one per line, see {@link #parseLines(CharSequence)}.
+     */
+    public Result parseLines(char[] column) throws InterruptedException {
+        return parseLines(CharBuffer.wrap(column));
+    }
+
+    /**
+     * Decode and validate the 58 character address src[from, to) into dst at dstOff, which is only written to if
+     * the address is valid.
+     * @return {@link #OK}, or the ordinal of the {@link ParseError}
+     */
+    static int decode(CharSequence src, int from, int to, byte[] dst, int dstOff) {
+        if (to - from != ENCODED_LEN) {
+            return ParseError.MALFORMED.ordinal();
+        }
+        byte[] scratch = SCRATCH.get();
+        // 58 characters carry 290 bits, the 2 bits after the 36th byte are ignored.
+        int acc = 0;
+        int bits = 0;
+        int out = 0;
+        for (int i = from; i < to; i++) {
+            char c = src.charAt(i);
+            int v = c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+            if (v < 0) {
+                return ParseError.MALFORMED.ordinal();
+            }
+            acc = (acc << 5) | v;
+            bits += 5;
+            if (bits >= 8) {
+                bits -= 8;
+                scratch[out++] = (byte) (acc >>> bits);
+            }
+        }
+        Digester.digestInto(scratch, 0, Address.LEN_BYTES, scratch, DECODED_LEN);
+        for (int i = 0; i < CHECKSUM_LEN; i++) {
+            if (scratch[Address.LEN_BYTES + i] != scratch[DECODED_LEN + Digester.DIGEST_LEN - CHECKSUM_LEN + i]) {
+                return ParseError.CHECKSUM.ordinal();
+            }
+        }
+        System.arraycopy(scratch, 0, dst, dstOff, Address.LEN_BYTES);
+        return OK;
+    }
+
+    private Result run(final CharSequence text, final CharSequence[] items, final int[] starts, final int[] ends,
+                       int count) throws InterruptedException {
+        final Result result = new Result(count);
+        if (count <= chunkSize) {
+            result.setErrors(Arrays.asList(decodeRange(text, items, starts, ends, 0, count, result)));
+            return result;
+        }
+        result.setErrors(ChunkedTasks.run(executor, count, chunkSize, RuntimeException.class,
+                new ChunkedTasks.Chunk<Errors, RuntimeException>() {
+                    @Override
+                    public Errors run(int chunk, int from, int to) {
+                        return decodeRange(text, items, starts, ends, from, to, result);
+                    }
+                }));
+        return result;
+    }
+
+    // Decode entries [start, end). start is a multiple of 64, so no other task writes the same bitmap words.
+    private static Errors decodeRange(CharSequence text, CharSequence[] items, int[] starts, int[] ends,
+                                      int start, int end, Result result) {
+        Errors errors = new Errors();
+        for (int i = start; i < end; i++) {
+            CharSequence src = items == null ? text : items[i];
+            int from = 0;
+            int to = 0;
+            if (src != null) {
+                from = items == null ? starts[i] : 0;
+                to = items == null ? ends[i] : src.length();
+                while (from < to && Character.isWhitespace(src.charAt(from))) {
+                    from++;
+                }
+                while (to > from && Character.isWhitespace(src.charAt(to - 1))) {
+                    to--;
+                }
+            }
+            int status = src == null
+                    ? ParseError.MALFORMED.ordinal()
+                    : decode(src, from, to, result.bytes, i * Address.LEN_BYTES);
+            if (status == OK) {
+                result.valid[i >>> 6] |= 1L << i;
+            } else {
+                errors.add(i, status);
+            }
+        }
+        return errors;
+    }
+
+    // Invalid entries found by one task, in input order.
+    private static final class Errors {
+        int[] indexes = new int[8];
+        byte[] causes = new byte[8];
+        int count;
+
+        void add(int index, int cause) {
+            if (count == indexes.length) {
+                indexes = Arrays.copyOf(indexes, count * 2);
+                causes = Arrays.copyOf(causes, count * 2);
+            }
+            indexes[count] = index;
+            causes[count++] = (byte) cause;
+        }
+    }
+
+    /**
+     * Decoded addresses. Entry i occupies bytes [32 * i, 32 * i + 32) of {@link #getBytes()}, invalid entries are
+     * left as zeros.
+     */
+    public static final class Result {
+        private final int size;
+        private final byte[] bytes;
+        private final long[] valid;
+        private int[] errorIndexes;
+        private byte[] errorCauses;
+
+        Result(int size) {
+            this.size = size;
+            this.bytes = new byte[size * Address.LEN_BYTES];
+            this.valid = new long[(size + 63) >>> 6];
+        }
+
+        /**
+         * @return number of entries
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return number of valid entries
+         */
+        public int validCount() {
+            return size - errorIndexes.length;
+        }
+
+        public boolean isValid(int i) {
+            checkIndex(i);
+            return (valid[i >>> 6] & (1L << i)) != 0;
+        }
+
+        /**
+         * @return the flat array of decoded keys, not a copy
+         */
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return the validity bitmap, not a copy. Entry i is valid if bit i % 64 of word i / 64 is set.
+         */
+        public long[] getValidityBitmap() {
+            return valid;
+        }
+
+        /**
+         * @return the address of entry i, or null if it is invalid
+         */
+        public Address getAddress(int i) {
+            if (!isValid(i)) {
+                return null;
+            }
+            return new Address(Arrays.copyOfRange(bytes, i * Address.LEN_BYTES, (i + 1) * Address.LEN_BYTES));
+        }
+
+        /**
+         * @return indexes of the invalid entries, in ascending order
+         */
+        public int[] getErrorIndexes() {
+            return errorIndexes.clone();
+        }
+
+        /**
+         * @return why entry i is invalid, or null if it is valid
+         */
+        public ParseError getError(int i) {
+            checkIndex(i);
+            int pos = Arrays.binarySearch(errorIndexes, i);
+            return pos < 0 ? null : ParseError.values()[errorCauses[pos]];
+        }
+
+        private void checkIndex(int i) {
+            if (i < 0 || i >= size) {
+                throw new IndexOutOfBoundsException("entry " + i + " of " + size);
+            }
+        }
+
+        // errors of consecutive chunks, in input order.
+        void setErrors(List<Errors> chunks) {
+            int total = 0;
+            for (Errors chunk : chunks) {
+                total += chunk.count;
+            }
+            errorIndexes = new int[total];
+            errorCauses = new byte[total];
+            int pos = 0;
+            for (Errors chunk : chunks) {
+                System.arraycopy(chunk.indexes, 0, errorIndexes, pos, chunk.count);
+                System.arraycopy(chunk.causes, 0, errorCauses, pos, chunk.count);
+                pos += chunk.count;
+            }
+        }
+    }
+}
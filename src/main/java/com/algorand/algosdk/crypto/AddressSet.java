@@ -0,0 +1,100 @@
+package com.algorand.algosdk.crypto;
+
+/**
+ * Set of addresses, e.g. for screening senders against a large block list.
+ *
+ * Addresses are stored as raw bytes, four longs per address in an open addressing table: an entry costs 32 bytes
+ * per slot, with no per entry objects. With {@link #offHeap(int)} the slots live in a direct buffer and only an
+ * occupancy bitmap of one bit per slot stays on the heap.
+ *
+ * Lookups take either an {@link Address} or a 32 byte range of an array, e.g. the sender field of an encoded
+ * transaction, and never allocate. This class is not thread safe.
+ */
+public class AddressSet extends AddressTable {
+    /**
+     * Receives the addresses of a set.
+     */
+    public interface Visitor {
+        void visit(Address address);
+    }
+
+    public AddressSet() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize number of addresses the set can hold without growing
+     */
+    public AddressSet(int expectedSize) {
+        this(expectedSize, false);
+    }
+
+    private AddressSet(int expectedSize, boolean offHeap) {
+        super(KEY_LONGS, expectedSize, offHeap);
+    }
+
+    /**
+     * Create a set storing its addresses outside of the Java heap.
+     * @param expectedSize number of addresses the set can hold without growing
+     */
+    public static AddressSet offHeap(int expectedSize) {
+        return new AddressSet(expectedSize, true);
+    }
+
+    /**
+     * @return true if address was not in the set
+     */
+    public boolean add(Address address) {
+        return insert(address.bytes(), 0) < 0;
+    }
+
+    /**
+     * @param buf array holding a 32 byte address at off
+     * @return true if the address was not in the set
+     */
+    public boolean add(byte[] buf, int off) {
+        return insert(buf, off) < 0;
+    }
+
+    public boolean contains(Address address) {
+        return find(address.bytes(), 0) >= 0;
+    }
+
+    /**
+     * @param buf array holding a 32 byte address at off
+     */
+    public boolean contains(byte[] buf, int off) {
+        return find(buf, off) >= 0;
+    }
+
+    /**
+     * @return true if address was in the set
+     */
+    public boolean remove(Address address) {
+        return remove(address.bytes(), 0);
+    }
+
+    /**
+     * @param buf array holding a 32 byte address at off
+     * @return true if the address was in the set
+     */
+    public boolean remove(byte[] buf, int off) {
+        int pos = find(buf, off);
+        if (pos < 0) {
+            return false;
+        }
+        delete(pos);
+        return true;
+    }
+
+    /**
+     * Visit all addresses, in no particular order. The set must not be modified while visiting.
+     */
+    public void forEach(Visitor visitor) {
+        for (int pos = 0; pos < capacity(); pos++) {
+            if (isUsed(pos)) {
+                visitor.visit(keyAt(pos));
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.algorand.algosdk.crypto;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table keyed by raw 32 byte addresses, shared by {@link AddressMap} and {@link AddressSet}.
+ *
+ * Each slot is a run of stride longs: the address as four big-endian longs, followed by stride - 4 longs of
+ * value. Slots live in a LongBuffer, either wrapping a heap array or a direct buffer. Occupancy is tracked in a
+ * bitmap on the heap, so the all zero address is a valid key. Collisions are resolved by linear probing and
+ * removals shift back the following entries, there are no tombstones.
+ */
+abstract class AddressTable {
+    static final int KEY_LONGS = 4;
+
+    private static final int MIN_CAPACITY = 16;
+    // largest array or direct buffer, in bytes for off heap storage and in elements for heap arrays.
+    private static final int MAX_STORAGE = Integer.MAX_VALUE - 8;
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    private final int stride;
+    private final boolean offHeap;
+    private final int maxCapacity;
+    LongBuffer slots;
+    private long[] used;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    AddressTable(int stride, int expectedSize, boolean offHeap) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expected size must not be negative");
+        }
+        this.stride = stride;
+        this.offHeap = offHeap;
+        this.maxCapacity = Integer.highestOneBit(MAX_STORAGE / (stride * (offHeap ? 8 : 1)));
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @return number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all entries, keeping the allocated storage.
+     */
+    public void clear() {
+        Arrays.fill(used, 0L);
+        size = 0;
+    }
+
+    /**
+     * @return true if entries are stored outside of the Java heap
+     */
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * @return bytes allocated for the entries and the occupancy bitmap
+     */
+    public long storageBytes() {
+        return (long) slots.capacity() * 8 + (long) used.length * 8;
+    }
+
+    static long readLong(byte[] buf, int off) {
+        return ((long) buf[off] << 56)
+                | ((long) (buf[off + 1] & 0xff) << 48)
+                | ((long) (buf[off + 2] & 0xff) << 40)
+                | ((long) (buf[off + 3] & 0xff) << 32)
+                | ((long) (buf[off + 4] & 0xff) << 24)
+                | ((long) (buf[off + 5] & 0xff) << 16)
+                | ((long) (buf[off + 6] & 0xff) << 8)
+                | ((long) (buf[off + 7] & 0xff));
+    }
+
+    static void checkRange(byte[] buf, int off) {
+        if (buf == null || off < 0 || buf.length - off < Address.LEN_BYTES) {
+            throw new IndexOutOfBoundsException("no address at offset " + off);
+        }
+    }
+
+    /**
+     * @return slot holding the address at buf[off], or -1
+     */
+    final int find(byte[] buf, int off) {
+        checkRange(buf, off);
+        long k0 = readLong(buf, off);
+        long k1 = readLong(buf, off + 8);
+        long k2 = readLong(buf, off + 16);
+        long k3 = readLong(buf, off + 24);
+        int pos = probe(k0, k1, k2, k3);
+        return isUsed(pos) ? pos : -1;
+    }
+
+    /**
+     * @return slot holding the address at buf[off], or the bitwise complement of the slot it was inserted at
+     */
+    final int insert(byte[] buf, int off) {
+        checkRange(buf, off);
+        long k0 = readLong(buf, off);
+        long k1 = readLong(buf, off + 8);
+        long k2 = readLong(buf, off + 16);
+        long k3 = readLong(buf, off + 24);
+        int pos = probe(k0, k1, k2, k3);
+        if (isUsed(pos)) {
+            return pos;
+        }
+        if (size >= threshold) {
+            grow();
+            pos = probe(k0, k1, k2, k3);
+        }
+        int base = pos * stride;
+        slots.put(base, k0);
+        slots.put(base + 1, k1);
+        slots.put(base + 2, k2);
+        slots.put(base + 3, k3);
+        for (int i = KEY_LONGS; i < stride; i++) {
+            slots.put(base + i, 0L);
+        }
+        used[pos >>> 6] |= 1L << pos;
+        size++;
+        return ~pos;
+    }
+
+    /**
+     * Remove the entry in slot pos, shifting back the entries of the same probe sequence.
+     */
+    final void delete(int pos) {
+        used[pos >>> 6] &= ~(1L << pos);
+        size--;
+        int hole = pos;
+        int next = pos;
+        while (true) {
+            next = (next + 1) & mask;
+            if (!isUsed(next)) {
+                return;
+            }
+            int home = homeOf(next);
+            // the entry may move into the hole unless its home lies cyclically in (hole, next].
+            boolean stays = hole <= next ? (home > hole && home <= next) : (home > hole || home <= next);
+            if (!stays) {
+                int from = next * stride;
+                int to = hole * stride;
+                for (int i = 0; i < stride; i++) {
+                    slots.put(to + i, slots.get(from + i));
+                }
+                used[next >>> 6] &= ~(1L << next);
+                used[hole >>> 6] |= 1L << hole;
+                hole = next;
+            }
+        }
+    }
+
+    final boolean isUsed(int pos) {
+        return (used[pos >>> 6] & (1L << pos)) != 0;
+    }
+
+    /**
+     * @return number of slots
+     */
+    final int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return a new Address holding the key of slot pos
+     */
+    final Address keyAt(int pos) {
+        byte[] key = new byte[Address.LEN_BYTES];
+        int base = pos * stride;
+        for (int i = 0; i < KEY_LONGS; i++) {
+            long k = slots.get(base + i);
+            for (int b = 0; b < 8; b++) {
+                key[i * 8 + b] = (byte) (k >>> (56 - 8 * b));
+            }
+        }
+        return new Address(key);
+    }
+
+    private int probe(long k0, long k1, long k2, long k3) {
+        int pos = hash(k0, k1, k2, k3) & mask;
+        while (isUsed(pos)) {
+            int base = pos * stride;
+            if (slots.get(base) == k0 && slots.get(base + 1) == k1
+                    && slots.get(base + 2) == k2 && slots.get(base + 3) == k3) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return pos;
+    }
+
+    private int homeOf(int pos) {
+        int base = pos * stride;
+        return hash(slots.get(base), slots.get(base + 1), slots.get(base + 2), slots.get(base + 3)) & mask;
+    }
+
+    // addresses are usually hashes, but keys may come from untrusted input, so all bits are mixed.
+    private static int hash(long k0, long k1, long k2, long k3) {
+        long h = (k0 * MIX) ^ k1;
+        h = (h * MIX) ^ k2;
+        h = (h * MIX) ^ k3;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private int capacityFor(int expectedSize) {
+        long needed = (long) expectedSize * 4 / 3 + 1;
+        if (needed > maxCapacity) {
+            throw new IllegalArgumentException("expected size is too large: " + expectedSize);
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        int longs = capacity * stride;
+        this.slots = offHeap
+                ? ByteBuffer.allocateDirect(longs * 8).order(ByteOrder.nativeOrder()).asLongBuffer()
+                : LongBuffer.wrap(new long[longs]);
+        this.used = new long[Math.max(1, capacity >>> 6)];
+        this.mask = capacity - 1;
+        this.threshold = (int) ((long) capacity * 3 / 4);
+    }
+
+    private void grow() {
+        int capacity = capacity();
+        if (capacity >= maxCapacity) {
+            throw new IllegalStateException("address table is full");
+        }
+        LongBuffer oldSlots = slots;
+        long[] oldUsed = used;
+        allocate(capacity << 1);
+        for (int pos = 0; pos < capacity; pos++) {
+            if ((oldUsed[pos >>> 6] & (1L << pos)) == 0) {
+                continue;
+            }
+            int from = pos * stride;
+            int to = probe(oldSlots.get(from), oldSlots.get(from + 1), oldSlots.get(from + 2), oldSlots.get(from + 3));
+            for (int i = 0; i < stride; i++) {
+                slots.put(to * stride + i, oldSlots.get(from + i));
+            }
+            used[to >>> 6] |= 1L << to;
+        }
+    }
+}
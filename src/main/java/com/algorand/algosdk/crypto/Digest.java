@@ -13,9 +13,13 @@ import java.util.Arrays;
  * A serializable class representing a SHA512-256 Digest
  */
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
-public class Digest implements Serializable {
+public class Digest implements Serializable, Comparable<Digest> {
+    private static final long serialVersionUID = 4134192968845728033L;
+
     private static final int DIG_LEN_BYTES  = 32;
     private final byte[] bytes = new byte[DIG_LEN_BYTES];
+    // the encoded form, computed on first use
+    private transient String encoded;
 
     /**
      * Create a new digest.
@@ -47,6 +51,9 @@ public class Digest implements Serializable {
     public Digest() {
     }
 
+    /**
+     * @return the underlying array, not a copy. It must not be modified.
+     */
     @JsonValue
     public byte[] getBytes() {
         return this.bytes;
@@ -60,4 +67,45 @@ public class Digest implements Serializable {
             return false;
         }
     }
+
+    /**
+     * Copy the underlying bytes into dst, without allocating.
+     * @throws IndexOutOfBoundsException if dst does not have room at off
+     */
+    public void writeTo(byte[] dst, int off) {
+        FixedBytes.writeTo(this.bytes, dst, off);
+    }
+
+    /**
+     * @return byte i
+     */
+    public byte byteAt(int i) {
+        return this.bytes[i];
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.bytes);
+    }
+
+    /**
+     * Order by the underlying bytes, as unsigned big-endian numbers.
+     */
+    @Override
+    public int compareTo(Digest other) {
+        return FixedBytes.compare(this.bytes, other.bytes);
+    }
+
+    /**
+     * @return the base64 encoding of the digest, cached
+     */
+    @Override
+    public String toString() {
+        String res = this.encoded;
+        if (res == null) {
+            res = Encoder.encodeToBase64(this.bytes);
+            this.encoded = res;
+        }
+        return res;
+    }
 }
@@ -0,0 +1,194 @@
+package com.algorand.algosdk.crypto;
+
+import com.algorand.algosdk.util.CryptoProvider;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+
+import java.security.PublicKey;
+
+/**
+ * Ed25519 signing and verification on raw keys.
+ *
+ * The default {@link Backend#RAW} backend calls the Ed25519 arithmetic directly on 32 byte seeds and public keys
+ * and 64 byte signatures: there is no provider lookup, no ASN.1 key wrapping and no KeyFactory. Base point
+ * multiples are precomputed once per process. The {@link Backend#JCA} backend goes through
+ * java.security.Signature and is kept as a fallback, e.g. for deployments which must use a certified provider.
+ *
+ * Signing, verification and the account classes all consult the backend selected here. All methods are thread
+ * safe.
+ */
+public final class Ed25519Engine {
+    public static final int SEED_LENGTH = Ed25519.SECRET_KEY_SIZE;
+    public static final int PUBLIC_KEY_LENGTH = Ed25519.PUBLIC_KEY_SIZE;
+    public static final int SIGNATURE_LENGTH = Ed25519.SIGNATURE_SIZE;
+
+    private static final String SIGN_ALGO = "EdDSA";
+    // messages up to this size are joined with their prefix in a per thread buffer.
+    private static final int SCRATCH_SIZE = 4096;
+
+    /**
+     * Implementation used for Ed25519 operations.
+     */
+    public enum Backend {
+        /**
+         * Arithmetic on raw keys, bypassing the JCA.
+         */
+        RAW,
+        /**
+         * java.security.Signature with the registered providers. Decoded verification keys are cached by
+         * {@link VerifyKeyCache}.
+         */
+        JCA
+    }
+
+    private static volatile Backend backend = Backend.RAW;
+
+    private static final ThreadLocal<byte[]> SCRATCH = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[SCRATCH_SIZE];
+        }
+    };
+
+    private static final ThreadLocal<java.security.Signature> VERIFIERS = new ThreadLocal<java.security.Signature>() {
+        @Override
+        protected java.security.Signature initialValue() {
+            CryptoProvider.setupIfNeeded();
+            try {
+                return java.security.Signature.getInstance(SIGN_ALGO);
+            } catch (Exception e) {
+                throw new RuntimeException("unexpected behavior", e);
+            }
+        }
+    };
+
+    private Ed25519Engine() {
+    }
+
+    /**
+     * @return the backend in use
+     */
+    public static Backend getBackend() {
+        return backend;
+    }
+
+    /**
+     * Select the backend used by all subsequent Ed25519 operations.
+     * @param backend backend to use
+     */
+    public static void setBackend(Backend backend) {
+        if (backend == null) {
+            throw new IllegalArgumentException("backend must not be null");
+        }
+        if (backend == Backend.RAW) {
+            Ed25519.precompute();
+        }
+        Ed25519Engine.backend = backend;
+    }
+
+    /**
+     * Derive the public key of a seed.
+     * @param seed 32 byte rfc8032 private key
+     * @return the 32 byte public key
+     */
+    public static byte[] publicKey(byte[] seed) {
+        checkLength(seed, 0, SEED_LENGTH, "seed");
+        byte[] pk = new byte[PUBLIC_KEY_LENGTH];
+        Ed25519.generatePublicKey(seed, 0, pk, 0);
+        return pk;
+    }
+
+    /**
+     * Derive the public key of a seed into pkOut.
+     */
+    public static void publicKey(byte[] seed, int seedOff, byte[] pkOut, int pkOff) {
+        checkLength(seed, seedOff, SEED_LENGTH, "seed");
+        checkLength(pkOut, pkOff, PUBLIC_KEY_LENGTH, "public key");
+        Ed25519.generatePublicKey(seed, seedOff, pkOut, pkOff);
+    }
+
+    /**
+     * Sign a prefix followed by part of an array with a raw key, writing the signature into sigOut. This always
+     * uses the raw arithmetic, whatever the selected backend.
+     * @param seed array holding the 32 byte seed at seedOff
+     * @param publicKey array holding the matching 32 byte public key at pkOff
+     * @param prefix domain separation prefix, may be null
+     */
+    public static void sign(byte[] seed, int seedOff, byte[] publicKey, int pkOff,
+                            byte[] prefix, byte[] buf, int off, int len, byte[] sigOut, int sigOff) {
+        checkLength(seed, seedOff, SEED_LENGTH, "seed");
+        checkLength(publicKey, pkOff, PUBLIC_KEY_LENGTH, "public key");
+        checkLength(sigOut, sigOff, SIGNATURE_LENGTH, "signature");
+        if (prefix == null || prefix.length == 0) {
+            Ed25519.sign(seed, seedOff, publicKey, pkOff, buf, off, len, sigOut, sigOff);
+            return;
+        }
+        byte[] joined = join(prefix, buf, off, len);
+        Ed25519.sign(seed, seedOff, publicKey, pkOff, joined, 0, prefix.length + len, sigOut, sigOff);
+    }
+
+    /**
+     * Verify a signature of a prefix followed by part of an array, with the selected backend.
+     * @param publicKey array holding the 32 byte public key at pkOff
+     * @param prefix domain separation prefix, may be null
+     * @param sig array holding the 64 byte signature at sigOff
+     * @return true if the signature is valid, false if it is not or the key or signature is malformed
+     */
+    public static boolean verify(byte[] publicKey, int pkOff, byte[] prefix, byte[] buf, int off, int len,
+                                 byte[] sig, int sigOff) {
+        if (publicKey == null || sig == null
+                || pkOff < 0 || publicKey.length - pkOff < PUBLIC_KEY_LENGTH
+                || sigOff < 0 || sig.length - sigOff < SIGNATURE_LENGTH) {
+            return false;
+        }
+        if (backend == Backend.JCA) {
+            return verifyJca(publicKey, pkOff, prefix, buf, off, len, sig, sigOff);
+        }
+        if (prefix == null || prefix.length == 0) {
+            return Ed25519.verify(sig, sigOff, publicKey, pkOff, buf, off, len);
+        }
+        byte[] joined = join(prefix, buf, off, len);
+        return Ed25519.verify(sig, sigOff, publicKey, pkOff, joined, 0, prefix.length + len);
+    }
+
+    /**
+     * Verify a signature of a whole message, with the selected backend.
+     */
+    public static boolean verify(Ed25519PublicKey key, byte[] message, Signature sig) {
+        return verify(key.getBytes(), 0, null, message, 0, message.length, sig.getBytes(), 0);
+    }
+
+    private static boolean verifyJca(byte[] publicKey, int pkOff, byte[] prefix, byte[] buf, int off, int len,
+                                     byte[] sig, int sigOff) {
+        java.security.Signature verifier = VERIFIERS.get();
+        try {
+            byte[] key = publicKey;
+            if (pkOff != 0 || publicKey.length != PUBLIC_KEY_LENGTH) {
+                key = new byte[PUBLIC_KEY_LENGTH];
+                System.arraycopy(publicKey, pkOff, key, 0, PUBLIC_KEY_LENGTH);
+            }
+            PublicKey pk = VerifyKeyCache.get(key);
+            verifier.initVerify(pk);
+            if (prefix != null) {
+                verifier.update(prefix);
+            }
+            verifier.update(buf, off, len);
+            return verifier.verify(sig, sigOff, SIGNATURE_LENGTH);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static byte[] join(byte[] prefix, byte[] buf, int off, int len) {
+        int total = prefix.length + len;
+        byte[] joined = total <= SCRATCH_SIZE ? SCRATCH.get() : new byte[total];
+        System.arraycopy(prefix, 0, joined, 0, prefix.length);
+        System.arraycopy(buf, off, joined, prefix.length, len);
+        return joined;
+    }
+
+    private static void checkLength(byte[] array, int off, int len, String name) {
+        if (array == null || off < 0 || array.length - off < len) {
+            throw new IllegalArgumentException(name + " must be " + len + " bytes");
+        }
+    }
+}
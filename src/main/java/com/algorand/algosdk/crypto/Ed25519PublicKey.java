@@ -1,5 +1,6 @@
 package com.algorand.algosdk.crypto;
 
+import com.algorand.algosdk.util.Encoder;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonValue;
@@ -11,12 +12,16 @@ import java.util.Arrays;
  * a serializable Ed25519PublicKey
  */
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
-public class Ed25519PublicKey implements Serializable {
+public class Ed25519PublicKey implements Serializable, Comparable<Ed25519PublicKey> {
+    private static final long serialVersionUID = -3447401102162543602L;
+
     public static final int KEY_LEN_BYTES  = 32;
     /**
      * The raw bytes.
      */
     private final byte[] bytes = new byte[KEY_LEN_BYTES];
+    // the encoded form, computed on first use
+    private transient String encoded;
 
     /**
      * Create a new VRF key.
@@ -37,6 +42,9 @@ public class Ed25519PublicKey implements Serializable {
     public Ed25519PublicKey() {
     }
 
+    /**
+     * @return the underlying array, not a copy. It must not be modified.
+     */
     @JsonValue
     public byte[] getBytes() {
         return this.bytes;
@@ -50,4 +58,45 @@ public class Ed25519PublicKey implements Serializable {
             return false;
         }
     }
+
+    /**
+     * Copy the underlying bytes into dst, without allocating.
+     * @throws IndexOutOfBoundsException if dst does not have room at off
+     */
+    public void writeTo(byte[] dst, int off) {
+        FixedBytes.writeTo(this.bytes, dst, off);
+    }
+
+    /**
+     * @return byte i
+     */
+    public byte byteAt(int i) {
+        return this.bytes[i];
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.bytes);
+    }
+
+    /**
+     * Order by the underlying bytes, as unsigned big-endian numbers.
+     */
+    @Override
+    public int compareTo(Ed25519PublicKey other) {
+        return FixedBytes.compare(this.bytes, other.bytes);
+    }
+
+    /**
+     * @return the base64 encoding of the key, cached
+     */
+    @Override
+    public String toString() {
+        String res = this.encoded;
+        if (res == null) {
+            res = Encoder.encodeToBase64(this.bytes);
+            this.encoded = res;
+        }
+        return res;
+    }
 }
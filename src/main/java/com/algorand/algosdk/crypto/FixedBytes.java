@@ -0,0 +1,32 @@
+package com.algorand.algosdk.crypto;
+
+/**
+ * Helpers shared by the fixed length byte value types of this package.
+ */
+final class FixedBytes {
+    private FixedBytes() {
+    }
+
+    /**
+     * Compare two arrays of equal length as unsigned big-endian numbers.
+     */
+    static int compare(byte[] a, byte[] b) {
+        for (int i = 0; i < a.length; i++) {
+            int cmp = (a[i] & 0xff) - (b[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Copy all of src into dst at off.
+     */
+    static void writeTo(byte[] src, byte[] dst, int off) {
+        if (dst == null || off < 0 || dst.length - off < src.length) {
+            throw new IndexOutOfBoundsException("destination does not have room for " + src.length + " bytes at " + off);
+        }
+        System.arraycopy(src, 0, dst, off, src.length);
+    }
+}
@@ -5,7 +5,6 @@ import com.algorand.algosdk.util.Digester;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.security.PublicKey;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.List;
@@ -27,8 +26,6 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 public class LogicsigSignature {
     @JsonIgnore
     private static final byte[] LOGIC_PREFIX = ("Program").getBytes(StandardCharsets.UTF_8);
-    @JsonIgnore
-    private static final String SIGN_ALGO = "EdDSA";
 
     @JsonProperty("l")
     public final byte[] logic;
@@ -92,8 +89,7 @@ public class LogicsigSignature {
      * @throws NoSuchAlgorithmException
      */
     public Address toAddress() throws NoSuchAlgorithmException {
-        byte[] prefixedEncoded = this.bytesToSign();
-        return new Address(Digester.digest(prefixedEncoded));
+        return new Address(Digester.digest(LOGIC_PREFIX, this.logic));
     }
 
     /**
@@ -113,6 +109,16 @@ public class LogicsigSignature {
      * @return boolean
      */
     public boolean verify(Address address) {
+        return verify(address, null);
+    }
+
+    /**
+     * Perform signature verification against the sender address
+     * @param address Address to verify
+     * @param msigVerifier verifier checking multisig subsigs, null for the sequential default
+     * @return boolean
+     */
+    public boolean verify(Address address, MultisigVerifier msigVerifier) {
         if (this.logic == null) {
             return false;
         }
@@ -135,25 +141,15 @@ public class LogicsigSignature {
             }
         }
 
-        PublicKey pk;
-        try {
-            pk = address.toVerifyKey();
-        } catch (Exception ex) {
-            return false;
-        }
-
         if (this.sig != null) {
-            try {
-                java.security.Signature sig = java.security.Signature.getInstance(SIGN_ALGO);
-                sig.initVerify(pk);
-                sig.update(this.bytesToSign());
-                return sig.verify(this.sig.getBytes());
-            } catch (Exception ex) {
-                return false;
-            }
+            return Ed25519Engine.verify(address.getBytes(), 0, LOGIC_PREFIX, this.logic, 0, this.logic.length,
+                    this.sig.getBytes(), 0);
         }
 
-        return this.msig.verify(this.bytesToSign());
+        if (msigVerifier == null) {
+            return this.msig.verify(this.bytesToSign());
+        }
+        return this.msig.verify(this.bytesToSign(), msigVerifier);
     }
 
     private static boolean nullCheck(Object o1, Object o2) {
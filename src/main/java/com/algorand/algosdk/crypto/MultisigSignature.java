@@ -6,7 +6,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 import java.io.Serializable;
-import java.security.PublicKey;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -18,8 +17,8 @@ import java.util.Objects;
 @JsonPropertyOrder(alphabetic=true)
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public class MultisigSignature implements Serializable {
-    private static final String SIGN_ALGO = "EdDSA";
-    private static final int MULTISIG_VERSION = 1;
+    private static final long serialVersionUID = -541921353928474123L;
+    private static final MultisigVerifier SEQUENTIAL_VERIFIER = new MultisigVerifier();
 
     @JsonProperty("v")
     public int version;
@@ -102,36 +101,18 @@ public class MultisigSignature implements Serializable {
      * @throws IllegalStateException on verification error
      */
     public boolean verify(byte[] message) {
-        if (this.version != MULTISIG_VERSION || this.threshold <= 0 || this.subsigs.size() == 0) {
-            return false;
-        }
-        if (this.threshold > this.subsigs.size()) {
-            return false;
-        }
+        return verify(message, SEQUENTIAL_VERIFIER);
+    }
 
-        int verifiedCount = 0;
-        Signature emptySig = new Signature();
-        for (int i = 0; i < this.subsigs.size(); i++) {
-            MultisigSubsig subsig = this.subsigs.get(i);
-            if (!subsig.sig.equals(emptySig)) {
-                try {
-                    PublicKey pk = new Address(subsig.key.getBytes()).toVerifyKey();
-                    java.security.Signature sig = java.security.Signature.getInstance(SIGN_ALGO);
-                    sig.initVerify(pk);
-                    sig.update(message);
-                    boolean verified = sig.verify(subsig.sig.getBytes());
-                    if (verified) {
-                        verifiedCount += 1;
-                    }
-                } catch (Exception ex) {
-                    throw new IllegalStateException("verification of subsig " + i + "failed", ex);
-                }
-            }
-        }
-        if (verifiedCount < this.threshold) {
-            return false;
-        }
-        return true;
+    /**
+     * Performs signature verification, stopping as soon as threshold subsigs are valid
+     * @param message raw message to verify
+     * @param verifier verifier checking the subsigs
+     * @return boolean
+     * @throws IllegalStateException on verification error
+     */
+    public boolean verify(byte[] message, MultisigVerifier verifier) {
+        return verifier.verify(this, message).isValid();
     }
 
     @Override
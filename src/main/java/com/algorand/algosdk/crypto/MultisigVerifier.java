@@ -0,0 +1,183 @@
+package com.algorand.algosdk.crypto;
+
+import com.algorand.algosdk.crypto.MultisigSignature.MultisigSubsig;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Threshold aware multisig verification.
+ *
+ * Subsigs are verified until threshold of them are valid, or until the threshold can no longer be reached, the
+ * remaining subsigs are left unchecked. With an executor the subsigs are verified concurrently and pending
+ * verifications are cancelled once the outcome is known. The result reports which subsigs were found valid and
+ * which invalid.
+ */
+public class MultisigVerifier {
+    private static final int MULTISIG_VERSION = 1;
+    private static final Signature EMPTY_SIGNATURE = new Signature();
+
+    private final ExecutorService executor;
+
+    /**
+     * Create a verifier checking subsigs one after the other on the calling thread.
+     */
+    public MultisigVerifier() {
+        this.executor = null;
+    }
+
+    /**
+     * Create a verifier checking subsigs concurrently. The executor is owned by the caller.
+     * @param executor executor running the subsig verifications
+     */
+    public MultisigVerifier(ExecutorService executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * Outcome of a multisig verification.
+     */
+    public static final class Result {
+        private final boolean valid;
+        private final BitSet validSubsigs;
+        private final BitSet invalidSubsigs;
+
+        private Result(boolean valid, BitSet validSubsigs, BitSet invalidSubsigs) {
+            this.valid = valid;
+            this.validSubsigs = validSubsigs;
+            this.invalidSubsigs = invalidSubsigs;
+        }
+
+        /**
+         * @return true if at least threshold subsigs are valid
+         */
+        public boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * @return indexes of the subsigs verified as valid
+         */
+        public BitSet getValidSubsigs() {
+            return (BitSet) validSubsigs.clone();
+        }
+
+        /**
+         * @return indexes of the subsigs verified as invalid. Empty subsigs and subsigs left unchecked after
+         * the outcome was known are in neither set.
+         */
+        public BitSet getInvalidSubsigs() {
+            return (BitSet) invalidSubsigs.clone();
+        }
+    }
+
+    /**
+     * Verify a multisig signature of a message.
+     * @param msig multisig signature
+     * @param message raw message to verify
+     * @return the verification result
+     * @throws IllegalStateException on verification error
+     */
+    public Result verify(MultisigSignature msig, byte[] message) {
+        BitSet valid = new BitSet();
+        BitSet invalid = new BitSet();
+        if (msig.version != MULTISIG_VERSION || msig.threshold <= 0 || msig.subsigs.size() == 0
+                || msig.threshold > msig.subsigs.size()) {
+            return new Result(false, valid, invalid);
+        }
+        List<Integer> signed = new ArrayList<>();
+        for (int i = 0; i < msig.subsigs.size(); i++) {
+            if (!EMPTY_SIGNATURE.equals(msig.subsigs.get(i).sig)) {
+                signed.add(i);
+            }
+        }
+        if (signed.size() < msig.threshold) {
+            return new Result(false, valid, invalid);
+        }
+        if (executor == null || signed.size() == 1) {
+            verifySequential(msig, message, signed, valid, invalid);
+        } else {
+            verifyConcurrent(msig, message, signed, valid, invalid);
+        }
+        return new Result(valid.cardinality() >= msig.threshold, valid, invalid);
+    }
+
+    private static void verifySequential(MultisigSignature msig, byte[] message, List<Integer> signed,
+                                         BitSet valid, BitSet invalid) {
+        for (int n = 0; n < signed.size(); n++) {
+            int i = signed.get(n);
+            if (verifySubsig(msig.subsigs.get(i), i, message)) {
+                valid.set(i);
+                if (valid.cardinality() >= msig.threshold) {
+                    return;
+                }
+            } else {
+                invalid.set(i);
+                if (valid.cardinality() + signed.size() - n - 1 < msig.threshold) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void verifyConcurrent(final MultisigSignature msig, final byte[] message, List<Integer> signed,
+                                  BitSet valid, BitSet invalid) {
+        CompletionService<Integer> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Integer>> futures = new ArrayList<>(signed.size());
+        try {
+            for (final Integer index : signed) {
+                futures.add(completion.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        // valid subsigs report their index, invalid ones its complement.
+                        return verifySubsig(msig.subsigs.get(index), index, message) ? index : ~index;
+                    }
+                }));
+            }
+            for (int remaining = signed.size(); remaining > 0; remaining--) {
+                int result = completion.take().get();
+                if (result >= 0) {
+                    valid.set(result);
+                } else {
+                    invalid.set(~result);
+                }
+                if (valid.cardinality() >= msig.threshold
+                        || valid.cardinality() + remaining - 1 < msig.threshold) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("multisig verification interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalStateException) {
+                throw (IllegalStateException) cause;
+            }
+            throw new IllegalStateException("multisig verification failed", cause);
+        } finally {
+            for (Future<Integer> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static boolean verifySubsig(MultisigSubsig subsig, int index, byte[] message) {
+        try {
+            return Ed25519Engine.verify(subsig.key.getBytes(), 0, null, message, 0, message.length,
+                    subsig.sig.getBytes(), 0);
+        } catch (RuntimeException ex) {
+            throw new IllegalStateException("verification of subsig " + index + " failed", ex);
+        }
+    }
+}
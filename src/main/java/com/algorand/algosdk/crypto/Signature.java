@@ -1,5 +1,6 @@
 package com.algorand.algosdk.crypto;
 
+import com.algorand.algosdk.util.Encoder;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -13,11 +14,15 @@ import java.util.Arrays;
  * A raw serializable signature class.
  */
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
-public class Signature implements Serializable {
+public class Signature implements Serializable, Comparable<Signature> {
+    private static final long serialVersionUID = -5634070947212973383L;
+
     @JsonIgnore
     private static final int ED25519_SIG_SIZE = 64;
     @JsonProperty("bytes")
     private final byte[] bytes = new byte[ED25519_SIG_SIZE];
+    // the encoded form, computed on first use
+    private transient String encoded;
 
     /**
      * Create a new Signature wrapping the given bytes.
@@ -37,6 +42,9 @@ public class Signature implements Serializable {
     public Signature() {
     }
 
+    /**
+     * @return the underlying array, not a copy. It must not be modified.
+     */
     @JsonValue
     public byte[] getBytes() {
         return this.bytes;
@@ -50,4 +58,45 @@ public class Signature implements Serializable {
             return false;
         }
     }
+
+    /**
+     * Copy the underlying bytes into dst, without allocating.
+     * @throws IndexOutOfBoundsException if dst does not have room at off
+     */
+    public void writeTo(byte[] dst, int off) {
+        FixedBytes.writeTo(this.bytes, dst, off);
+    }
+
+    /**
+     * @return byte i
+     */
+    public byte byteAt(int i) {
+        return this.bytes[i];
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.bytes);
+    }
+
+    /**
+     * Order by the underlying bytes, as unsigned big-endian numbers.
+     */
+    @Override
+    public int compareTo(Signature other) {
+        return FixedBytes.compare(this.bytes, other.bytes);
+    }
+
+    /**
+     * @return the base64 encoding of the signature, cached
+     */
+    @Override
+    public String toString() {
+        String res = this.encoded;
+        if (res == null) {
+            res = Encoder.encodeToBase64(this.bytes);
+            this.encoded = res;
+        }
+        return res;
+    }
 }
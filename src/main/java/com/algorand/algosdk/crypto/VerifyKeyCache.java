@@ -0,0 +1,147 @@
+package com.algorand.algosdk.crypto;
+
+import com.algorand.algosdk.util.CryptoProvider;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.bouncycastle.asn1.edec.EdECObjectIdentifiers;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Process wide, size bounded cache of decoded Ed25519 verification keys.
+ *
+ * Decoding a raw 32 byte key into a {@link PublicKey} wraps it in ASN.1 and goes through a KeyFactory. Signature
+ * verification with the {@link Ed25519Engine.Backend#JCA} backend looks keys up here, so a key seen repeatedly is
+ * decoded once. The least recently used keys are evicted once the maximum size is reached.
+ *
+ * The default {@link Ed25519Engine.Backend#RAW} backend verifies on the raw key bytes and never consults this
+ * cache: the Ed25519 arithmetic it calls decodes the key itself and accepts no pre-decoded form. With that backend
+ * only explicit lookups, such as {@link Address#toVerifyKey()}, are cached and counted, so the hit and miss counts
+ * stay zero for verification unless the JCA backend is selected.
+ */
+public final class VerifyKeyCache {
+    /**
+     * Number of keys kept by default.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private static final String KEY_ALGO = "Ed25519";
+
+    private static volatile Cache<ByteBuffer, PublicKey> cache = newCache(DEFAULT_MAXIMUM_SIZE);
+
+    private VerifyKeyCache() {
+    }
+
+    private static Cache<ByteBuffer, PublicKey> newCache(long maximumSize) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get the verification key of an address.
+     */
+    public static PublicKey get(Address address) throws InvalidKeySpecException, NoSuchAlgorithmException {
+        return get(address.getBytes());
+    }
+
+    /**
+     * Get the verification key of a public key.
+     */
+    public static PublicKey get(Ed25519PublicKey key) throws InvalidKeySpecException, NoSuchAlgorithmException {
+        return get(key.getBytes());
+    }
+
+    /**
+     * Get the verification key for raw public key bytes.
+     * @param key 32 byte Ed25519 public key
+     * @return the decoded key
+     */
+    public static PublicKey get(byte[] key) throws InvalidKeySpecException, NoSuchAlgorithmException {
+        final byte[] copy = Arrays.copyOf(key, key.length);
+        try {
+            return cache.get(ByteBuffer.wrap(copy), new Callable<PublicKey>() {
+                @Override
+                public PublicKey call() throws Exception {
+                    return decode(copy);
+                }
+            });
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof InvalidKeySpecException) {
+                throw (InvalidKeySpecException) cause;
+            }
+            if (cause instanceof NoSuchAlgorithmException) {
+                throw (NoSuchAlgorithmException) cause;
+            }
+            throw new RuntimeException("unexpected behavior", cause);
+        }
+    }
+
+    /**
+     * @return number of lookups answered from the cache, verification only adds to it with the JCA backend
+     */
+    public static long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * @return number of lookups which had to decode the key, verification only adds to it with the JCA backend
+     */
+    public static long missCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * @return approximate number of cached keys
+     */
+    public static long size() {
+        return cache.size();
+    }
+
+    /**
+     * Replace the cache with an empty one holding at most maximumSize keys. The counters restart from zero.
+     * @param maximumSize maximum number of keys, 0 disables caching
+     */
+    public static void setMaximumSize(long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximum size must not be negative");
+        }
+        cache = newCache(maximumSize);
+    }
+
+    /**
+     * Remove all cached keys. The counters are kept.
+     */
+    public static void clear() {
+        cache.invalidateAll();
+    }
+
+    private static PublicKey decode(byte[] key) throws InvalidKeySpecException, NoSuchAlgorithmException {
+        CryptoProvider.setupIfNeeded();
+        X509EncodedKeySpec pkS;
+        try {
+            // Wrap the public key in ASN.1 format.
+            SubjectPublicKeyInfo publicKeyInfo = new SubjectPublicKeyInfo(new AlgorithmIdentifier(EdECObjectIdentifiers.id_Ed25519), key);
+            pkS = new X509EncodedKeySpec(publicKeyInfo.getEncoded());
+        } catch (IOException e) {
+            throw new RuntimeException("could not parse raw key bytes", e);
+        }
+
+        // create public key
+        KeyFactory kf = KeyFactory.getInstance(KEY_ALGO);
+        return kf.generatePublic(pkS);
+    }
+}
@@ -1,10 +1,8 @@
 package com.algorand.algosdk.mnemonic;
 
-import com.algorand.algosdk.util.CryptoProvider;
+import com.algorand.algosdk.util.Digester;
 
 import java.security.GeneralSecurityException;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -18,7 +16,6 @@ public class Mnemonic {
     private static final int KEY_LEN_BYTES = 32;
     private static final int MNEM_LEN_WORDS = 25; // includes checksum word
     private static final int PADDING_ZEROS = BITS_PER_WORD - ((KEY_LEN_BYTES*8)%BITS_PER_WORD);
-    private static final String CHECKSUM_ALG = "SHA-512/256";
     private static final String MNEMONIC_DELIM = " ";
 
     // on set up, verify expected relationship between constants
@@ -51,6 +48,7 @@ public class Mnemonic {
      * key used to create it. It returns an error if the passed mnemonic has an
      * incorrect checksum, if the number of words is unexpected, or if one
      * of the passed words is not found in the words list.
+     * Each word can also be given by its first four letters only.
      * @param mnemonicStr words delimited by MNEMONIC_DELIM
      * @return 32 byte array key
      */
@@ -64,16 +62,7 @@ public class Mnemonic {
         int numWords = MNEM_LEN_WORDS - CHECKSUM_LEN_WORDS;
         int[] uint11Arr = new int[numWords];
         for (int i = 0; i < numWords; i++) {
-            uint11Arr[i] = -1;
-        }
-        for (int w = 0; w < Wordlist.RAW.length; w++) {
-            for (int i = 0; i < numWords; i++) {
-                if (Wordlist.RAW[w].equals(mnemonic[i])) {
-                    uint11Arr[i] = w;
-                }
-            }
-        }
-        for (int i = 0; i < numWords; i++) {
+            uint11Arr[i] = Wordlist.indexOf(mnemonic[i]);
             if (uint11Arr[i] == -1) {
                 throw new IllegalArgumentException("mnemonic contains word that is not in word list");
             }
@@ -88,8 +77,7 @@ public class Mnemonic {
             throw new GeneralSecurityException("unexpected byte from key");
         }
         byte[] bCopy = Arrays.copyOf(b, KEY_LEN_BYTES);
-        String chkWord = checksum(bCopy);
-        if (!chkWord.equals(mnemonic[MNEM_LEN_WORDS - CHECKSUM_LEN_WORDS])) {
+        if (checksumIndex(bCopy) != Wordlist.indexOf(mnemonic[MNEM_LEN_WORDS - CHECKSUM_LEN_WORDS])) {
             throw new GeneralSecurityException("checksum failed to validate");
         }
         return Arrays.copyOf(b, KEY_LEN_BYTES);
@@ -97,17 +85,15 @@ public class Mnemonic {
 
     // returns a word corresponding to the 11 bit checksum of the data
     protected static String checksum(byte[] data) {
-        try {
-            CryptoProvider.setupIfNeeded();
-            MessageDigest digest = MessageDigest.getInstance(CHECKSUM_ALG);
-            digest.update(Arrays.copyOf(data, data.length));
-            byte[] d = digest.digest();
-            // optimize for CHECKSUM_LEN_WORDS = 1
-            d = Arrays.copyOfRange(d, 0, 2);
-            return applyWord(toUintNArray(d)[0]);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException(e);
-        }
+        return applyWord(checksumIndex(data));
+    }
+
+    // returns the word index of the 11 bit checksum of the data
+    private static int checksumIndex(byte[] data) {
+        byte[] d = Digester.digest(data, 0, data.length);
+        // optimize for CHECKSUM_LEN_WORDS = 1
+        d = Arrays.copyOfRange(d, 0, 2);
+        return toUintNArray(d)[0];
     }
 
     // Assumes little-endian
@@ -1,6 +1,8 @@
 package com.algorand.algosdk.mnemonic;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 public class Wordlist {
     private static final String RAW_CHECKSUM = "cancel";
@@ -2061,4 +2063,32 @@ public class Wordlist {
             throw new RuntimeException("cannot initialize passphrase library: wordlist corrupted");
         }
     }
+
+    // length of the prefix identifying each word
+    static final int PREFIX_LEN = 4;
+    // word, and its PREFIX_LEN letter prefix, to its index in RAW
+    private static final Map<String, Integer> INDEX = new HashMap<>(RAW.length * 4);
+
+    static {
+        for (int i = 0; i < RAW.length; i++) {
+            INDEX.put(RAW[i], i);
+        }
+        for (int i = 0; i < RAW.length; i++) {
+            if (RAW[i].length() > PREFIX_LEN) {
+                Integer previous = INDEX.put(RAW[i].substring(0, PREFIX_LEN), i);
+                if (previous != null) {
+                    throw new RuntimeException("cannot initialize passphrase library: ambiguous word prefix");
+                }
+            }
+        }
+    }
+
+    /**
+     * Look up a word, or the first PREFIX_LEN letters of a word.
+     * @return the index of the word in RAW, -1 if it is not in the list
+     */
+    static int indexOf(String word) {
+        Integer index = INDEX.get(word);
+        return index == null ? -1 : index;
+    }
 }
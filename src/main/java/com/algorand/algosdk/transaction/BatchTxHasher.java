@@ -0,0 +1,222 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.util.Digester;
+import com.algorand.algosdk.util.MsgPackWriter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes transaction IDs and group IDs for large batches of unsigned transactions in parallel.
+ *
+ * Results are written into flat arrays of 32 byte digests, the digest of item i starts at offset 32 * i. Work is
+ * split across a ForkJoinPool, each worker thread reuses its own encoding buffer and digest, so the throughput
+ * grows with the number of cores of the pool.
+ *
+ * Transactions must not be modified by other threads while a batch is being processed.
+ */
+public class BatchTxHasher {
+    /**
+     * Length of each digest in the result arrays.
+     */
+    public static final int DIGEST_LEN = Digester.DIGEST_LEN;
+
+    // number of transactions below which a task is not split any further.
+    private static final int TX_THRESHOLD = 256;
+    // number of groups below which a task is not split any further.
+    private static final int GROUP_THRESHOLD = 32;
+
+    private static final ThreadLocal<MsgPackWriter> SCRATCH = new ThreadLocal<MsgPackWriter>() {
+        @Override
+        protected MsgPackWriter initialValue() {
+            return new MsgPackWriter();
+        }
+    };
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Create a hasher using a shared pool with one thread per available processor.
+     */
+    public BatchTxHasher() {
+        this(DefaultPool.INSTANCE);
+    }
+
+    /**
+     * Create a hasher using the given pool.
+     * @param pool pool running the hashing tasks
+     */
+    public BatchTxHasher(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Compute the raw transaction IDs of a batch.
+     * @param txns transactions
+     * @return 32 * txns.size() bytes, the ID of transaction i at offset 32 * i
+     */
+    public byte[] computeTxIDs(List<Transaction> txns) {
+        byte[] out = new byte[txns.size() * DIGEST_LEN];
+        computeTxIDs(txns, out, 0);
+        return out;
+    }
+
+    /**
+     * Compute the raw transaction IDs of a batch into an existing array.
+     * @param txns transactions
+     * @param out destination, must have room for 32 * txns.size() bytes starting at offset
+     * @param offset position of the first ID
+     */
+    public void computeTxIDs(List<Transaction> txns, byte[] out, int offset) {
+        checkOutput(out, offset, txns.size());
+        Transaction[] array = txns.toArray(new Transaction[txns.size()]);
+        pool.invoke(new TxIDTask(array, 0, array.length, out, offset));
+    }
+
+    /**
+     * Compute the group ID of each group and assign it to the group's transactions, in place.
+     * @param groups transaction groups, each must contain at least one transaction
+     * @return 32 * groups.size() bytes, the ID of group i at offset 32 * i
+     */
+    public byte[] assignGroupIDs(List<Transaction[]> groups) {
+        return assignGroupIDs(groups.toArray(new Transaction[groups.size()][]));
+    }
+
+    /**
+     * Compute the group ID of each group and assign it to the group's transactions, in place.
+     * @param groups transaction groups, each must contain at least one transaction
+     * @return 32 * groups.length bytes, the ID of group i at offset 32 * i
+     */
+    public byte[] assignGroupIDs(Transaction[][] groups) {
+        byte[] groupIDs = new byte[groups.length * DIGEST_LEN];
+        assignGroupIDs(groups, groupIDs, null);
+        return groupIDs;
+    }
+
+    /**
+     * Compute the group ID of each group, assign it to the group's transactions, and compute the final
+     * transaction IDs, which include the group ID.
+     * @param groups transaction groups, each must contain at least one transaction
+     * @param groupIDs destination of the group IDs, 32 * groups.length bytes
+     * @param txIDs destination of the transaction IDs of all groups in order, 32 bytes per transaction.
+     *              May be null if the transaction IDs are not needed.
+     */
+    public void assignGroupIDs(Transaction[][] groups, byte[] groupIDs, byte[] txIDs) {
+        int[] txOffsets = new int[groups.length + 1];
+        for (int i = 0; i < groups.length; i++) {
+            if (groups[i] == null || groups[i].length == 0) {
+                throw new IllegalArgumentException("empty transaction list in group " + i);
+            }
+            txOffsets[i + 1] = txOffsets[i] + groups[i].length;
+        }
+        checkOutput(groupIDs, 0, groups.length);
+        if (txIDs != null) {
+            checkOutput(txIDs, 0, txOffsets[groups.length]);
+        }
+        pool.invoke(new GroupTask(groups, txOffsets, 0, groups.length, groupIDs, txIDs));
+    }
+
+    /**
+     * Read one digest of a result array.
+     * @param digests flat digest array
+     * @param index digest index
+     * @return the digest
+     */
+    public static Digest digestAt(byte[] digests, int index) {
+        int offset = index * DIGEST_LEN;
+        return new Digest(Arrays.copyOfRange(digests, offset, offset + DIGEST_LEN));
+    }
+
+    private static void checkOutput(byte[] out, int offset, int count) {
+        if (offset < 0 || (long) offset + (long) count * DIGEST_LEN > out.length) {
+            throw new IndexOutOfBoundsException("no room for " + count + " digests at offset " + offset);
+        }
+    }
+
+    private static final class TxIDTask extends RecursiveAction {
+        private final Transaction[] txns;
+        private final int from;
+        private final int to;
+        private final byte[] out;
+        private final int offset;
+
+        TxIDTask(Transaction[] txns, int from, int to, byte[] out, int offset) {
+            this.txns = txns;
+            this.from = from;
+            this.to = to;
+            this.out = out;
+            this.offset = offset;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TX_THRESHOLD) {
+                MsgPackWriter scratch = SCRATCH.get();
+                for (int i = from; i < to; i++) {
+                    Transaction.rawTxIDInto(txns[i], scratch, out, offset + i * DIGEST_LEN);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new TxIDTask(txns, from, mid, out, offset), new TxIDTask(txns, mid, to, out, offset));
+        }
+    }
+
+    private static final class GroupTask extends RecursiveAction {
+        private final Transaction[][] groups;
+        private final int[] txOffsets;
+        private final int from;
+        private final int to;
+        private final byte[] groupIDs;
+        private final byte[] txIDs;
+
+        GroupTask(Transaction[][] groups, int[] txOffsets, int from, int to, byte[] groupIDs, byte[] txIDs) {
+            this.groups = groups;
+            this.txOffsets = txOffsets;
+            this.from = from;
+            this.to = to;
+            this.groupIDs = groupIDs;
+            this.txIDs = txIDs;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GROUP_THRESHOLD) {
+                MsgPackWriter scratch = SCRATCH.get();
+                byte[] ids = new byte[0];
+                for (int g = from; g < to; g++) {
+                    Transaction[] group = groups[g];
+                    if (ids.length < group.length * DIGEST_LEN) {
+                        ids = new byte[group.length * DIGEST_LEN];
+                    }
+                    for (int i = 0; i < group.length; i++) {
+                        Transaction.rawTxIDInto(group[i], scratch, ids, i * DIGEST_LEN);
+                    }
+                    TxGroup.computeGroupID(ids, 0, group.length, scratch, groupIDs, g * DIGEST_LEN);
+                    Digest gid = digestAt(groupIDs, g);
+                    for (int i = 0; i < group.length; i++) {
+                        group[i].assignGroupID(gid);
+                        if (txIDs != null) {
+                            Transaction.rawTxIDInto(group[i], scratch, txIDs, (txOffsets[g] + i) * DIGEST_LEN);
+                        }
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GroupTask(groups, txOffsets, from, mid, groupIDs, txIDs),
+                    new GroupTask(groups, txOffsets, mid, to, groupIDs, txIDs));
+        }
+    }
+
+    // Created on first use of the default constructor.
+    private static final class DefaultPool {
+        static final ForkJoinPool INSTANCE = new ForkJoinPool();
+    }
+}
@@ -0,0 +1,196 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Ed25519Engine;
+import com.algorand.algosdk.crypto.Ed25519PublicKey;
+import com.algorand.algosdk.crypto.LogicsigSignature;
+import com.algorand.algosdk.crypto.MultisigAddress;
+import com.algorand.algosdk.crypto.MultisigSignature;
+import com.algorand.algosdk.crypto.Signature;
+import com.algorand.algosdk.util.MsgPackWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Verifies the signatures of many signed transactions, optionally spreading the work across an executor.
+ *
+ * An entry is valid if it carries exactly one kind of signature and that signature authorizes the sender:
+ * <ul>
+ *     <li>sig: a valid signature of the transaction by the sender key.</li>
+ *     <li>msig: the multisig account is the sender and {@link MultisigSignature#verify(byte[])} accepts the
+ *     transaction.</li>
+ *     <li>lsig: {@link LogicsigSignature#verify(Address)} accepts the sender. The program itself is not run.</li>
+ * </ul>
+ * Each transaction is encoded once and the result shared by all of its signatures.
+ */
+public class BatchVerifier {
+    private static final byte[] TX_SIGN_PREFIX = ("TX").getBytes(StandardCharsets.UTF_8);
+    private static final int DEFAULT_CHUNK_SIZE = 32;
+    private static final Signature EMPTY_SIGNATURE = new Signature();
+    private static final MultisigSignature DEFAULT_MULTISIG = new MultisigSignature();
+    private static final LogicsigSignature DEFAULT_LOGICSIG = new LogicsigSignature();
+
+    private static final ThreadLocal<MsgPackWriter> SCRATCH = new ThreadLocal<MsgPackWriter>() {
+        @Override
+        protected MsgPackWriter initialValue() {
+            return new MsgPackWriter();
+        }
+    };
+
+    private final ExecutorService executor;
+    private final int chunkSize;
+
+    /**
+     * Create a verifier running on the calling thread.
+     */
+    public BatchVerifier() {
+        this.executor = null;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+    }
+
+    /**
+     * Create a verifier spreading the work across an executor. The executor is owned by the caller.
+     * @param executor executor running the verification tasks
+     */
+    public BatchVerifier(ExecutorService executor) {
+        this(executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param executor executor running the verification tasks
+     * @param chunkSize number of transactions verified by a single task
+     */
+    public BatchVerifier(ExecutorService executor, int chunkSize) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive");
+        }
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param stxs signed transactions
+     * @return true if every entry is valid
+     * @throws InterruptedException if interrupted while waiting for the verification tasks
+     */
+    public boolean verifyAll(List<SignedTransaction> stxs) throws InterruptedException {
+        return findInvalid(stxs).isEmpty();
+    }
+
+    /**
+     * Verify a batch and report the entries which failed.
+     * @param stxs signed transactions
+     * @return indexes of the invalid entries, empty if all entries are valid
+     * @throws InterruptedException if interrupted while waiting for the verification tasks
+     */
+    public BitSet findInvalid(List<SignedTransaction> stxs) throws InterruptedException {
+        final SignedTransaction[] array = stxs.toArray(new SignedTransaction[stxs.size()]);
+        final boolean[] valid = new boolean[array.length];
+        if (executor == null) {
+            verifyRange(array, 0, array.length, valid);
+        } else {
+            List<Future<Void>> futures = new ArrayList<>();
+            try {
+                for (int from = 0; from < array.length; from += chunkSize) {
+                    final int start = from;
+                    final int end = Math.min(array.length, from + chunkSize);
+                    futures.add(executor.submit(new Callable<Void>() {
+                        @Override
+                        public Void call() {
+                            verifyRange(array, start, end, valid);
+                            return null;
+                        }
+                    }));
+                }
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                throw new RuntimeException("unexpected behavior", e.getCause());
+            } finally {
+                for (Future<Void> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+        BitSet invalid = new BitSet(array.length);
+        for (int i = 0; i < array.length; i++) {
+            if (!valid[i]) {
+                invalid.set(i);
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Verify a single signed transaction.
+     * @param stx signed transaction
+     * @return true if the signature authorizes the transaction
+     */
+    public static boolean verify(SignedTransaction stx) {
+        if (stx == null || stx.tx == null || stx.tx.sender == null) {
+            return false;
+        }
+        boolean hasSig = stx.sig != null && !EMPTY_SIGNATURE.equals(stx.sig);
+        boolean hasMsig = stx.mSig != null && !DEFAULT_MULTISIG.equals(stx.mSig);
+        boolean hasLsig = stx.lSig != null && !DEFAULT_LOGICSIG.equals(stx.lSig);
+        if ((hasSig ? 1 : 0) + (hasMsig ? 1 : 0) + (hasLsig ? 1 : 0) != 1) {
+            return false;
+        }
+        if (hasLsig) {
+            return stx.lSig.verify(stx.tx.sender);
+        }
+
+        MsgPackWriter out = SCRATCH.get();
+        out.reset();
+        out.writeRaw(TX_SIGN_PREFIX);
+        CanonicalEncoder.writeTransaction(out, stx.tx);
+        if (hasSig) {
+            return verifySignature(stx.tx.sender, out.buffer(), out.offset(), out.length(), stx.sig);
+        }
+        return multisigMatchesSender(stx.mSig, stx.tx.sender) && stx.mSig.verify(out.toByteArray());
+    }
+
+    private static void verifyRange(SignedTransaction[] stxs, int from, int to, boolean[] valid) {
+        for (int i = from; i < to; i++) {
+            try {
+                valid[i] = verify(stxs[i]);
+            } catch (RuntimeException e) {
+                // malformed entries, e.g. values which cannot be encoded, are invalid.
+                valid[i] = false;
+            }
+        }
+    }
+
+    private static boolean verifySignature(Address key, byte[] buf, int off, int len, Signature signature) {
+        return Ed25519Engine.verify(key.getBytes(), 0, null, buf, off, len, signature.getBytes(), 0);
+    }
+
+    private static boolean multisigMatchesSender(MultisigSignature msig, Address sender) {
+        if (msig.subsigs == null) {
+            return false;
+        }
+        List<Ed25519PublicKey> keys = new ArrayList<>(msig.subsigs.size());
+        for (MultisigSignature.MultisigSubsig subsig : msig.subsigs) {
+            if (subsig == null || subsig.key == null) {
+                return false;
+            }
+            keys.add(subsig.key);
+        }
+        try {
+            return new MultisigAddress(msig.version, msig.threshold, keys).toAddress().equals(sender);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
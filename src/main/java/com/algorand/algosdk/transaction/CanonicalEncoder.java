@@ -0,0 +1,622 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.crypto.Ed25519PublicKey;
+import com.algorand.algosdk.crypto.LogicsigSignature;
+import com.algorand.algosdk.crypto.MultisigSignature;
+import com.algorand.algosdk.crypto.MultisigSignature.MultisigSubsig;
+import com.algorand.algosdk.crypto.ParticipationPublicKey;
+import com.algorand.algosdk.crypto.Signature;
+import com.algorand.algosdk.crypto.VRFPublicKey;
+import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.MsgPackWriter;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Reflection-free canonical msgpack encoder for transactions and signatures.
+ *
+ * The output is bit-exact with the Jackson based {@link Encoder#encodeToMsgPack(Object)}: keys are written in
+ * alphabetical order, values equal to the value of a default constructed object are omitted, and null values
+ * which differ from the default are written as nil.
+ */
+public final class CanonicalEncoder {
+    /* Transaction keys, alphabetical */
+    private static final byte[] AAMT = key("aamt");
+    private static final byte[] ACLOSE = key("aclose");
+    private static final byte[] AFRZ = key("afrz");
+    private static final byte[] AMT = key("amt");
+    private static final byte[] APAR = key("apar");
+    private static final byte[] ARCV = key("arcv");
+    private static final byte[] ASND = key("asnd");
+    private static final byte[] CAID = key("caid");
+    private static final byte[] CLOSE = key("close");
+    private static final byte[] FADD = key("fadd");
+    private static final byte[] FAID = key("faid");
+    private static final byte[] FEE = key("fee");
+    private static final byte[] FV = key("fv");
+    private static final byte[] GEN = key("gen");
+    private static final byte[] GH = key("gh");
+    private static final byte[] GRP = key("grp");
+    private static final byte[] LV = key("lv");
+    private static final byte[] LX = key("lx");
+    private static final byte[] NOTE = key("note");
+    private static final byte[] RCV = key("rcv");
+    private static final byte[] SELKEY = key("selkey");
+    private static final byte[] SND = key("snd");
+    private static final byte[] TYPE = key("type");
+    private static final byte[] VOTEFST = key("votefst");
+    private static final byte[] VOTEKD = key("votekd");
+    private static final byte[] VOTEKEY = key("votekey");
+    private static final byte[] VOTELST = key("votelst");
+    private static final byte[] XAID = key("xaid");
+
+    /* AssetParams keys, alphabetical */
+    private static final byte[] AM = key("am");
+    private static final byte[] AN = key("an");
+    private static final byte[] AU = key("au");
+    private static final byte[] C = key("c");
+    private static final byte[] DC = key("dc");
+    private static final byte[] DF = key("df");
+    private static final byte[] F = key("f");
+    private static final byte[] M = key("m");
+    private static final byte[] R = key("r");
+    private static final byte[] T = key("t");
+    private static final byte[] UN = key("un");
+
+    /* SignedTransaction keys, alphabetical */
+    private static final byte[] LSIG = key("lsig");
+    private static final byte[] MSIG = key("msig");
+    private static final byte[] SIG = key("sig");
+    private static final byte[] TXN = key("txn");
+
+    /* LogicsigSignature keys, alphabetical */
+    private static final byte[] ARG = key("arg");
+    private static final byte[] L = key("l");
+
+    /* MultisigSignature keys, alphabetical */
+    private static final byte[] SUBSIG = key("subsig");
+    private static final byte[] THR = key("thr");
+    private static final byte[] V = key("v");
+    private static final byte[] PK = key("pk");
+    private static final byte[] S = key("s");
+
+    // Default values, used to decide which fields are omitted.
+    private static final Address EMPTY_ADDRESS = new Address();
+    private static final Digest EMPTY_DIGEST = new Digest();
+    private static final Signature EMPTY_SIGNATURE = new Signature();
+    private static final Ed25519PublicKey EMPTY_PUBLIC_KEY = new Ed25519PublicKey();
+    private static final ParticipationPublicKey EMPTY_PARTICIPATION_KEY = new ParticipationPublicKey();
+    private static final VRFPublicKey EMPTY_VRF_KEY = new VRFPublicKey();
+    private static final Transaction.AssetParams DEFAULT_ASSET_PARAMS = new Transaction.AssetParams();
+    private static final Transaction DEFAULT_TRANSACTION = new Transaction();
+    private static final MultisigSignature DEFAULT_MULTISIG = new MultisigSignature();
+    private static final LogicsigSignature DEFAULT_LOGICSIG = new LogicsigSignature();
+    private static final Integer DEFAULT_DECIMALS = 0;
+
+    private CanonicalEncoder() {
+    }
+
+    private static byte[] key(String name) {
+        byte[] ascii = name.getBytes(StandardCharsets.US_ASCII);
+        byte[] encoded = new byte[ascii.length + 1];
+        encoded[0] = (byte) (0xa0 | ascii.length);
+        System.arraycopy(ascii, 0, encoded, 1, ascii.length);
+        return encoded;
+    }
+
+    /**
+     * Encode a transaction.
+     * @param tx transaction to encode
+     * @return canonical msgpack encoding
+     */
+    public static byte[] encode(Transaction tx) {
+        MsgPackWriter out = new MsgPackWriter();
+        writeTransaction(out, tx);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encode a compact transaction, producing the same bytes as the transaction it was created from.
+     * @param tx transaction to encode
+     * @return canonical msgpack encoding
+     */
+    public static byte[] encode(CompactTransaction tx) {
+        MsgPackWriter out = new MsgPackWriter();
+        writeTransaction(out, tx);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encode a signed transaction.
+     * @param stx signed transaction to encode
+     * @return canonical msgpack encoding
+     */
+    public static byte[] encode(SignedTransaction stx) {
+        MsgPackWriter out = new MsgPackWriter();
+        writeSignedTransaction(out, stx);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encode a transaction into the given buffer.
+     * @param tx transaction to encode
+     * @param dst destination buffer
+     * @param offset position of the first byte to write
+     * @return number of bytes written
+     * @throws IndexOutOfBoundsException if dst is too small
+     */
+    public static int encode(Transaction tx, byte[] dst, int offset) {
+        MsgPackWriter out = new MsgPackWriter(dst, offset);
+        writeTransaction(out, tx);
+        return copyBack(out, dst);
+    }
+
+    /**
+     * Encode a signed transaction into the given buffer.
+     * @param stx signed transaction to encode
+     * @param dst destination buffer
+     * @param offset position of the first byte to write
+     * @return number of bytes written
+     * @throws IndexOutOfBoundsException if dst is too small
+     */
+    public static int encode(SignedTransaction stx, byte[] dst, int offset) {
+        MsgPackWriter out = new MsgPackWriter(dst, offset);
+        writeSignedTransaction(out, stx);
+        return copyBack(out, dst);
+    }
+
+    private static int copyBack(MsgPackWriter out, byte[] dst) {
+        if (out.buffer() != dst) {
+            throw new IndexOutOfBoundsException("destination too small, " + out.length() + " bytes required");
+        }
+        return out.length();
+    }
+
+    /**
+     * Write the canonical encoding of a transaction.
+     */
+    public static void writeTransaction(MsgPackWriter out, Transaction tx) {
+        if (tx.getClass() != Transaction.class) {
+            // subclasses may carry additional serializable properties, let Jackson handle them.
+            writeWithJackson(out, tx);
+            return;
+        }
+        int mark = out.beginMap();
+        int n = 0;
+        if (includeNumber(tx.assetAmount)) { out.writeRaw(AAMT); writeNumber(out, tx.assetAmount); n++; }
+        if (includeAddress(tx.assetCloseTo)) { out.writeRaw(ACLOSE); writeAddress(out, tx.assetCloseTo); n++; }
+        if (tx.freezeState) { out.writeRaw(AFRZ); out.writeBoolean(true); n++; }
+        if (includeNumber(tx.amount)) { out.writeRaw(AMT); writeNumber(out, tx.amount); n++; }
+        if (!DEFAULT_ASSET_PARAMS.equals(tx.assetParams)) { out.writeRaw(APAR); writeAssetParams(out, tx.assetParams); n++; }
+        if (includeAddress(tx.assetReceiver)) { out.writeRaw(ARCV); writeAddress(out, tx.assetReceiver); n++; }
+        if (includeAddress(tx.assetSender)) { out.writeRaw(ASND); writeAddress(out, tx.assetSender); n++; }
+        if (includeNumber(tx.assetIndex)) { out.writeRaw(CAID); writeNumber(out, tx.assetIndex); n++; }
+        if (includeAddress(tx.closeRemainderTo)) { out.writeRaw(CLOSE); writeAddress(out, tx.closeRemainderTo); n++; }
+        if (includeAddress(tx.freezeTarget)) { out.writeRaw(FADD); writeAddress(out, tx.freezeTarget); n++; }
+        if (includeNumber(tx.assetFreezeID)) { out.writeRaw(FAID); writeNumber(out, tx.assetFreezeID); n++; }
+        if (includeNumber(tx.fee)) { out.writeRaw(FEE); writeNumber(out, tx.fee); n++; }
+        if (includeNumber(tx.firstValid)) { out.writeRaw(FV); writeNumber(out, tx.firstValid); n++; }
+        if (includeString(tx.genesisID)) { out.writeRaw(GEN); writeString(out, tx.genesisID); n++; }
+        if (includeDigest(tx.genesisHash)) { out.writeRaw(GH); writeBytes(out, tx.genesisHash == null ? null : tx.genesisHash.getBytes()); n++; }
+        if (includeDigest(tx.group)) { out.writeRaw(GRP); writeBytes(out, tx.group == null ? null : tx.group.getBytes()); n++; }
+        if (includeNumber(tx.lastValid)) { out.writeRaw(LV); writeNumber(out, tx.lastValid); n++; }
+        if (tx.lease != null) { out.writeRaw(LX); out.writeBinary(tx.lease); n++; }
+        if (tx.note != null) { out.writeRaw(NOTE); out.writeBinary(tx.note); n++; }
+        if (includeAddress(tx.receiver)) { out.writeRaw(RCV); writeAddress(out, tx.receiver); n++; }
+        if (!EMPTY_VRF_KEY.equals(tx.selectionPK)) { out.writeRaw(SELKEY); writeBytes(out, tx.selectionPK == null ? null : tx.selectionPK.getBytes()); n++; }
+        if (includeAddress(tx.sender)) { out.writeRaw(SND); writeAddress(out, tx.sender); n++; }
+        if (tx.type != Transaction.Type.Default) { out.writeRaw(TYPE); writeString(out, tx.type == null ? null : tx.type.toValue()); n++; }
+        if (includeNumber(tx.voteFirst)) { out.writeRaw(VOTEFST); writeNumber(out, tx.voteFirst); n++; }
+        if (includeNumber(tx.voteKeyDilution)) { out.writeRaw(VOTEKD); writeNumber(out, tx.voteKeyDilution); n++; }
+        if (!EMPTY_PARTICIPATION_KEY.equals(tx.votePK)) { out.writeRaw(VOTEKEY); writeBytes(out, tx.votePK == null ? null : tx.votePK.getBytes()); n++; }
+        if (includeNumber(tx.voteLast)) { out.writeRaw(VOTELST); writeNumber(out, tx.voteLast); n++; }
+        if (includeNumber(tx.xferAsset)) { out.writeRaw(XAID); writeNumber(out, tx.xferAsset); n++; }
+        out.endMap(mark, n);
+    }
+
+    /**
+     * Write the canonical encoding of a compact transaction.
+     */
+    public static void writeTransaction(MsgPackWriter out, CompactTransaction tx) {
+        int mark = out.beginMap();
+        int n = 0;
+        if (tx.assetAmount != 0) { out.writeRaw(AAMT); out.writeUnsignedLong(tx.assetAmount); n++; }
+        if (includeAddress(tx.assetCloseTo)) { out.writeRaw(ACLOSE); writeAddress(out, tx.assetCloseTo); n++; }
+        if (tx.freezeState) { out.writeRaw(AFRZ); out.writeBoolean(true); n++; }
+        if (tx.amount != 0) { out.writeRaw(AMT); out.writeUnsignedLong(tx.amount); n++; }
+        if (tx.assetParams != null) { out.writeRaw(APAR); writeAssetParams(out, tx.assetParams); n++; }
+        if (includeAddress(tx.assetReceiver)) { out.writeRaw(ARCV); writeAddress(out, tx.assetReceiver); n++; }
+        if (includeAddress(tx.assetSender)) { out.writeRaw(ASND); writeAddress(out, tx.assetSender); n++; }
+        if (tx.assetIndex != 0) { out.writeRaw(CAID); out.writeUnsignedLong(tx.assetIndex); n++; }
+        if (includeAddress(tx.closeRemainderTo)) { out.writeRaw(CLOSE); writeAddress(out, tx.closeRemainderTo); n++; }
+        if (includeAddress(tx.freezeTarget)) { out.writeRaw(FADD); writeAddress(out, tx.freezeTarget); n++; }
+        if (tx.assetFreezeID != 0) { out.writeRaw(FAID); out.writeUnsignedLong(tx.assetFreezeID); n++; }
+        if (tx.fee != 0) { out.writeRaw(FEE); out.writeUnsignedLong(tx.fee); n++; }
+        if (tx.firstValid != 0) { out.writeRaw(FV); out.writeUnsignedLong(tx.firstValid); n++; }
+        if (includeString(tx.genesisID)) { out.writeRaw(GEN); writeString(out, tx.genesisID); n++; }
+        if (includeDigest(tx.genesisHash)) { out.writeRaw(GH); writeBytes(out, tx.genesisHash == null ? null : tx.genesisHash.getBytes()); n++; }
+        if (includeDigest(tx.group)) { out.writeRaw(GRP); writeBytes(out, tx.group == null ? null : tx.group.getBytes()); n++; }
+        if (tx.lastValid != 0) { out.writeRaw(LV); out.writeUnsignedLong(tx.lastValid); n++; }
+        if (tx.lease != null) { out.writeRaw(LX); out.writeBinary(tx.lease); n++; }
+        if (tx.note != null) { out.writeRaw(NOTE); out.writeBinary(tx.note); n++; }
+        if (includeAddress(tx.receiver)) { out.writeRaw(RCV); writeAddress(out, tx.receiver); n++; }
+        if (!EMPTY_VRF_KEY.equals(tx.selectionPK)) { out.writeRaw(SELKEY); writeBytes(out, tx.selectionPK == null ? null : tx.selectionPK.getBytes()); n++; }
+        if (includeAddress(tx.sender)) { out.writeRaw(SND); writeAddress(out, tx.sender); n++; }
+        if (tx.type != Transaction.Type.Default) { out.writeRaw(TYPE); writeString(out, tx.type == null ? null : tx.type.toValue()); n++; }
+        if (tx.voteFirst != 0) { out.writeRaw(VOTEFST); out.writeUnsignedLong(tx.voteFirst); n++; }
+        if (tx.voteKeyDilution != 0) { out.writeRaw(VOTEKD); out.writeUnsignedLong(tx.voteKeyDilution); n++; }
+        if (!EMPTY_PARTICIPATION_KEY.equals(tx.votePK)) { out.writeRaw(VOTEKEY); writeBytes(out, tx.votePK == null ? null : tx.votePK.getBytes()); n++; }
+        if (tx.voteLast != 0) { out.writeRaw(VOTELST); out.writeUnsignedLong(tx.voteLast); n++; }
+        if (tx.xferAsset != 0) { out.writeRaw(XAID); out.writeUnsignedLong(tx.xferAsset); n++; }
+        out.endMap(mark, n);
+    }
+
+    private static void writeAssetParams(MsgPackWriter out, Transaction.AssetParams params) {
+        if (params == null) {
+            out.writeNil();
+            return;
+        }
+        int mark = out.beginMap();
+        int n = 0;
+        if (params.metadataHash != null) { out.writeRaw(AM); out.writeBinary(params.metadataHash); n++; }
+        if (includeString(params.assetName)) { out.writeRaw(AN); writeString(out, params.assetName); n++; }
+        if (includeString(params.url)) { out.writeRaw(AU); writeString(out, params.url); n++; }
+        if (includeAddress(params.assetClawback)) { out.writeRaw(C); writeAddress(out, params.assetClawback); n++; }
+        if (!DEFAULT_DECIMALS.equals(params.assetDecimals)) {
+            out.writeRaw(DC);
+            if (params.assetDecimals == null) {
+                out.writeNil();
+            } else {
+                out.writeLong(params.assetDecimals);
+            }
+            n++;
+        }
+        if (params.assetDefaultFrozen) { out.writeRaw(DF); out.writeBoolean(true); n++; }
+        if (includeAddress(params.assetFreeze)) { out.writeRaw(F); writeAddress(out, params.assetFreeze); n++; }
+        if (includeAddress(params.assetManager)) { out.writeRaw(M); writeAddress(out, params.assetManager); n++; }
+        if (includeAddress(params.assetReserve)) { out.writeRaw(R); writeAddress(out, params.assetReserve); n++; }
+        if (includeNumber(params.assetTotal)) { out.writeRaw(T); writeNumber(out, params.assetTotal); n++; }
+        if (includeString(params.assetUnitName)) { out.writeRaw(UN); writeString(out, params.assetUnitName); n++; }
+        out.endMap(mark, n);
+    }
+
+    /**
+     * Write the canonical encoding of a signed transaction.
+     */
+    public static void writeSignedTransaction(MsgPackWriter out, SignedTransaction stx) {
+        if (stx.getClass() != SignedTransaction.class) {
+            writeWithJackson(out, stx);
+            return;
+        }
+        int mark = out.beginMap();
+        int n = 0;
+        if (!DEFAULT_LOGICSIG.equals(stx.lSig)) { out.writeRaw(LSIG); writeLogicsig(out, stx.lSig); n++; }
+        if (!DEFAULT_MULTISIG.equals(stx.mSig)) { out.writeRaw(MSIG); writeMultisig(out, stx.mSig); n++; }
+        if (!EMPTY_SIGNATURE.equals(stx.sig)) { out.writeRaw(SIG); writeBytes(out, stx.sig == null ? null : stx.sig.getBytes()); n++; }
+        if (!DEFAULT_TRANSACTION.equals(stx.tx)) {
+            out.writeRaw(TXN);
+            if (stx.tx == null) {
+                out.writeNil();
+            } else {
+                writeTransaction(out, stx.tx);
+            }
+            n++;
+        }
+        out.endMap(mark, n);
+    }
+
+    /**
+     * Write the canonical encoding of a logic signature.
+     */
+    public static void writeLogicsig(MsgPackWriter out, LogicsigSignature lsig) {
+        if (lsig == null) {
+            out.writeNil();
+            return;
+        }
+        if (lsig.getClass() != LogicsigSignature.class) {
+            writeWithJackson(out, lsig);
+            return;
+        }
+        int mark = out.beginMap();
+        int n = 0;
+        if (lsig.args != null) {
+            out.writeRaw(ARG);
+            out.writeArrayHeader(lsig.args.size());
+            for (byte[] arg : lsig.args) {
+                writeBytes(out, arg);
+            }
+            n++;
+        }
+        if (lsig.logic != null) { out.writeRaw(L); out.writeBinary(lsig.logic); n++; }
+        if (lsig.msig != null) { out.writeRaw(MSIG); writeMultisig(out, lsig.msig); n++; }
+        if (lsig.sig != null) { out.writeRaw(SIG); out.writeBinary(lsig.sig.getBytes()); n++; }
+        out.endMap(mark, n);
+    }
+
+    /**
+     * Write the canonical encoding of a multisig signature.
+     */
+    public static void writeMultisig(MsgPackWriter out, MultisigSignature msig) {
+        if (msig == null) {
+            out.writeNil();
+            return;
+        }
+        if (msig.getClass() != MultisigSignature.class) {
+            writeWithJackson(out, msig);
+            return;
+        }
+        int mark = out.beginMap();
+        int n = 0;
+        if (msig.subsigs == null || !msig.subsigs.isEmpty()) {
+            out.writeRaw(SUBSIG);
+            writeSubsigs(out, msig.subsigs);
+            n++;
+        }
+        if (msig.threshold != 0) { out.writeRaw(THR); out.writeLong(msig.threshold); n++; }
+        if (msig.version != 0) { out.writeRaw(V); out.writeLong(msig.version); n++; }
+        out.endMap(mark, n);
+    }
+
+    private static void writeSubsigs(MsgPackWriter out, List<MultisigSubsig> subsigs) {
+        if (subsigs == null) {
+            out.writeNil();
+            return;
+        }
+        out.writeArrayHeader(subsigs.size());
+        for (MultisigSubsig subsig : subsigs) {
+            if (subsig == null) {
+                out.writeNil();
+                continue;
+            }
+            boolean hasKey = !EMPTY_PUBLIC_KEY.equals(subsig.key);
+            boolean hasSig = !EMPTY_SIGNATURE.equals(subsig.sig);
+            out.writeMapHeader((hasKey ? 1 : 0) + (hasSig ? 1 : 0));
+            if (hasKey) { out.writeRaw(PK); writeBytes(out, subsig.key == null ? null : subsig.key.getBytes()); }
+            if (hasSig) { out.writeRaw(S); writeBytes(out, subsig.sig == null ? null : subsig.sig.getBytes()); }
+        }
+    }
+
+    /**
+     * Size of the canonical encoding of a transaction, computed from its fields without encoding it.
+     * @param tx transaction
+     * @return number of bytes {@link #writeTransaction(MsgPackWriter, Transaction)} produces
+     */
+    public static int encodedSize(Transaction tx) {
+        if (tx.getClass() != Transaction.class) {
+            return jacksonSize(tx);
+        }
+        int size = 0;
+        int n = 0;
+        if (includeNumber(tx.assetAmount)) { size += AAMT.length + numberSize(tx.assetAmount); n++; }
+        if (includeAddress(tx.assetCloseTo)) { size += ACLOSE.length + addressSize(tx.assetCloseTo); n++; }
+        if (tx.freezeState) { size += AFRZ.length + 1; n++; }
+        if (includeNumber(tx.amount)) { size += AMT.length + numberSize(tx.amount); n++; }
+        if (!DEFAULT_ASSET_PARAMS.equals(tx.assetParams)) { size += APAR.length + assetParamsSize(tx.assetParams); n++; }
+        if (includeAddress(tx.assetReceiver)) { size += ARCV.length + addressSize(tx.assetReceiver); n++; }
+        if (includeAddress(tx.assetSender)) { size += ASND.length + addressSize(tx.assetSender); n++; }
+        if (includeNumber(tx.assetIndex)) { size += CAID.length + numberSize(tx.assetIndex); n++; }
+        if (includeAddress(tx.closeRemainderTo)) { size += CLOSE.length + addressSize(tx.closeRemainderTo); n++; }
+        if (includeAddress(tx.freezeTarget)) { size += FADD.length + addressSize(tx.freezeTarget); n++; }
+        if (includeNumber(tx.assetFreezeID)) { size += FAID.length + numberSize(tx.assetFreezeID); n++; }
+        if (includeNumber(tx.fee)) { size += FEE.length + numberSize(tx.fee); n++; }
+        if (includeNumber(tx.firstValid)) { size += FV.length + numberSize(tx.firstValid); n++; }
+        if (includeString(tx.genesisID)) { size += GEN.length + stringSize(tx.genesisID); n++; }
+        if (includeDigest(tx.genesisHash)) { size += GH.length + bytesSize(tx.genesisHash == null ? null : tx.genesisHash.getBytes()); n++; }
+        if (includeDigest(tx.group)) { size += GRP.length + bytesSize(tx.group == null ? null : tx.group.getBytes()); n++; }
+        if (includeNumber(tx.lastValid)) { size += LV.length + numberSize(tx.lastValid); n++; }
+        if (tx.lease != null) { size += LX.length + MsgPackWriter.sizeOfBinary(tx.lease.length); n++; }
+        if (tx.note != null) { size += NOTE.length + MsgPackWriter.sizeOfBinary(tx.note.length); n++; }
+        if (includeAddress(tx.receiver)) { size += RCV.length + addressSize(tx.receiver); n++; }
+        if (!EMPTY_VRF_KEY.equals(tx.selectionPK)) { size += SELKEY.length + bytesSize(tx.selectionPK == null ? null : tx.selectionPK.getBytes()); n++; }
+        if (includeAddress(tx.sender)) { size += SND.length + addressSize(tx.sender); n++; }
+        if (tx.type != Transaction.Type.Default) { size += TYPE.length + stringSize(tx.type == null ? null : tx.type.toValue()); n++; }
+        if (includeNumber(tx.voteFirst)) { size += VOTEFST.length + numberSize(tx.voteFirst); n++; }
+        if (includeNumber(tx.voteKeyDilution)) { size += VOTEKD.length + numberSize(tx.voteKeyDilution); n++; }
+        if (!EMPTY_PARTICIPATION_KEY.equals(tx.votePK)) { size += VOTEKEY.length + bytesSize(tx.votePK == null ? null : tx.votePK.getBytes()); n++; }
+        if (includeNumber(tx.voteLast)) { size += VOTELST.length + numberSize(tx.voteLast); n++; }
+        if (includeNumber(tx.xferAsset)) { size += XAID.length + numberSize(tx.xferAsset); n++; }
+        return MsgPackWriter.sizeOfMapHeader(n) + size;
+    }
+
+    private static int assetParamsSize(Transaction.AssetParams params) {
+        if (params == null) {
+            return 1;
+        }
+        int size = 0;
+        int n = 0;
+        if (params.metadataHash != null) { size += AM.length + MsgPackWriter.sizeOfBinary(params.metadataHash.length); n++; }
+        if (includeString(params.assetName)) { size += AN.length + stringSize(params.assetName); n++; }
+        if (includeString(params.url)) { size += AU.length + stringSize(params.url); n++; }
+        if (includeAddress(params.assetClawback)) { size += C.length + addressSize(params.assetClawback); n++; }
+        if (!DEFAULT_DECIMALS.equals(params.assetDecimals)) {
+            size += DC.length + (params.assetDecimals == null ? 1 : MsgPackWriter.sizeOfLong(params.assetDecimals));
+            n++;
+        }
+        if (params.assetDefaultFrozen) { size += DF.length + 1; n++; }
+        if (includeAddress(params.assetFreeze)) { size += F.length + addressSize(params.assetFreeze); n++; }
+        if (includeAddress(params.assetManager)) { size += M.length + addressSize(params.assetManager); n++; }
+        if (includeAddress(params.assetReserve)) { size += R.length + addressSize(params.assetReserve); n++; }
+        if (includeNumber(params.assetTotal)) { size += T.length + numberSize(params.assetTotal); n++; }
+        if (includeString(params.assetUnitName)) { size += UN.length + stringSize(params.assetUnitName); n++; }
+        return MsgPackWriter.sizeOfMapHeader(n) + size;
+    }
+
+    /**
+     * Size of the canonical encoding of a signed transaction, computed without encoding it.
+     * @param stx signed transaction
+     * @return number of bytes {@link #writeSignedTransaction(MsgPackWriter, SignedTransaction)} produces
+     */
+    public static int encodedSize(SignedTransaction stx) {
+        if (stx.getClass() != SignedTransaction.class) {
+            return jacksonSize(stx);
+        }
+        int size = 0;
+        int n = 0;
+        if (!DEFAULT_LOGICSIG.equals(stx.lSig)) { size += LSIG.length + encodedSize(stx.lSig); n++; }
+        if (!DEFAULT_MULTISIG.equals(stx.mSig)) { size += MSIG.length + encodedSize(stx.mSig); n++; }
+        if (!EMPTY_SIGNATURE.equals(stx.sig)) { size += SIG.length + bytesSize(stx.sig == null ? null : stx.sig.getBytes()); n++; }
+        if (!DEFAULT_TRANSACTION.equals(stx.tx)) { size += txnEntrySize(stx.tx); n++; }
+        return MsgPackWriter.sizeOfMapHeader(n) + size;
+    }
+
+    // Size of the "txn" entry of a signed transaction, 0 if the entry is omitted.
+    static int txnEntrySize(Transaction tx) {
+        if (DEFAULT_TRANSACTION.equals(tx)) {
+            return 0;
+        }
+        return TXN.length + (tx == null ? 1 : encodedSize(tx));
+    }
+
+    /**
+     * Size of the canonical encoding of a logic signature, computed without encoding it.
+     * @param lsig logic signature, may be null
+     * @return number of bytes {@link #writeLogicsig(MsgPackWriter, LogicsigSignature)} produces
+     */
+    public static int encodedSize(LogicsigSignature lsig) {
+        if (lsig == null) {
+            return 1;
+        }
+        if (lsig.getClass() != LogicsigSignature.class) {
+            return jacksonSize(lsig);
+        }
+        int size = 0;
+        int n = 0;
+        if (lsig.args != null) {
+            size += ARG.length + MsgPackWriter.sizeOfArrayHeader(lsig.args.size());
+            for (byte[] arg : lsig.args) {
+                size += bytesSize(arg);
+            }
+            n++;
+        }
+        if (lsig.logic != null) { size += L.length + MsgPackWriter.sizeOfBinary(lsig.logic.length); n++; }
+        if (lsig.msig != null) { size += MSIG.length + encodedSize(lsig.msig); n++; }
+        if (lsig.sig != null) { size += SIG.length + MsgPackWriter.sizeOfBinary(lsig.sig.getBytes().length); n++; }
+        return MsgPackWriter.sizeOfMapHeader(n) + size;
+    }
+
+    /**
+     * Size of the canonical encoding of a multisig signature, computed without encoding it.
+     * @param msig multisig signature, may be null
+     * @return number of bytes {@link #writeMultisig(MsgPackWriter, MultisigSignature)} produces
+     */
+    public static int encodedSize(MultisigSignature msig) {
+        if (msig == null) {
+            return 1;
+        }
+        if (msig.getClass() != MultisigSignature.class) {
+            return jacksonSize(msig);
+        }
+        int size = 0;
+        int n = 0;
+        if (msig.subsigs == null || !msig.subsigs.isEmpty()) {
+            size += SUBSIG.length + subsigsSize(msig.subsigs);
+            n++;
+        }
+        if (msig.threshold != 0) { size += THR.length + MsgPackWriter.sizeOfLong(msig.threshold); n++; }
+        if (msig.version != 0) { size += V.length + MsgPackWriter.sizeOfLong(msig.version); n++; }
+        return MsgPackWriter.sizeOfMapHeader(n) + size;
+    }
+
+    private static int subsigsSize(List<MultisigSubsig> subsigs) {
+        if (subsigs == null) {
+            return 1;
+        }
+        int size = MsgPackWriter.sizeOfArrayHeader(subsigs.size());
+        for (MultisigSubsig subsig : subsigs) {
+            if (subsig == null) {
+                size++;
+                continue;
+            }
+            // the map has at most two entries, a one byte header.
+            size++;
+            if (!EMPTY_PUBLIC_KEY.equals(subsig.key)) { size += PK.length + bytesSize(subsig.key == null ? null : subsig.key.getBytes()); }
+            if (!EMPTY_SIGNATURE.equals(subsig.sig)) { size += S.length + bytesSize(subsig.sig == null ? null : subsig.sig.getBytes()); }
+        }
+        return size;
+    }
+
+    private static int numberSize(BigInteger v) {
+        return v == null ? 1 : MsgPackWriter.sizeOfBigInteger(v);
+    }
+
+    private static int addressSize(Address v) {
+        return v == null ? 1 : MsgPackWriter.sizeOfBinary(v.getBytes().length);
+    }
+
+    private static int bytesSize(byte[] v) {
+        return v == null ? 1 : MsgPackWriter.sizeOfBinary(v.length);
+    }
+
+    private static int stringSize(String v) {
+        return v == null ? 1 : MsgPackWriter.sizeOfString(v);
+    }
+
+    private static int jacksonSize(Object o) {
+        try {
+            return Encoder.encodeToMsgPack(o).length;
+        } catch (IOException e) {
+            throw new RuntimeException("serialization failed", e);
+        }
+    }
+
+    private static boolean includeNumber(BigInteger v) {
+        return !BigInteger.ZERO.equals(v);
+    }
+
+    private static boolean includeAddress(Address v) {
+        return !EMPTY_ADDRESS.equals(v);
+    }
+
+    private static boolean includeDigest(Digest v) {
+        return !EMPTY_DIGEST.equals(v);
+    }
+
+    private static boolean includeString(String v) {
+        return !"".equals(v);
+    }
+
+    private static void writeNumber(MsgPackWriter out, BigInteger v) {
+        if (v == null) {
+            out.writeNil();
+        } else {
+            out.writeBigInteger(v);
+        }
+    }
+
+    private static void writeAddress(MsgPackWriter out, Address v) {
+        if (v == null) {
+            out.writeNil();
+        } else {
+            out.writeBinary(v.getBytes());
+        }
+    }
+
+    private static void writeBytes(MsgPackWriter out, byte[] v) {
+        if (v == null) {
+            out.writeNil();
+        } else {
+            out.writeBinary(v);
+        }
+    }
+
+    private static void writeString(MsgPackWriter out, String v) {
+        if (v == null) {
+            out.writeNil();
+        } else {
+            out.writeString(v);
+        }
+    }
+
+    private static void writeWithJackson(MsgPackWriter out, Object o) {
+        try {
+            out.writeRaw(Encoder.encodeToMsgPack(o));
+        } catch (IOException e) {
+            throw new RuntimeException("serialization failed", e);
+        }
+    }
+}
@@ -0,0 +1,469 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.crypto.ParticipationPublicKey;
+import com.algorand.algosdk.crypto.VRFPublicKey;
+import com.algorand.algosdk.util.Digester;
+import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.MsgPackWriter;
+import com.algorand.algosdk.util.UInt64;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Immutable, compact form of a {@link Transaction}, for applications holding many transactions in memory.
+ *
+ * Numeric fields are stored as primitive longs holding uint64 values, see {@link UInt64}; the BigInteger getters
+ * are views created on each call. Fields left at their default value share one instance across all compact
+ * transactions instead of each holding its own empty address, digest or key. Addresses are immutable and shared
+ * with the source transaction. Digests and participation keys expose their backing arrays, so they are copied
+ * when a compact transaction is created and again whenever they are handed out, like notes and leases.
+ *
+ * A compact transaction encodes, and therefore signs and hashes, exactly like the transaction it was created
+ * from. Asset parameters are rare and are kept as a private copy of {@link Transaction.AssetParams}.
+ */
+public final class CompactTransaction implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final byte[] TX_SIGN_PREFIX = ("TX").getBytes(StandardCharsets.UTF_8);
+    private static final Address EMPTY_ADDRESS = new Address();
+    private static final Digest EMPTY_DIGEST = new Digest();
+    private static final ParticipationPublicKey EMPTY_PARTICIPATION_KEY = new ParticipationPublicKey();
+    private static final VRFPublicKey EMPTY_VRF_KEY = new VRFPublicKey();
+    private static final Transaction.AssetParams DEFAULT_ASSET_PARAMS = new Transaction.AssetParams();
+
+    final Transaction.Type type;
+    final Address sender;
+    final long fee;
+    final long firstValid;
+    final long lastValid;
+    final byte[] note;
+    final String genesisID;
+    final Digest genesisHash;
+    final Digest group;
+    final byte[] lease;
+    final long amount;
+    final Address receiver;
+    final Address closeRemainderTo;
+    final ParticipationPublicKey votePK;
+    final VRFPublicKey selectionPK;
+    final long voteFirst;
+    final long voteLast;
+    final long voteKeyDilution;
+    // null stands for the default parameters
+    final Transaction.AssetParams assetParams;
+    final long assetIndex;
+    final long xferAsset;
+    final long assetAmount;
+    final Address assetSender;
+    final Address assetReceiver;
+    final Address assetCloseTo;
+    final Address freezeTarget;
+    final long assetFreezeID;
+    final boolean freezeState;
+
+    private CompactTransaction(Transaction tx) {
+        this.type = tx.type;
+        this.sender = share(tx.sender);
+        this.fee = uint64(tx.fee, "fee");
+        this.firstValid = uint64(tx.firstValid, "firstValid");
+        this.lastValid = uint64(tx.lastValid, "lastValid");
+        this.note = tx.note == null ? null : tx.note.clone();
+        this.genesisID = tx.genesisID;
+        this.genesisHash = share(tx.genesisHash);
+        this.group = share(tx.group);
+        this.lease = tx.lease == null ? null : tx.lease.clone();
+        this.amount = uint64(tx.amount, "amount");
+        this.receiver = share(tx.receiver);
+        this.closeRemainderTo = share(tx.closeRemainderTo);
+        this.votePK = EMPTY_PARTICIPATION_KEY.equals(tx.votePK) ? EMPTY_PARTICIPATION_KEY : copy(tx.votePK);
+        this.selectionPK = EMPTY_VRF_KEY.equals(tx.selectionPK) ? EMPTY_VRF_KEY : copy(tx.selectionPK);
+        this.voteFirst = uint64(tx.voteFirst, "voteFirst");
+        this.voteLast = uint64(tx.voteLast, "voteLast");
+        this.voteKeyDilution = uint64(tx.voteKeyDilution, "voteKeyDilution");
+        if (tx.assetParams == null) {
+            throw new IllegalArgumentException("assetParams must not be null");
+        }
+        uint64(tx.assetParams.assetTotal, "assetTotal");
+        this.assetParams = DEFAULT_ASSET_PARAMS.equals(tx.assetParams) ? null : copy(tx.assetParams);
+        this.assetIndex = uint64(tx.assetIndex, "assetIndex");
+        this.xferAsset = uint64(tx.xferAsset, "xferAsset");
+        this.assetAmount = uint64(tx.assetAmount, "assetAmount");
+        this.assetSender = share(tx.assetSender);
+        this.assetReceiver = share(tx.assetReceiver);
+        this.assetCloseTo = share(tx.assetCloseTo);
+        this.freezeTarget = share(tx.freezeTarget);
+        this.assetFreezeID = uint64(tx.assetFreezeID, "assetFreezeID");
+        this.freezeState = tx.freezeState;
+    }
+
+    /**
+     * Create the compact form of a transaction.
+     * @throws IllegalArgumentException if a numeric field is null, negative or larger than 2^64-1, or the
+     * transaction is a subclass of Transaction
+     */
+    public static CompactTransaction of(Transaction tx) {
+        if (tx.getClass() != Transaction.class) {
+            throw new IllegalArgumentException("subclasses of Transaction can not be made compact");
+        }
+        return new CompactTransaction(tx);
+    }
+
+    /**
+     * @return a new, mutable transaction with the same fields
+     */
+    public Transaction toTransaction() {
+        Transaction tx = new Transaction();
+        tx.type = type;
+        tx.sender = sender;
+        tx.fee = UInt64.toBigInteger(fee);
+        tx.firstValid = UInt64.toBigInteger(firstValid);
+        tx.lastValid = UInt64.toBigInteger(lastValid);
+        tx.note = note == null ? null : note.clone();
+        tx.genesisID = genesisID;
+        tx.genesisHash = copy(genesisHash);
+        tx.group = copy(group);
+        tx.lease = lease == null ? null : lease.clone();
+        tx.amount = UInt64.toBigInteger(amount);
+        tx.receiver = receiver;
+        tx.closeRemainderTo = closeRemainderTo;
+        tx.votePK = copy(votePK);
+        tx.selectionPK = copy(selectionPK);
+        tx.voteFirst = UInt64.toBigInteger(voteFirst);
+        tx.voteLast = UInt64.toBigInteger(voteLast);
+        tx.voteKeyDilution = UInt64.toBigInteger(voteKeyDilution);
+        tx.assetParams = getAssetParams();
+        tx.assetIndex = UInt64.toBigInteger(assetIndex);
+        tx.xferAsset = UInt64.toBigInteger(xferAsset);
+        tx.assetAmount = UInt64.toBigInteger(assetAmount);
+        tx.assetSender = assetSender;
+        tx.assetReceiver = assetReceiver;
+        tx.assetCloseTo = assetCloseTo;
+        tx.freezeTarget = freezeTarget;
+        tx.assetFreezeID = UInt64.toBigInteger(assetFreezeID);
+        tx.freezeState = freezeState;
+        return tx;
+    }
+
+    /**
+     * @return the canonical encoding, identical to that of the source transaction
+     */
+    public byte[] bytes() {
+        return CanonicalEncoder.encode(this);
+    }
+
+    /**
+     * @return the encoding prefixed with "TX", the bytes a signature covers
+     */
+    public byte[] bytesToSign() {
+        MsgPackWriter out = new MsgPackWriter();
+        out.writeRaw(TX_SIGN_PREFIX);
+        CanonicalEncoder.writeTransaction(out, this);
+        return out.toByteArray();
+    }
+
+    /**
+     * @return transaction ID as Digest
+     */
+    public Digest rawTxID() {
+        MsgPackWriter out = new MsgPackWriter();
+        CanonicalEncoder.writeTransaction(out, this);
+        return new Digest(Digester.digest(TX_SIGN_PREFIX, out.buffer(), out.offset(), out.length()));
+    }
+
+    /**
+     * @return transaction ID as string
+     */
+    public String txID() {
+        return Encoder.encodeToBase32StripPad(rawTxID().getBytes());
+    }
+
+    public Transaction.Type getType() {
+        return type;
+    }
+
+    public Address getSender() {
+        return sender;
+    }
+
+    public BigInteger getFee() {
+        return UInt64.toBigInteger(fee);
+    }
+
+    /**
+     * @return the fee as a uint64, see {@link UInt64}
+     */
+    public long getFeeUnsigned() {
+        return fee;
+    }
+
+    public BigInteger getFirstValid() {
+        return UInt64.toBigInteger(firstValid);
+    }
+
+    public long getFirstValidUnsigned() {
+        return firstValid;
+    }
+
+    public BigInteger getLastValid() {
+        return UInt64.toBigInteger(lastValid);
+    }
+
+    public long getLastValidUnsigned() {
+        return lastValid;
+    }
+
+    /**
+     * @return a copy of the note, or null
+     */
+    public byte[] getNote() {
+        return note == null ? null : note.clone();
+    }
+
+    public String getGenesisID() {
+        return genesisID;
+    }
+
+    /**
+     * @return a copy of the genesis hash
+     */
+    public Digest getGenesisHash() {
+        return copy(genesisHash);
+    }
+
+    /**
+     * @return a copy of the group ID
+     */
+    public Digest getGroup() {
+        return copy(group);
+    }
+
+    /**
+     * @return a copy of the lease, or null
+     */
+    public byte[] getLease() {
+        return lease == null ? null : lease.clone();
+    }
+
+    public BigInteger getAmount() {
+        return UInt64.toBigInteger(amount);
+    }
+
+    public long getAmountUnsigned() {
+        return amount;
+    }
+
+    public Address getReceiver() {
+        return receiver;
+    }
+
+    public Address getCloseRemainderTo() {
+        return closeRemainderTo;
+    }
+
+    /**
+     * @return a copy of the participation key
+     */
+    public ParticipationPublicKey getVotePK() {
+        return copy(votePK);
+    }
+
+    /**
+     * @return a copy of the VRF selection key
+     */
+    public VRFPublicKey getSelectionPK() {
+        return copy(selectionPK);
+    }
+
+    public BigInteger getVoteFirst() {
+        return UInt64.toBigInteger(voteFirst);
+    }
+
+    public long getVoteFirstUnsigned() {
+        return voteFirst;
+    }
+
+    public BigInteger getVoteLast() {
+        return UInt64.toBigInteger(voteLast);
+    }
+
+    public long getVoteLastUnsigned() {
+        return voteLast;
+    }
+
+    public BigInteger getVoteKeyDilution() {
+        return UInt64.toBigInteger(voteKeyDilution);
+    }
+
+    public long getVoteKeyDilutionUnsigned() {
+        return voteKeyDilution;
+    }
+
+    /**
+     * @return a copy of the asset parameters
+     */
+    public Transaction.AssetParams getAssetParams() {
+        return assetParams == null ? new Transaction.AssetParams() : copy(assetParams);
+    }
+
+    public BigInteger getAssetTotal() {
+        return assetParams == null ? BigInteger.ZERO : assetParams.assetTotal;
+    }
+
+    public long getAssetTotalUnsigned() {
+        return assetParams == null ? 0 : assetParams.assetTotal.longValue();
+    }
+
+    public BigInteger getAssetIndex() {
+        return UInt64.toBigInteger(assetIndex);
+    }
+
+    public long getAssetIndexUnsigned() {
+        return assetIndex;
+    }
+
+    public BigInteger getXferAsset() {
+        return UInt64.toBigInteger(xferAsset);
+    }
+
+    public long getXferAssetUnsigned() {
+        return xferAsset;
+    }
+
+    public BigInteger getAssetAmount() {
+        return UInt64.toBigInteger(assetAmount);
+    }
+
+    public long getAssetAmountUnsigned() {
+        return assetAmount;
+    }
+
+    public Address getAssetSender() {
+        return assetSender;
+    }
+
+    public Address getAssetReceiver() {
+        return assetReceiver;
+    }
+
+    public Address getAssetCloseTo() {
+        return assetCloseTo;
+    }
+
+    public Address getFreezeTarget() {
+        return freezeTarget;
+    }
+
+    public BigInteger getAssetFreezeID() {
+        return UInt64.toBigInteger(assetFreezeID);
+    }
+
+    public long getAssetFreezeIDUnsigned() {
+        return assetFreezeID;
+    }
+
+    public boolean getFreezeState() {
+        return freezeState;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompactTransaction)) return false;
+        CompactTransaction that = (CompactTransaction) o;
+        return type == that.type &&
+                fee == that.fee &&
+                firstValid == that.firstValid &&
+                lastValid == that.lastValid &&
+                amount == that.amount &&
+                voteFirst == that.voteFirst &&
+                voteLast == that.voteLast &&
+                voteKeyDilution == that.voteKeyDilution &&
+                assetIndex == that.assetIndex &&
+                xferAsset == that.xferAsset &&
+                assetAmount == that.assetAmount &&
+                assetFreezeID == that.assetFreezeID &&
+                freezeState == that.freezeState &&
+                equal(sender, that.sender) &&
+                Arrays.equals(note, that.note) &&
+                equal(genesisID, that.genesisID) &&
+                equal(genesisHash, that.genesisHash) &&
+                equal(group, that.group) &&
+                Arrays.equals(lease, that.lease) &&
+                equal(receiver, that.receiver) &&
+                equal(closeRemainderTo, that.closeRemainderTo) &&
+                equal(votePK, that.votePK) &&
+                equal(selectionPK, that.selectionPK) &&
+                equal(assetParams, that.assetParams) &&
+                equal(assetSender, that.assetSender) &&
+                equal(assetReceiver, that.assetReceiver) &&
+                equal(assetCloseTo, that.assetCloseTo) &&
+                equal(freezeTarget, that.freezeTarget);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = type == null ? 0 : type.hashCode();
+        h = 31 * h + (sender == null ? 0 : sender.hashCode());
+        h = 31 * h + (int) (firstValid ^ (firstValid >>> 32));
+        h = 31 * h + (int) (lastValid ^ (lastValid >>> 32));
+        h = 31 * h + (int) (amount ^ (amount >>> 32));
+        h = 31 * h + (int) (assetAmount ^ (assetAmount >>> 32));
+        h = 31 * h + (receiver == null ? 0 : receiver.hashCode());
+        return h;
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static long uint64(BigInteger v, String name) {
+        try {
+            return UInt64.fromBigInteger(v);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(name + " is not a uint64: " + v, e);
+        }
+    }
+
+    private static Address share(Address v) {
+        return EMPTY_ADDRESS.equals(v) ? EMPTY_ADDRESS : v;
+    }
+
+    private static Digest share(Digest v) {
+        return EMPTY_DIGEST.equals(v) ? EMPTY_DIGEST : copy(v);
+    }
+
+    // Digests and keys are copied on the way out even when they are the shared defaults, a caller changing the
+    // backing array of a default would change it for every compact transaction.
+    private static Digest copy(Digest v) {
+        return v == null ? null : new Digest(v.getBytes());
+    }
+
+    private static ParticipationPublicKey copy(ParticipationPublicKey v) {
+        return v == null ? null : new ParticipationPublicKey(v.getBytes());
+    }
+
+    private static VRFPublicKey copy(VRFPublicKey v) {
+        return v == null ? null : new VRFPublicKey(v.getBytes());
+    }
+
+    private static Transaction.AssetParams copy(Transaction.AssetParams params) {
+        Transaction.AssetParams copy = new Transaction.AssetParams();
+        copy.assetTotal = params.assetTotal;
+        copy.assetDecimals = params.assetDecimals;
+        copy.assetDefaultFrozen = params.assetDefaultFrozen;
+        copy.assetUnitName = params.assetUnitName;
+        copy.assetName = params.assetName;
+        copy.url = params.url;
+        copy.metadataHash = params.metadataHash == null ? null : params.metadataHash.clone();
+        copy.assetManager = params.assetManager;
+        copy.assetReserve = params.assetReserve;
+        copy.assetFreeze = params.assetFreeze;
+        copy.assetClawback = params.assetClawback;
+        return copy;
+    }
+}
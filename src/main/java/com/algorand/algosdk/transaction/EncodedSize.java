@@ -0,0 +1,140 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.crypto.LogicsigSignature;
+import com.algorand.algosdk.crypto.MultisigAddress;
+import com.algorand.algosdk.util.MsgPackWriter;
+
+import java.util.List;
+
+/**
+ * Exact size of the canonical encoding of a signed transaction, computed from the transaction fields and the
+ * kind of signature. No keys are generated, nothing is signed and nothing is encoded, so this is cheap enough to
+ * call every time a fee is computed from a fee per byte.
+ *
+ * Signatures and public keys have a fixed length, the size of a signed transaction only depends on how many of
+ * them it holds.
+ */
+public final class EncodedSize {
+    // "sig" key followed by a 64 byte bin8 value.
+    private static final int SIG_ENTRY = 4 + 2 + 64;
+    // "msig" key.
+    private static final int MSIG_KEY = 5;
+    // "lsig" key.
+    private static final int LSIG_KEY = 5;
+    // "subsig" key.
+    private static final int SUBSIG_KEY = 7;
+    // "thr" key.
+    private static final int THR_KEY = 4;
+    // "v" key.
+    private static final int V_KEY = 2;
+    // "arg" key.
+    private static final int ARG_KEY = 4;
+    // "l" key.
+    private static final int L_KEY = 2;
+    // fixmap header, "pk" key and a 32 byte bin8 value.
+    private static final int UNSIGNED_SUBSIG = 1 + 3 + 2 + 32;
+    // "s" key followed by a 64 byte bin8 value.
+    private static final int SUBSIG_SIG_ENTRY = 2 + 2 + 64;
+
+    private EncodedSize() {
+    }
+
+    /**
+     * @param tx transaction
+     * @return size of the canonical encoding of the unsigned transaction
+     */
+    public static int transaction(Transaction tx) {
+        return CanonicalEncoder.encodedSize(tx);
+    }
+
+    /**
+     * @param stx signed transaction
+     * @return size of the canonical encoding of stx
+     */
+    public static int signedTransaction(SignedTransaction stx) {
+        return CanonicalEncoder.encodedSize(stx);
+    }
+
+    /**
+     * @param tx transaction
+     * @return size of tx once signed by a single account
+     */
+    public static int singleSig(Transaction tx) {
+        return signed(SIG_ENTRY, tx);
+    }
+
+    /**
+     * Size of tx once signed by a multisig account, with signatures from threshold of the accounts.
+     * @param tx transaction
+     * @param from multisig account
+     * @return size of the signed transaction
+     */
+    public static int multisig(Transaction tx, MultisigAddress from) {
+        return multisig(tx, from.version, from.threshold, from.publicKeys.size(), from.threshold);
+    }
+
+    /**
+     * Size of tx once signed by a multisig account.
+     * @param tx transaction
+     * @param version multisig version
+     * @param threshold multisig threshold
+     * @param keys number of accounts in the multisig account
+     * @param signatures number of accounts which signed
+     * @return size of the signed transaction
+     */
+    public static int multisig(Transaction tx, int version, int threshold, int keys, int signatures) {
+        if (keys < 0 || signatures < 0 || signatures > keys) {
+            throw new IllegalArgumentException("invalid number of signatures " + signatures + " for " + keys + " keys");
+        }
+        return signed(MSIG_KEY + multisigSize(version, threshold, keys, signatures), tx);
+    }
+
+    /**
+     * Size of tx once signed by a contract account, i.e. a logic signature without a delegating signature.
+     * @param tx transaction
+     * @param program compiled program
+     * @param args program arguments, may be null
+     * @return size of the signed transaction
+     */
+    public static int logicsig(Transaction tx, byte[] program, List<byte[]> args) {
+        int size = L_KEY + MsgPackWriter.sizeOfBinary(program.length);
+        int n = 1;
+        if (args != null) {
+            size += ARG_KEY + MsgPackWriter.sizeOfArrayHeader(args.size());
+            for (byte[] arg : args) {
+                size += arg == null ? 1 : MsgPackWriter.sizeOfBinary(arg.length);
+            }
+            n++;
+        }
+        return signed(LSIG_KEY + MsgPackWriter.sizeOfMapHeader(n) + size, tx);
+    }
+
+    /**
+     * Size of tx once signed with the given logic signature, which may be delegated.
+     * @param tx transaction
+     * @param lsig logic signature
+     * @return size of the signed transaction
+     */
+    public static int logicsig(Transaction tx, LogicsigSignature lsig) {
+        return signed(LSIG_KEY + CanonicalEncoder.encodedSize(lsig), tx);
+    }
+
+    private static int multisigSize(int version, int threshold, int keys, int signatures) {
+        int size = 0;
+        int n = 0;
+        if (keys > 0) {
+            size += SUBSIG_KEY + MsgPackWriter.sizeOfArrayHeader(keys)
+                    + keys * UNSIGNED_SUBSIG + signatures * SUBSIG_SIG_ENTRY;
+            n++;
+        }
+        if (threshold != 0) { size += THR_KEY + MsgPackWriter.sizeOfLong(threshold); n++; }
+        if (version != 0) { size += V_KEY + MsgPackWriter.sizeOfLong(version); n++; }
+        return MsgPackWriter.sizeOfMapHeader(n) + size;
+    }
+
+    // signed transaction map holding one signature entry and the transaction.
+    private static int signed(int signatureEntry, Transaction tx) {
+        // at most two entries, a one byte header.
+        return 1 + signatureEntry + CanonicalEncoder.txnEntrySize(tx);
+    }
+}
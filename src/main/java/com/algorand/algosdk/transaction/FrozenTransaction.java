@@ -0,0 +1,178 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.account.Account;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.util.Digester;
+import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.MsgPackWriter;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of a {@link Transaction}, created by {@link Transaction#freeze()}.
+ *
+ * The transaction is encoded and hashed exactly once, when the snapshot is created. Afterwards the canonical
+ * bytes, the bytes to sign and both forms of the transaction ID are served from that single encoding, so signing,
+ * grouping and looking up the ID of a snapshot never encode it again. All fields are final, snapshots can be
+ * shared between threads without synchronization. Changes to the source transaction made after freezing are not
+ * seen by the snapshot.
+ *
+ * Snapshots are serialized as their fields only, the encoding and ID are computed again when they are read back.
+ */
+public final class FrozenTransaction implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final byte[] TX_SIGN_PREFIX = ("TX").getBytes(StandardCharsets.UTF_8);
+
+    private final CompactTransaction tx;
+    // "TX" followed by the canonical encoding.
+    private final byte[] signBytes;
+    private final Digest rawTxID;
+    private final String txID;
+
+    private FrozenTransaction(CompactTransaction tx) {
+        MsgPackWriter out = new MsgPackWriter();
+        out.writeRaw(TX_SIGN_PREFIX);
+        CanonicalEncoder.writeTransaction(out, tx);
+        this.tx = tx;
+        this.signBytes = out.toByteArray();
+        this.rawTxID = new Digest(Digester.digest(signBytes, 0, signBytes.length));
+        this.txID = Encoder.encodeToBase32StripPad(rawTxID.getBytes());
+    }
+
+    /**
+     * Create a snapshot of a transaction, see {@link Transaction#freeze()}.
+     * @throws IllegalArgumentException if the transaction can not be made compact, see
+     * {@link CompactTransaction#of(Transaction)}
+     */
+    public static FrozenTransaction of(Transaction tx) {
+        return new FrozenTransaction(CompactTransaction.of(tx));
+    }
+
+    /**
+     * Create a snapshot of a compact transaction.
+     */
+    public static FrozenTransaction of(CompactTransaction tx) {
+        return new FrozenTransaction(tx);
+    }
+
+    /**
+     * @return a new, mutable transaction with the same fields
+     */
+    public Transaction getTransaction() {
+        return tx.toTransaction();
+    }
+
+    /**
+     * @return the immutable fields of the snapshot
+     */
+    public CompactTransaction getCompactTransaction() {
+        return tx;
+    }
+
+    /**
+     * @return a copy of the canonical encoding
+     */
+    public byte[] bytes() {
+        return Arrays.copyOfRange(signBytes, TX_SIGN_PREFIX.length, signBytes.length);
+    }
+
+    /**
+     * @return a copy of the encoding prefixed with "TX", the bytes a signature covers
+     */
+    public byte[] bytesToSign() {
+        return signBytes.clone();
+    }
+
+    /**
+     * @return length of the canonical encoding
+     */
+    public int encodedLength() {
+        return signBytes.length - TX_SIGN_PREFIX.length;
+    }
+
+    /**
+     * Write the canonical encoding into out.
+     */
+    public void writeTo(MsgPackWriter out) {
+        out.writeRaw(signBytes, TX_SIGN_PREFIX.length, signBytes.length - TX_SIGN_PREFIX.length);
+    }
+
+    /**
+     * Sign the snapshot. The memoized bytes are signed in place, neither copied nor encoded again, and the signed
+     * transaction reuses the snapshot's transaction ID. See {@link Account#signTransaction(FrozenTransaction)}.
+     * @param account account to sign with
+     * @return a signed transaction
+     * @throws NoSuchAlgorithmException if signing algorithm could not be found
+     */
+    public SignedTransaction sign(Account account) throws NoSuchAlgorithmException {
+        return new SignedTransaction(this, account.sign(signBytes, 0, signBytes.length));
+    }
+
+    /**
+     * @return transaction ID as Digest
+     */
+    public Digest rawTxID() {
+        return rawTxID;
+    }
+
+    /**
+     * @return transaction ID as string
+     */
+    public String txID() {
+        return txID;
+    }
+
+    private Object writeReplace() {
+        return new SerializedForm(tx);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("frozen transactions are read from their serialized form");
+    }
+
+    // Only the fields are written. Reading them back goes through of(), which copies them and recomputes the
+    // memoized encoding and ID, so a stream can not pair fields with bytes or IDs that do not match.
+    private static final class SerializedForm implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final CompactTransaction tx;
+
+        SerializedForm(CompactTransaction tx) {
+            this.tx = tx;
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            try {
+                return FrozenTransaction.of(tx.toTransaction());
+            } catch (RuntimeException e) {
+                InvalidObjectException invalid = new InvalidObjectException("invalid frozen transaction");
+                invalid.initCause(e);
+                throw invalid;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FrozenTransaction)) return false;
+        return Arrays.equals(signBytes, ((FrozenTransaction) o).signBytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return rawTxID.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return txID;
+    }
+}
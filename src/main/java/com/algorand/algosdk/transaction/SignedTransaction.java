@@ -16,6 +16,8 @@ import java.util.Objects;
 @JsonPropertyOrder(alphabetic=true)
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public class SignedTransaction implements Serializable {
+    private static final long serialVersionUID = -7659192401039494375L;
+
     @JsonProperty("txn")
     public Transaction tx = new Transaction();
     @JsonProperty("sig")
@@ -62,6 +64,28 @@ public class SignedTransaction implements Serializable {
         this(tx, new Signature(), new MultisigSignature(), lSig, txId);
     }
 
+    /**
+     * Package a snapshot with its signature, reusing the transaction ID of the snapshot. tx is a new, mutable copy
+     * of the snapshot's fields.
+     */
+    public SignedTransaction(FrozenTransaction tx, Signature sig) {
+        this(tx.getTransaction(), sig, tx.txID());
+    }
+
+    /**
+     * Package a snapshot with its multisig signature, reusing the transaction ID of the snapshot.
+     */
+    public SignedTransaction(FrozenTransaction tx, MultisigSignature mSig) {
+        this(tx.getTransaction(), mSig, tx.txID());
+    }
+
+    /**
+     * Package a snapshot with its logicsig, reusing the transaction ID of the snapshot.
+     */
+    public SignedTransaction(FrozenTransaction tx, LogicsigSignature lSig) {
+        this(tx.getTransaction(), lSig, tx.txID());
+    }
+
     private SignedTransaction() {
     }
 
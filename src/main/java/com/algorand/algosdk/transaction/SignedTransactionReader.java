@@ -0,0 +1,278 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.util.CanonicalCodec;
+import com.algorand.algosdk.util.MsgPackScanner;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads SignedTransactions one at a time from a concatenation of msgpack encoded SignedTransactions, such as
+ * the transaction groups returned by the templates or written to a file with repeated encodeToMsgPack calls.
+ *
+ * Records are located with {@link MsgPackScanner}, so only the record being decoded is held in memory. After each
+ * call to {@link #next()} or {@link #nextEncoded()} the byte offset and length of that record are available from
+ * {@link #getRecordOffset()} and {@link #getRecordLength()}.
+ *
+ * Instances are not thread-safe.
+ */
+public class SignedTransactionReader implements Iterator<SignedTransaction>, Closeable {
+    /**
+     * Largest record accepted from a stream, protects against unbounded buffering of corrupt input.
+     */
+    public static final int MAX_RECORD_SIZE = 1 << 20;
+    private static final int STREAM_CHUNK_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final Closeable resource;
+    private ByteBuffer window;
+    // position of the first unread byte in the window, and the end of the valid data
+    private int pos;
+    private int limit;
+    private boolean eof;
+    // stream offset of window position 0
+    private long windowOffset;
+
+    private int nextEnd = -1;
+    private long recordOffset = -1;
+    private int recordLength = -1;
+    private byte[] scratch = new byte[0];
+
+    private SignedTransactionReader(InputStream in, ByteBuffer window, Closeable resource) {
+        this.in = in;
+        this.window = window;
+        this.resource = resource;
+        this.pos = window.position();
+        this.limit = in == null ? window.limit() : 0;
+        this.eof = in == null;
+        this.windowOffset = -pos;
+    }
+
+    /**
+     * Read records from a stream. The stream is consumed in chunks and closed by {@link #close()}.
+     * @param in encoded signed transactions
+     * @return reader
+     */
+    public static SignedTransactionReader fromStream(InputStream in) {
+        return new SignedTransactionReader(in, ByteBuffer.allocate(STREAM_CHUNK_SIZE), in);
+    }
+
+    /**
+     * Read records from the remaining bytes of a buffer, without copying it. Offsets are relative to
+     * the buffer position at the time of the call.
+     * @param buf encoded signed transactions
+     * @return reader
+     */
+    public static SignedTransactionReader fromBuffer(ByteBuffer buf) {
+        return new SignedTransactionReader(null, buf.duplicate(), null);
+    }
+
+    /**
+     * Read records from a byte array.
+     * @param bytes encoded signed transactions
+     * @return reader
+     */
+    public static SignedTransactionReader fromBytes(byte[] bytes) {
+        return fromBuffer(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Read records from a file by memory mapping it.
+     * @param file file holding encoded signed transactions
+     * @return reader, which must be closed to release the file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static SignedTransactionReader fromFile(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            if (channel.size() > Integer.MAX_VALUE) {
+                // too large for a single mapping, stream it instead.
+                raf.close();
+                return fromStream(new FileInputStream(file));
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new SignedTransactionReader(null, mapped, raf);
+        } catch (IOException e) {
+            raf.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return true if another record is available
+     * @throws RuntimeException wrapping an IOException if the underlying stream fails
+     */
+    @Override
+    public boolean hasNext() {
+        try {
+            return findNext();
+        } catch (IOException e) {
+            throw new RuntimeException("could not read signed transaction", e);
+        }
+    }
+
+    /**
+     * Decode the next record.
+     * @return the next signed transaction
+     * @throws NoSuchElementException if no records remain
+     * @throws RuntimeException wrapping an IOException if the record cannot be read or decoded
+     */
+    @Override
+    public SignedTransaction next() {
+        try {
+            SignedTransaction stx = read();
+            if (stx == null) {
+                throw new NoSuchElementException();
+            }
+            return stx;
+        } catch (IOException e) {
+            throw new RuntimeException("could not read signed transaction", e);
+        }
+    }
+
+    /**
+     * Decode the next record.
+     * @return the next signed transaction, or null once all records are consumed
+     * @throws IOException if the record cannot be read or decoded
+     */
+    public SignedTransaction read() throws IOException {
+        ByteBuffer record = readEncoded();
+        if (record == null) {
+            return null;
+        }
+        if (record.hasArray()) {
+            return CanonicalCodec.msgpack().decode(record.array(), record.arrayOffset() + record.position(),
+                    record.remaining(), SignedTransaction.class);
+        }
+        if (scratch.length < record.remaining()) {
+            scratch = new byte[record.remaining()];
+        }
+        record.get(scratch, 0, record.remaining());
+        return CanonicalCodec.msgpack().decode(scratch, 0, recordLength, SignedTransaction.class);
+    }
+
+    /**
+     * Return the encoded bytes of the next record without decoding it.
+     * @return the next record, valid until the next call on this reader
+     * @throws NoSuchElementException if no records remain
+     */
+    public ByteBuffer nextEncoded() {
+        try {
+            ByteBuffer record = readEncoded();
+            if (record == null) {
+                throw new NoSuchElementException();
+            }
+            return record;
+        } catch (IOException e) {
+            throw new RuntimeException("could not read signed transaction", e);
+        }
+    }
+
+    /**
+     * Return the encoded bytes of the next record without decoding it.
+     * @return the next record, valid until the next call on this reader, or null once all records are consumed
+     * @throws IOException if the record cannot be read
+     */
+    public ByteBuffer readEncoded() throws IOException {
+        if (!findNext()) {
+            return null;
+        }
+        ByteBuffer record = window.duplicate();
+        record.limit(nextEnd);
+        record.position(pos);
+        recordOffset = windowOffset + pos;
+        recordLength = nextEnd - pos;
+        pos = nextEnd;
+        nextEnd = -1;
+        return record.slice();
+    }
+
+    /**
+     * @return byte offset of the last record returned, relative to the start of the input
+     */
+    public long getRecordOffset() {
+        return recordOffset;
+    }
+
+    /**
+     * @return encoded length of the last record returned
+     */
+    public int getRecordLength() {
+        return recordLength;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (resource != null) {
+            resource.close();
+        }
+    }
+
+    private boolean findNext() throws IOException {
+        if (nextEnd >= 0) {
+            return true;
+        }
+        while (true) {
+            if (pos < limit) {
+                int end;
+                try {
+                    end = MsgPackScanner.valueEnd(window, pos, limit);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("invalid record at offset " + (windowOffset + pos), e);
+                }
+                if (end != MsgPackScanner.INCOMPLETE) {
+                    nextEnd = end;
+                    return true;
+                }
+            }
+            if (eof) {
+                if (pos < limit) {
+                    throw new IOException("truncated record at offset " + (windowOffset + pos));
+                }
+                return false;
+            }
+            fill();
+        }
+    }
+
+    // Move the unread bytes to the front of the window and read more data, growing the window if a single
+    // record does not fit.
+    private void fill() throws IOException {
+        byte[] data = window.array();
+        int unread = limit - pos;
+        if (pos > 0) {
+            System.arraycopy(data, pos, data, 0, unread);
+            windowOffset += pos;
+            pos = 0;
+            limit = unread;
+        }
+        if (limit == data.length) {
+            if (data.length >= MAX_RECORD_SIZE) {
+                throw new IOException("record at offset " + windowOffset + " exceeds " + MAX_RECORD_SIZE + " bytes");
+            }
+            data = Arrays.copyOf(data, Math.min(data.length * 2, MAX_RECORD_SIZE));
+            window = ByteBuffer.wrap(data);
+        }
+        int n = in.read(data, limit, data.length - limit);
+        if (n < 0) {
+            eof = true;
+        } else {
+            limit += n;
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.account.Account;
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.crypto.LogicsigSignature;
+import com.algorand.algosdk.crypto.MultisigSignature;
+import com.algorand.algosdk.crypto.ParticipationPublicKey;
+import com.algorand.algosdk.crypto.Signature;
+import com.algorand.algosdk.crypto.VRFPublicKey;
+import com.algorand.algosdk.util.CanonicalCodec;
+import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.MsgPackScanner;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Read-only view of an encoded SignedTransaction.
+ *
+ * The encoded bytes are scanned once when the view is created to locate every field, values are only decoded
+ * when their accessor is called. Accessors return the same values as the fields of a SignedTransaction decoded
+ * with {@link com.algorand.algosdk.util.Encoder#decodeFromMsgPack(byte[], Class)}, including the defaults used for
+ * absent fields. The view holds on to the wrapped bytes, which must not be modified while it is in use.
+ *
+ * Views are immutable and may be shared between threads.
+ */
+public final class SignedTransactionView {
+    private static final byte[][] STX_KEYS = keys("lsig", "msig", "sig", "txn");
+    private static final int LSIG = 0;
+    private static final int MSIG = 1;
+    private static final int SIG = 2;
+    private static final int TXN = 3;
+
+    private static final byte[][] TXN_KEYS = keys(
+            "aamt", "aclose", "afrz", "amt", "apar", "arcv", "asnd", "caid", "close", "faid", "fadd", "fee", "fv",
+            "gen", "gh", "grp", "lv", "lx", "note", "rcv", "selkey", "snd", "type", "votefst", "votekd", "votekey",
+            "votelst", "xaid");
+    private static final int AAMT = 0;
+    private static final int ACLOSE = 1;
+    private static final int AFRZ = 2;
+    private static final int AMT = 3;
+    private static final int APAR = 4;
+    private static final int ARCV = 5;
+    private static final int ASND = 6;
+    private static final int CAID = 7;
+    private static final int CLOSE = 8;
+    private static final int FAID = 9;
+    private static final int FADD = 10;
+    private static final int FEE = 11;
+    private static final int FV = 12;
+    private static final int GEN = 13;
+    private static final int GH = 14;
+    private static final int GRP = 15;
+    private static final int LV = 16;
+    private static final int LX = 17;
+    private static final int NOTE = 18;
+    private static final int RCV = 19;
+    private static final int SELKEY = 20;
+    private static final int SND = 21;
+    private static final int TYPE = 22;
+    private static final int VOTEFST = 23;
+    private static final int VOTEKD = 24;
+    private static final int VOTEKEY = 25;
+    private static final int VOTELST = 26;
+    private static final int XAID = 27;
+
+    private final ByteBuffer buf;
+    private final int start;
+    private final int end;
+    // absolute position of each known value, or -1 if the field is absent or nil.
+    private final int[] stxFields = new int[STX_KEYS.length];
+    private final int[] txnFields = new int[TXN_KEYS.length];
+    private final int txnStart;
+    private final int txnEnd;
+
+    private SignedTransactionView(ByteBuffer buf, int start, int end) {
+        this.buf = buf;
+        this.start = start;
+        this.end = end;
+        Arrays.fill(stxFields, -1);
+        Arrays.fill(txnFields, -1);
+        if (MsgPackScanner.requireValueEnd(buf, start, end) != end) {
+            throw new IllegalArgumentException("unexpected data after the signed transaction at offset " + start);
+        }
+        indexMap(start, STX_KEYS, stxFields);
+        txnStart = stxFields[TXN];
+        txnEnd = txnStart >= 0 ? MsgPackScanner.requireValueEnd(buf, txnStart, end) : -1;
+        if (txnStart >= 0) {
+            indexMap(txnStart, TXN_KEYS, txnFields);
+        }
+    }
+
+    /**
+     * Wrap an encoded SignedTransaction.
+     * @param bytes the encoded signed transaction
+     * @return view of the transaction
+     * @throws IllegalArgumentException if the bytes are not a single msgpack encoded map
+     */
+    public static SignedTransactionView wrap(byte[] bytes) {
+        return wrap(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Wrap an encoded SignedTransaction held in part of an array.
+     * @param bytes array holding the encoded signed transaction
+     * @param offset position of the first byte
+     * @param length encoded length
+     * @return view of the transaction
+     * @throws IllegalArgumentException if the bytes are not a single msgpack encoded map
+     */
+    public static SignedTransactionView wrap(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("range " + offset + "+" + length + " outside of buffer");
+        }
+        return new SignedTransactionView(ByteBuffer.wrap(bytes), offset, offset + length);
+    }
+
+    /**
+     * Wrap the remaining bytes of a buffer, such as a record returned by
+     * {@link SignedTransactionReader#nextEncoded()}. The buffer position and limit are not modified.
+     * @param buf buffer holding the encoded signed transaction
+     * @return view of the transaction
+     * @throws IllegalArgumentException if the bytes are not a single msgpack encoded map
+     */
+    public static SignedTransactionView wrap(ByteBuffer buf) {
+        ByteBuffer dup = buf.duplicate();
+        return new SignedTransactionView(dup, dup.position(), dup.limit());
+    }
+
+    /**
+     * Locate the txn field of an encoded SignedTransaction without indexing the rest of it.
+     * @param buf buffer whose remaining bytes hold the encoded signed transaction
+     * @return slice holding the encoded transaction, or null if the txn field is absent
+     */
+    static ByteBuffer findTxn(ByteBuffer buf) {
+        int start = buf.position();
+        int end = buf.limit();
+        if (MsgPackScanner.requireValueEnd(buf, start, end) != end) {
+            throw new IllegalArgumentException("unexpected data after the signed transaction at offset " + start);
+        }
+        if (!MsgPackScanner.isMap(buf, start)) {
+            throw new IllegalArgumentException("expected a map at offset " + start);
+        }
+        int entries = MsgPackScanner.size(buf, start);
+        int p = start + MsgPackScanner.headerLength(buf, start);
+        for (int i = 0; i < entries; i++) {
+            int value = MsgPackScanner.requireValueEnd(buf, p, end);
+            int valueEnd = MsgPackScanner.requireValueEnd(buf, value, end);
+            if (MsgPackScanner.stringEquals(buf, p, STX_KEYS[TXN]) && !MsgPackScanner.isNil(buf, value)) {
+                ByteBuffer txn = buf.duplicate();
+                txn.limit(valueEnd);
+                txn.position(value);
+                return txn.slice();
+            }
+            p = valueEnd;
+        }
+        return null;
+    }
+
+    private void indexMap(int pos, byte[][] keys, int[] fields) {
+        if (!MsgPackScanner.isMap(buf, pos)) {
+            throw new IllegalArgumentException("expected a map at offset " + pos);
+        }
+        int entries = MsgPackScanner.size(buf, pos);
+        int p = pos + MsgPackScanner.headerLength(buf, pos);
+        for (int i = 0; i < entries; i++) {
+            int value = MsgPackScanner.requireValueEnd(buf, p, end);
+            int key = findKey(p, keys);
+            if (key >= 0 && !MsgPackScanner.isNil(buf, value)) {
+                fields[key] = value;
+            }
+            p = MsgPackScanner.requireValueEnd(buf, value, end);
+        }
+    }
+
+    private int findKey(int pos, byte[][] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            if (MsgPackScanner.stringEquals(buf, pos, keys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[][] keys(String... names) {
+        byte[][] keys = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            keys[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return keys;
+    }
+
+    /**
+     * @return the wrapped signed transaction bytes, read-only
+     */
+    public ByteBuffer bytes() {
+        return slice(start, end);
+    }
+
+    /**
+     * Return the exact encoded bytes of the txn field, which are the bytes signed and hashed for the
+     * transaction id after the "TX" prefix.
+     * @return read-only buffer holding the encoded transaction, or null if the txn field is absent
+     */
+    public ByteBuffer txnBytes() {
+        if (txnStart < 0) {
+            return null;
+        }
+        return slice(txnStart, txnEnd);
+    }
+
+    /**
+     * Return the transaction ID as Digest, computed over the encoded txn field.
+     */
+    public Digest rawTxID() {
+        if (txnStart < 0) {
+            throw new IllegalStateException("signed transaction has no txn field");
+        }
+        return Transaction.rawTxIDFromTxnBytes(slice(txnStart, txnEnd));
+    }
+
+    /**
+     * Return the transaction ID as string, computed over the encoded txn field.
+     */
+    public String txID() {
+        return Encoder.encodeToBase32StripPad(rawTxID().getBytes());
+    }
+
+    private ByteBuffer slice(int from, int to) {
+        ByteBuffer dup = buf.asReadOnlyBuffer();
+        dup.limit(to);
+        dup.position(from);
+        return dup.slice();
+    }
+
+    /**
+     * @return true if the transaction carries a single signature
+     */
+    public boolean hasSig() {
+        return stxFields[SIG] >= 0;
+    }
+
+    /**
+     * @return true if the transaction carries a multisig
+     */
+    public boolean hasMultisig() {
+        return stxFields[MSIG] >= 0;
+    }
+
+    /**
+     * @return true if the transaction carries a logicsig
+     */
+    public boolean hasLogicsig() {
+        return stxFields[LSIG] >= 0;
+    }
+
+    public Signature getSig() {
+        int pos = stxFields[SIG];
+        return pos < 0 ? new Signature() : new Signature(MsgPackScanner.readBytes(buf, pos));
+    }
+
+    public MultisigSignature getMultisig() {
+        int pos = stxFields[MSIG];
+        return pos < 0 ? new MultisigSignature() : decode(pos, MultisigSignature.class);
+    }
+
+    public LogicsigSignature getLogicsig() {
+        int pos = stxFields[LSIG];
+        return pos < 0 ? new LogicsigSignature() : decode(pos, LogicsigSignature.class);
+    }
+
+    /**
+     * Decode the complete transaction.
+     * @return the transaction
+     */
+    public Transaction getTransaction() {
+        return txnStart < 0 ? new Transaction() : decode(txnStart, Transaction.class);
+    }
+
+    /**
+     * Decode the complete signed transaction.
+     * @return the signed transaction
+     */
+    public SignedTransaction toSignedTransaction() {
+        return decode(start, SignedTransaction.class);
+    }
+
+    public Transaction.Type getType() {
+        int pos = txnFields[TYPE];
+        return pos < 0 ? Transaction.Type.Default : Transaction.Type.forValue(MsgPackScanner.readString(buf, pos));
+    }
+
+    public Address getSender() {
+        return address(SND);
+    }
+
+    public BigInteger getFee() {
+        int pos = txnFields[FEE];
+        return pos < 0 ? Account.MIN_TX_FEE_UALGOS : MsgPackScanner.readBigInteger(buf, pos);
+    }
+
+    public BigInteger getFirstValid() {
+        return integer(FV);
+    }
+
+    public BigInteger getLastValid() {
+        return integer(LV);
+    }
+
+    public byte[] getNote() {
+        return optionalBytes(NOTE);
+    }
+
+    public String getGenesisID() {
+        int pos = txnFields[GEN];
+        return pos < 0 ? "" : MsgPackScanner.readString(buf, pos);
+    }
+
+    public Digest getGenesisHash() {
+        return digest(GH);
+    }
+
+    public Digest getGroup() {
+        return digest(GRP);
+    }
+
+    public byte[] getLease() {
+        return optionalBytes(LX);
+    }
+
+    public BigInteger getAmount() {
+        return integer(AMT);
+    }
+
+    public Address getReceiver() {
+        return address(RCV);
+    }
+
+    public Address getCloseRemainderTo() {
+        return address(CLOSE);
+    }
+
+    public ParticipationPublicKey getVotePK() {
+        int pos = txnFields[VOTEKEY];
+        return pos < 0 ? new ParticipationPublicKey() : new ParticipationPublicKey(MsgPackScanner.readBytes(buf, pos));
+    }
+
+    public VRFPublicKey getSelectionPK() {
+        int pos = txnFields[SELKEY];
+        return pos < 0 ? new VRFPublicKey() : new VRFPublicKey(MsgPackScanner.readBytes(buf, pos));
+    }
+
+    public BigInteger getVoteFirst() {
+        return integer(VOTEFST);
+    }
+
+    public BigInteger getVoteLast() {
+        return integer(VOTELST);
+    }
+
+    public BigInteger getVoteKeyDilution() {
+        return integer(VOTEKD);
+    }
+
+    public Transaction.AssetParams getAssetParams() {
+        int pos = txnFields[APAR];
+        return pos < 0 ? new Transaction.AssetParams() : decode(pos, Transaction.AssetParams.class);
+    }
+
+    public BigInteger getAssetIndex() {
+        return integer(CAID);
+    }
+
+    public BigInteger getXferAsset() {
+        return integer(XAID);
+    }
+
+    public BigInteger getAssetAmount() {
+        return integer(AAMT);
+    }
+
+    public Address getAssetSender() {
+        return address(ASND);
+    }
+
+    public Address getAssetReceiver() {
+        return address(ARCV);
+    }
+
+    public Address getAssetCloseTo() {
+        return address(ACLOSE);
+    }
+
+    public Address getFreezeTarget() {
+        return address(FADD);
+    }
+
+    public BigInteger getAssetFreezeID() {
+        return integer(FAID);
+    }
+
+    public boolean getFreezeState() {
+        int pos = txnFields[AFRZ];
+        return pos >= 0 && MsgPackScanner.readBoolean(buf, pos);
+    }
+
+    private Address address(int field) {
+        int pos = txnFields[field];
+        return pos < 0 ? new Address() : new Address(MsgPackScanner.readBytes(buf, pos));
+    }
+
+    private Digest digest(int field) {
+        int pos = txnFields[field];
+        return pos < 0 ? new Digest() : new Digest(MsgPackScanner.readBytes(buf, pos));
+    }
+
+    private BigInteger integer(int field) {
+        int pos = txnFields[field];
+        return pos < 0 ? BigInteger.valueOf(0) : MsgPackScanner.readBigInteger(buf, pos);
+    }
+
+    private byte[] optionalBytes(int field) {
+        int pos = txnFields[field];
+        if (pos < 0 || MsgPackScanner.size(buf, pos) == 0) {
+            return null;
+        }
+        return MsgPackScanner.readBytes(buf, pos);
+    }
+
+    private <T> T decode(int pos, Class<T> tClass) {
+        int valueEnd = MsgPackScanner.requireValueEnd(buf, pos, end);
+        try {
+            if (buf.hasArray()) {
+                return CanonicalCodec.msgpack().decode(buf.array(), buf.arrayOffset() + pos, valueEnd - pos, tClass);
+            }
+            byte[] copy = new byte[valueEnd - pos];
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = buf.get(pos + i);
+            }
+            return CanonicalCodec.msgpack().decode(copy, 0, copy.length, tClass);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("invalid " + tClass.getSimpleName() + " at offset " + pos, e);
+        }
+    }
+}
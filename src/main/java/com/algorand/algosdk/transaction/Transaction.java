@@ -8,16 +8,20 @@ import com.algorand.algosdk.crypto.ParticipationPublicKey;
 import com.algorand.algosdk.crypto.VRFPublicKey;
 import com.algorand.algosdk.util.Digester;
 import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.MsgPackWriter;
 import com.fasterxml.jackson.annotation.*;
 import org.apache.commons.codec.binary.Base64;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -28,6 +32,7 @@ import java.util.Objects;
 @JsonPropertyOrder(alphabetic=true)
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public class Transaction implements Serializable {
+    private static final long serialVersionUID = 7077544170247368205L;
     private static final byte[] TX_SIGN_PREFIX = ("TX").getBytes(StandardCharsets.UTF_8);
     @JsonProperty("type")
     public Type type = Type.Default;
@@ -1037,11 +1042,7 @@ public class Transaction implements Serializable {
      * Return encoded representation of the transaction
      */
     public byte[] bytes() throws IOException {
-        try {
-            return Encoder.encodeToMsgPack(this);
-        } catch (IOException e) {
-            throw new RuntimeException("serialization failed", e);
-        }
+        return CanonicalEncoder.encode(this);
     }
 
     /**
@@ -1049,28 +1050,29 @@ public class Transaction implements Serializable {
      * suitable for signing
      */
     public byte[] bytesToSign() throws IOException {
-        try {
-            byte[] encodedTx = Encoder.encodeToMsgPack(this);
-            byte[] prefixEncodedTx = new byte[encodedTx.length + TX_SIGN_PREFIX.length];
-            System.arraycopy(TX_SIGN_PREFIX, 0, prefixEncodedTx, 0, TX_SIGN_PREFIX.length);
-            System.arraycopy(encodedTx, 0, prefixEncodedTx, TX_SIGN_PREFIX.length, encodedTx.length);
-            return prefixEncodedTx;
-        } catch (IOException e) {
-            throw new RuntimeException("serialization failed", e);
-        }
+        MsgPackWriter out = new MsgPackWriter();
+        out.writeRaw(TX_SIGN_PREFIX);
+        CanonicalEncoder.writeTransaction(out, this);
+        return out.toByteArray();
     }
 
     /**
      * Return transaction ID as Digest
      */
     public Digest rawTxID() throws IOException {
-        try {
-         return new Digest(Digester.digest(this.bytesToSign()));
-        } catch (IOException e) {
-            throw new RuntimeException("tx computation failed", e);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("tx computation failed", e);
-        }
+        MsgPackWriter out = new MsgPackWriter();
+        CanonicalEncoder.writeTransaction(out, this);
+        return new Digest(Digester.digest(TX_SIGN_PREFIX, out.buffer(), out.offset(), out.length()));
+    }
+
+    /**
+     * Write the raw transaction ID of tx into out.
+     * @param scratch writer used for the encoding, reset before use
+     */
+    static void rawTxIDInto(Transaction tx, MsgPackWriter scratch, byte[] out, int offset) {
+        scratch.reset();
+        CanonicalEncoder.writeTransaction(scratch, tx);
+        Digester.digestInto(TX_SIGN_PREFIX, scratch.buffer(), scratch.offset(), scratch.length(), out, offset);
     }
 
     /**
@@ -1080,6 +1082,93 @@ public class Transaction implements Serializable {
         return Encoder.encodeToBase32StripPad(this.rawTxID().getBytes());
     }
 
+    /**
+     * Create an immutable snapshot of this transaction, which encodes and hashes it once and serves the bytes and
+     * transaction ID from that encoding, see {@link FrozenTransaction}.
+     * @throws IllegalArgumentException if a numeric field is null, negative or larger than 2^64-1, or this is a
+     * subclass of Transaction
+     */
+    public FrozenTransaction freeze() {
+        return FrozenTransaction.of(this);
+    }
+
+    /**
+     * Return the transaction ID of an encoded SignedTransaction as Digest. The encoded txn field is
+     * hashed in place, the transaction is neither decoded nor re-encoded.
+     * @param encodedSignedTransaction msgpack encoded SignedTransaction
+     * @throws IllegalArgumentException if the bytes are not an encoded SignedTransaction
+     */
+    public static Digest rawTxIDFromSignedBytes(byte[] encodedSignedTransaction) {
+        return rawTxIDFromSignedBytes(ByteBuffer.wrap(encodedSignedTransaction));
+    }
+
+    /**
+     * Return the transaction ID of an encoded SignedTransaction as Digest. The encoded txn field is
+     * hashed in place, the transaction is neither decoded nor re-encoded.
+     * @param encodedSignedTransaction buffer whose remaining bytes hold a msgpack encoded SignedTransaction,
+     *                                 its position and limit are not modified
+     * @throws IllegalArgumentException if the bytes are not an encoded SignedTransaction
+     */
+    public static Digest rawTxIDFromSignedBytes(ByteBuffer encodedSignedTransaction) {
+        ByteBuffer txn = SignedTransactionView.findTxn(encodedSignedTransaction);
+        if (txn == null) {
+            throw new IllegalArgumentException("signed transaction has no txn field");
+        }
+        return rawTxIDFromTxnBytes(txn);
+    }
+
+    /**
+     * Return the transaction ID of an encoded SignedTransaction as string.
+     * @param encodedSignedTransaction msgpack encoded SignedTransaction
+     * @throws IllegalArgumentException if the bytes are not an encoded SignedTransaction
+     */
+    public static String txIDFromSignedBytes(byte[] encodedSignedTransaction) {
+        return Encoder.encodeToBase32StripPad(rawTxIDFromSignedBytes(encodedSignedTransaction).getBytes());
+    }
+
+    /**
+     * Return the transaction IDs of concatenated encoded SignedTransactions, such as an encoded group or
+     * the contents of a file which may be memory mapped.
+     * @param encodedSignedTransactions buffer whose remaining bytes hold the encoded SignedTransactions,
+     *                                  its position and limit are not modified
+     * @return transaction IDs in input order
+     * @throws IllegalArgumentException if the bytes are not encoded SignedTransactions
+     */
+    public static List<Digest> rawTxIDsFromSignedBytes(ByteBuffer encodedSignedTransactions) {
+        SignedTransactionReader reader = SignedTransactionReader.fromBuffer(encodedSignedTransactions);
+        List<Digest> ids = new ArrayList<>();
+        try {
+            for (ByteBuffer record = reader.readEncoded(); record != null; record = reader.readEncoded()) {
+                ids.add(rawTxIDFromSignedBytes(record));
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("invalid signed transactions", e);
+        }
+        return ids;
+    }
+
+    /**
+     * Return the transaction IDs of concatenated encoded SignedTransactions as strings.
+     * @param encodedSignedTransactions the encoded SignedTransactions
+     * @return transaction IDs in input order
+     * @throws IllegalArgumentException if the bytes are not encoded SignedTransactions
+     */
+    public static List<String> txIDsFromSignedBytes(byte[] encodedSignedTransactions) {
+        List<Digest> raw = rawTxIDsFromSignedBytes(ByteBuffer.wrap(encodedSignedTransactions));
+        List<String> ids = new ArrayList<>(raw.size());
+        for (Digest id : raw) {
+            ids.add(Encoder.encodeToBase32StripPad(id.getBytes()));
+        }
+        return ids;
+    }
+
+    /**
+     * Hash the "TX" prefix followed by an encoded transaction.
+     */
+    static Digest rawTxIDFromTxnBytes(ByteBuffer txn) {
+        return new Digest(Digester.digest(TX_SIGN_PREFIX, txn));
+    }
+
     public void assignGroupID(Digest gid) {
         this.group = gid;
     }
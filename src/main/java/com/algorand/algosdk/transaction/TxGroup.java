@@ -3,15 +3,14 @@ package com.algorand.algosdk.transaction;
 import com.algorand.algosdk.crypto.Address;
 import com.algorand.algosdk.crypto.Digest;
 import com.algorand.algosdk.util.Digester;
-import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.MsgPackWriter;
 import com.fasterxml.jackson.annotation.*;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
-import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.List;
 
 /**
  * TxGroup exports computeGroupID and assignGroupID functions
@@ -19,7 +18,10 @@ import java.util.Arrays;
 @JsonPropertyOrder(alphabetic=true)
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 public class TxGroup implements Serializable{
+    private static final long serialVersionUID = 1645766690720083900L;
     private static final byte[] TG_PREFIX = ("TG").getBytes(StandardCharsets.UTF_8);
+    // msgpack encoding of the "txlist" key.
+    private static final byte[] TXLIST_KEY = {(byte) 0xa6, 't', 'x', 'l', 'i', 's', 't'};
 
     @JsonProperty("txlist")
     private Digest[] txGroupHashes;
@@ -33,18 +35,53 @@ public class TxGroup implements Serializable{
         if (txns == null || txns.length == 0) {
             throw new IllegalArgumentException("empty transaction list");
         }
-        Digest[] txIDs = new Digest[txns.length];
+        MsgPackWriter scratch = new MsgPackWriter();
+        byte[] txIDs = new byte[txns.length * Digester.DIGEST_LEN];
         for (int i = 0; i < txns.length; i++) {
-            txIDs[i] = txns[i].rawTxID();
+            Transaction.rawTxIDInto(txns[i], scratch, txIDs, i * Digester.DIGEST_LEN);
         }
+        byte[] gid = new byte[Digester.DIGEST_LEN];
+        computeGroupID(txIDs, 0, txns.length, scratch, gid, 0);
+        return new Digest(gid);
+    }
 
-        TxGroup txgroup = new TxGroup(txIDs);
-        try {
-            byte[] gid = Digester.digest(txgroup.bytesToSign());
-            return new Digest(gid);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("tx computation failed", e);
+    /**
+     * Compute group ID for a group of transaction snapshots, from the transaction IDs they already hold.
+     * @param txns transaction snapshots
+     * @return Digest
+     */
+    public static Digest computeGroupID(List<FrozenTransaction> txns) {
+        if (txns == null || txns.isEmpty()) {
+            throw new IllegalArgumentException("empty transaction list");
+        }
+        byte[] txIDs = new byte[txns.size() * Digester.DIGEST_LEN];
+        for (int i = 0; i < txns.size(); i++) {
+            txns.get(i).rawTxID().writeTo(txIDs, i * Digester.DIGEST_LEN);
+        }
+        byte[] gid = new byte[Digester.DIGEST_LEN];
+        computeGroupID(txIDs, 0, txns.size(), new MsgPackWriter(), gid, 0);
+        return new Digest(gid);
+    }
+
+    /**
+     * Compute a group ID from concatenated raw transaction IDs. The TxGroup encoding is written directly,
+     * which matches Encoder.encodeToMsgPack(new TxGroup(txIDs)).
+     * @param txIDs array holding the 32 byte transaction IDs
+     * @param offset position of the first transaction ID
+     * @param count number of transactions in the group
+     * @param scratch writer used for the encoding, reset before use
+     * @param out destination of the 32 byte group ID
+     * @param outOffset position of the group ID in out
+     */
+    static void computeGroupID(byte[] txIDs, int offset, int count, MsgPackWriter scratch, byte[] out, int outOffset) {
+        scratch.reset();
+        scratch.writeMapHeader(1);
+        scratch.writeRaw(TXLIST_KEY);
+        scratch.writeArrayHeader(count);
+        for (int i = 0; i < count; i++) {
+            scratch.writeBinary(txIDs, offset + i * Digester.DIGEST_LEN, Digester.DIGEST_LEN);
         }
+        Digester.digestInto(TG_PREFIX, scratch.buffer(), scratch.offset(), scratch.length(), out, outOffset);
     }
 
     /**
@@ -89,23 +126,25 @@ public class TxGroup implements Serializable{
         return result.toArray(new Transaction[result.size()]);
     }
 
-    @JsonCreator
-    private TxGroup(@JsonProperty("txlist") Digest[] txGroupHashes) {
-        this.txGroupHashes = txGroupHashes;
-    }
-
     /**
-     * Return encoded representation of the transaction with a prefix
-     * suitable for signing
+     * Assigns group id to a group of transaction snapshots. Snapshots are immutable and the group is part of the
+     * encoding, so the result holds new snapshots.
+     * @param txns transaction snapshots
+     * @return the snapshots with the group ID assigned, in input order
      */
-    private byte[] bytesToSign() throws IOException {
-        try {
-            byte[] encodedTx = Encoder.encodeToMsgPack(this);
-            byte[] prefixEncodedTx = Arrays.copyOf(TG_PREFIX, TG_PREFIX.length + encodedTx.length);
-            System.arraycopy(encodedTx, 0, prefixEncodedTx, TG_PREFIX.length, encodedTx.length);
-            return prefixEncodedTx;
-        } catch (IOException e) {
-            throw new RuntimeException("serialization failed", e);
+    public static List<FrozenTransaction> assignGroupID(List<FrozenTransaction> txns) {
+        Digest gid = computeGroupID(txns);
+        List<FrozenTransaction> result = new ArrayList<FrozenTransaction>(txns.size());
+        for (FrozenTransaction frozen : txns) {
+            Transaction tx = frozen.getTransaction();
+            tx.assignGroupID(gid);
+            result.add(tx.freeze());
         }
+        return result;
+    }
+
+    @JsonCreator
+    private TxGroup(@JsonProperty("txlist") Digest[] txGroupHashes) {
+        this.txGroupHashes = txGroupHashes;
     }
 }
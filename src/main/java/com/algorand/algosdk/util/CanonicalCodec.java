@@ -0,0 +1,233 @@
+package com.algorand.algosdk.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared codec engine backing the static helpers in {@link Encoder}.
+ *
+ * Mappers are configured once for the Algorand canonical encoding. The ObjectReader and ObjectWriter
+ * instances derived from them are immutable and thread-safe, so one of each is cached per target class
+ * and reused by every caller, up to {@link #MAX_CACHED_CLASSES} classes per codec; readers and writers for further
+ * classes are created on each call. Encoding writes into a per-thread output buffer which is recycled between calls.
+ */
+public final class CanonicalCodec {
+    // Buffers which grew beyond this size are released instead of being kept by the thread.
+    private static final int MAX_RECYCLED_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    /**
+     * Largest number of classes whose reader, and writer, is cached by one codec.
+     */
+    public static final int MAX_CACHED_CLASSES = 256;
+
+    private static final CanonicalCodec MSGPACK = new CanonicalCodec(canonicalMapper(new MessagePackFactory()));
+    private static final CanonicalCodec JSON = new CanonicalCodec(canonicalMapper(new JsonFactory()));
+    // Json decoding has always used an unconfigured mapper, keep it that way.
+    private static final CanonicalCodec PLAIN_JSON = new CanonicalCodec(new ObjectMapper());
+
+    private final ObjectMapper mapper;
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final ThreadLocal<RecyclableOutputStream> buffers = new ThreadLocal<RecyclableOutputStream>() {
+        @Override
+        protected RecyclableOutputStream initialValue() {
+            return new RecyclableOutputStream();
+        }
+    };
+
+    private CanonicalCodec(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * @return the codec producing canonical msgpack.
+     */
+    public static CanonicalCodec msgpack() {
+        return MSGPACK;
+    }
+
+    /**
+     * @return the codec producing canonical (sorted, default values omitted) json.
+     */
+    public static CanonicalCodec json() {
+        return JSON;
+    }
+
+    /**
+     * @return a json codec with Jackson's default settings.
+     */
+    public static CanonicalCodec plainJson() {
+        return PLAIN_JSON;
+    }
+
+    private static ObjectMapper canonicalMapper(JsonFactory factory) {
+        ObjectMapper objectMapper = new ObjectMapper(factory);
+        // It is important to sort fields alphabetically to match the Algorand canonical encoding
+        objectMapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        // There's some odd bug in Jackson < 2.8.? where null values are not excluded. See:
+        // https://github.com/FasterXML/jackson-databind/issues/1351. So we will
+        // also annotate all fields manually
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_DEFAULT);
+        return objectMapper;
+    }
+
+    /**
+     * Get the cached writer for the given class.
+     * @param tClass class of the objects to encode
+     * @return a thread-safe ObjectWriter
+     */
+    public ObjectWriter writerFor(Class<?> tClass) {
+        ObjectWriter writer = writers.get(tClass);
+        if (writer == null) {
+            writer = mapper.writerFor(tClass);
+            if (writers.size() < MAX_CACHED_CLASSES) {
+                ObjectWriter existing = writers.putIfAbsent(tClass, writer);
+                if (existing != null) {
+                    writer = existing;
+                }
+            }
+        }
+        return writer;
+    }
+
+    // null has no class, it is encoded by the untyped writer like the mapper itself would.
+    private ObjectWriter writerForValue(Object o) {
+        return o == null ? mapper.writer() : writerFor(o.getClass());
+    }
+
+    int cachedWriterCount() {
+        return writers.size();
+    }
+
+    /**
+     * Get the cached reader for the given class.
+     * @param tClass class of the objects to decode
+     * @return a thread-safe ObjectReader
+     */
+    public ObjectReader readerFor(Class<?> tClass) {
+        ObjectReader reader = readers.get(tClass);
+        if (reader == null) {
+            reader = mapper.readerFor(tClass);
+            if (readers.size() < MAX_CACHED_CLASSES) {
+                ObjectReader existing = readers.putIfAbsent(tClass, reader);
+                if (existing != null) {
+                    reader = existing;
+                }
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * Encode an object.
+     * @param o object to encode
+     * @return encoded bytes
+     * @throws JsonProcessingException if serialization failed
+     */
+    public byte[] encode(Object o) throws JsonProcessingException {
+        RecyclableOutputStream out = buffers.get();
+        out.reset();
+        try {
+            writerForValue(o).writeValue(out, o);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            // writing to memory does not fail, anything else is a serialization problem.
+            throw new IllegalStateException("serialization failed", e);
+        }
+        byte[] result = out.toByteArray();
+        if (out.capacity() > MAX_RECYCLED_BUFFER_SIZE) {
+            buffers.remove();
+        }
+        return result;
+    }
+
+    /**
+     * Encode an object as a string. Only meaningful for text based codecs.
+     * @param o object to encode
+     * @return encoded string
+     * @throws JsonProcessingException if serialization failed
+     */
+    public String encodeToString(Object o) throws JsonProcessingException {
+        return writerForValue(o).writeValueAsString(o);
+    }
+
+    /**
+     * Encode an object into the given stream.
+     * @param o object to encode
+     * @param out destination stream
+     * @throws IOException if serialization or writing failed
+     */
+    public void encode(Object o, OutputStream out) throws IOException {
+        writerForValue(o).writeValue(out, o);
+    }
+
+    /**
+     * Decode an object.
+     * @param input encoded bytes
+     * @param tClass class of type of object to deserialize as
+     * @param <T> object type
+     * @return decoded object
+     * @throws IOException if decoding failed
+     */
+    public <T> T decode(byte[] input, Class<T> tClass) throws IOException {
+        return readerFor(tClass).readValue(input);
+    }
+
+    /**
+     * Decode an object from a region of a byte array.
+     * @param input encoded bytes
+     * @param offset start of the encoded object
+     * @param length length of the encoded object
+     * @param tClass class of type of object to deserialize as
+     * @param <T> object type
+     * @return decoded object
+     * @throws IOException if decoding failed
+     */
+    public <T> T decode(byte[] input, int offset, int length, Class<T> tClass) throws IOException {
+        return readerFor(tClass).readValue(input, offset, length);
+    }
+
+    /**
+     * Decode an object from a string. Only meaningful for text based codecs.
+     * @param input encoded string
+     * @param tClass class of type of object to deserialize as
+     * @param <T> object type
+     * @return decoded object
+     * @throws IOException if decoding failed
+     */
+    public <T> T decode(String input, Class<T> tClass) throws IOException {
+        return readerFor(tClass).readValue(input);
+    }
+
+    // ByteArrayOutputStream which exposes its capacity so oversized buffers can be dropped.
+    private static final class RecyclableOutputStream extends ByteArrayOutputStream {
+        RecyclableOutputStream() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+
+        @Override
+        public void close() {
+            // the stream is reused, ignore the close issued by the generator.
+        }
+    }
+}
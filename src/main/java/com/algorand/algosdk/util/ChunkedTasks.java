@@ -0,0 +1,82 @@
+package com.algorand.algosdk.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Splits a range of indexes into chunks and runs one task per chunk on an executor.
+ *
+ * The caller waits for all tasks. The first failure is rethrown as thrown by the task: as the declared checked
+ * exception, a RuntimeException or an Error. Once the caller stops waiting, whether it returns, fails or is
+ * interrupted, the tasks still queued or running are cancelled.
+ */
+public final class ChunkedTasks {
+    /**
+     * Work done for one chunk.
+     * @param <T> result of a chunk
+     * @param <E> checked exception thrown by a chunk
+     */
+    public interface Chunk<T, E extends Exception> {
+        /**
+         * Process indexes [from, to).
+         * @param chunk index of the chunk, starting at 0
+         * @return result of the chunk
+         */
+        T run(int chunk, int from, int to) throws E;
+    }
+
+    private ChunkedTasks() {
+    }
+
+    /**
+     * Run task on every chunk of [0, count), each chunk holding chunkSize indexes except possibly the last.
+     * @param executor executor running the tasks
+     * @param exceptionType checked exception the task may throw, RuntimeException if none
+     * @return the result of each chunk, in chunk order
+     * @throws E if a task threw it
+     * @throws InterruptedException if interrupted while waiting for the tasks
+     */
+    public static <T, E extends Exception> List<T> run(ExecutorService executor, int count, int chunkSize,
+                                                       Class<E> exceptionType, final Chunk<T, E> task)
+            throws E, InterruptedException {
+        List<Future<T>> futures = new ArrayList<>();
+        try {
+            for (int from = 0, c = 0; from < count; from += chunkSize, c++) {
+                final int chunk = c;
+                final int start = from;
+                final int end = Math.min(count, from + chunkSize);
+                futures.add(executor.submit(new Callable<T>() {
+                    @Override
+                    public T call() throws E {
+                        return task.run(chunk, start, end);
+                    }
+                }));
+            }
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (exceptionType.isInstance(cause)) {
+                throw exceptionType.cast(cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException("unexpected behavior", cause);
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+}
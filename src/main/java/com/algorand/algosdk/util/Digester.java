@@ -1,16 +1,134 @@
 package com.algorand.algosdk.util;
 
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
 
+/**
+ * SHA-512/256 hashing.
+ *
+ * Each thread keeps its own MessageDigest, so the provider lookup happens once per thread instead of once per
+ * hash. The provider implementation is preferred, {@link Sha512_256} is used if no provider offers the algorithm.
+ * The multi-segment methods hash a domain separation prefix and a body without joining them in a temporary array.
+ */
 public class Digester {
+    /**
+     * Length of a SHA-512/256 digest in bytes.
+     */
+    public static final int DIGEST_LEN = 32;
+
     // Used to select hash/digest algorithm from provider
-    private static final String SHA256_ALG = "SHA-512/256";
+    private static final String SHA256_ALG = Sha512_256.ALGORITHM;
+
+    private static final ThreadLocal<MessageDigest> ENGINES = new ThreadLocal<MessageDigest>() {
+        @Override
+        protected MessageDigest initialValue() {
+            CryptoProvider.setupIfNeeded();
+            try {
+                return MessageDigest.getInstance(SHA256_ALG);
+            } catch (NoSuchAlgorithmException e) {
+                return new Sha512_256();
+            }
+        }
+    };
+
+    // The thread's digest, reset. Callers must not call out to other code before the digest is finished.
+    private static MessageDigest engine() {
+        MessageDigest digest = ENGINES.get();
+        digest.reset();
+        return digest;
+    }
 
     public static byte[] digest(byte[] data) throws NoSuchAlgorithmException {
-        CryptoProvider.setupIfNeeded();
-        java.security.MessageDigest digest = java.security.MessageDigest.getInstance(SHA256_ALG);
-        digest.update(Arrays.copyOf(data, data.length));
+        return digest(data, 0, data.length);
+    }
+
+    /**
+     * Hash part of an array.
+     */
+    public static byte[] digest(byte[] data, int offset, int length) {
+        MessageDigest digest = engine();
+        digest.update(data, offset, length);
+        return digest.digest();
+    }
+
+    /**
+     * Hash a prefix followed by a body.
+     */
+    public static byte[] digest(byte[] prefix, byte[] body) {
+        return digest(prefix, body, 0, body.length);
+    }
+
+    /**
+     * Hash a prefix followed by part of a body array.
+     */
+    public static byte[] digest(byte[] prefix, byte[] body, int offset, int length) {
+        MessageDigest digest = engine();
+        digest.update(prefix);
+        digest.update(body, offset, length);
+        return digest.digest();
+    }
+
+    /**
+     * Hash a prefix followed by the remaining bytes of a buffer, without copying them into a single array.
+     * The buffer position and limit are not modified.
+     */
+    public static byte[] digest(byte[] prefix, ByteBuffer data) {
+        MessageDigest digest = engine();
+        digest.update(prefix);
+        digest.update(data.duplicate());
         return digest.digest();
     }
+
+    /**
+     * Hash part of an array, writing the {@link #DIGEST_LEN} byte digest into out.
+     * @throws IndexOutOfBoundsException if out has no room for the digest
+     */
+    public static void digestInto(byte[] data, int offset, int length, byte[] out, int outOffset) {
+        checkOutput(out, outOffset);
+        MessageDigest digest = engine();
+        digest.update(data, offset, length);
+        finish(digest, out, outOffset);
+    }
+
+    /**
+     * Hash a prefix followed by part of a body array, writing the {@link #DIGEST_LEN} byte digest into out.
+     * @throws IndexOutOfBoundsException if out has no room for the digest
+     */
+    public static void digestInto(byte[] prefix, byte[] body, int offset, int length, byte[] out, int outOffset) {
+        checkOutput(out, outOffset);
+        MessageDigest digest = engine();
+        digest.update(prefix);
+        digest.update(body, offset, length);
+        finish(digest, out, outOffset);
+    }
+
+    /**
+     * Hash a prefix followed by the remaining bytes of a buffer, writing the {@link #DIGEST_LEN} byte digest
+     * into out. The buffer position and limit are not modified.
+     * @throws IndexOutOfBoundsException if out has no room for the digest
+     */
+    public static void digestInto(byte[] prefix, ByteBuffer data, byte[] out, int outOffset) {
+        checkOutput(out, outOffset);
+        MessageDigest digest = engine();
+        digest.update(prefix);
+        digest.update(data.duplicate());
+        finish(digest, out, outOffset);
+    }
+
+    private static void checkOutput(byte[] out, int outOffset) {
+        if (outOffset < 0 || outOffset > out.length - DIGEST_LEN) {
+            throw new IndexOutOfBoundsException("no room for a digest at offset " + outOffset);
+        }
+    }
+
+    private static void finish(MessageDigest digest, byte[] out, int outOffset) {
+        try {
+            digest.digest(out, outOffset, DIGEST_LEN);
+        } catch (DigestException e) {
+            // the output range was checked up front.
+            throw new RuntimeException("unexpected behavior", e);
+        }
+    }
 }
@@ -0,0 +1,334 @@
+package com.algorand.algosdk.util;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Structural scanner for msgpack data. Finds value boundaries without decoding the values, which allows
+ * locating records and sub-objects inside encoded data in place.
+ *
+ * All offsets are absolute positions in the given buffer, the buffer position and limit are never modified.
+ */
+public final class MsgPackScanner {
+    /**
+     * Returned when the value extends beyond the end of the available data.
+     */
+    public static final int INCOMPLETE = -1;
+
+    private MsgPackScanner() {
+    }
+
+    /**
+     * Find the end of the msgpack value starting at pos.
+     * @param buf data
+     * @param pos absolute position of the first byte of the value
+     * @param limit absolute position following the last available byte
+     * @return absolute position following the value, or {@link #INCOMPLETE} if the data ends before the value
+     * @throws IllegalArgumentException if the data is not valid msgpack
+     */
+    public static int valueEnd(ByteBuffer buf, int pos, int limit) {
+        long remaining = 1;
+        long p = pos;
+        while (remaining > 0) {
+            if (p >= limit) {
+                return INCOMPLETE;
+            }
+            int b = buf.get((int) p) & 0xff;
+            remaining--;
+            if (b <= 0x7f || b >= 0xe0) {
+                // positive or negative fixint
+                p += 1;
+            } else if (b <= 0x8f) {
+                remaining += 2L * (b & 0x0f);
+                p += 1;
+            } else if (b <= 0x9f) {
+                remaining += b & 0x0f;
+                p += 1;
+            } else if (b <= 0xbf) {
+                p += 1 + (b & 0x1f);
+            } else {
+                switch (b) {
+                    case 0xc0: // nil
+                    case 0xc2: // false
+                    case 0xc3: // true
+                        p += 1;
+                        break;
+                    case 0xc4: // bin8
+                    case 0xd9: // str8
+                        if (p + 2 > limit) return INCOMPLETE;
+                        p += 2 + readLength(buf, (int) p + 1, 1);
+                        break;
+                    case 0xc5: // bin16
+                    case 0xda: // str16
+                        if (p + 3 > limit) return INCOMPLETE;
+                        p += 3 + readLength(buf, (int) p + 1, 2);
+                        break;
+                    case 0xc6: // bin32
+                    case 0xdb: // str32
+                        if (p + 5 > limit) return INCOMPLETE;
+                        p += 5 + readLength(buf, (int) p + 1, 4);
+                        break;
+                    case 0xc7: // ext8
+                        if (p + 2 > limit) return INCOMPLETE;
+                        p += 3 + readLength(buf, (int) p + 1, 1);
+                        break;
+                    case 0xc8: // ext16
+                        if (p + 3 > limit) return INCOMPLETE;
+                        p += 4 + readLength(buf, (int) p + 1, 2);
+                        break;
+                    case 0xc9: // ext32
+                        if (p + 5 > limit) return INCOMPLETE;
+                        p += 6 + readLength(buf, (int) p + 1, 4);
+                        break;
+                    case 0xcc: // uint8
+                    case 0xd0: // int8
+                        p += 2;
+                        break;
+                    case 0xcd: // uint16
+                    case 0xd1: // int16
+                        p += 3;
+                        break;
+                    case 0xca: // float32
+                    case 0xce: // uint32
+                    case 0xd2: // int32
+                        p += 5;
+                        break;
+                    case 0xcb: // float64
+                    case 0xcf: // uint64
+                    case 0xd3: // int64
+                        p += 9;
+                        break;
+                    case 0xd4: // fixext1
+                        p += 3;
+                        break;
+                    case 0xd5: // fixext2
+                        p += 4;
+                        break;
+                    case 0xd6: // fixext4
+                        p += 6;
+                        break;
+                    case 0xd7: // fixext8
+                        p += 10;
+                        break;
+                    case 0xd8: // fixext16
+                        p += 18;
+                        break;
+                    case 0xdc: // array16
+                        if (p + 3 > limit) return INCOMPLETE;
+                        remaining += readLength(buf, (int) p + 1, 2);
+                        p += 3;
+                        break;
+                    case 0xdd: // array32
+                        if (p + 5 > limit) return INCOMPLETE;
+                        remaining += readLength(buf, (int) p + 1, 4);
+                        p += 5;
+                        break;
+                    case 0xde: // map16
+                        if (p + 3 > limit) return INCOMPLETE;
+                        remaining += 2 * readLength(buf, (int) p + 1, 2);
+                        p += 3;
+                        break;
+                    case 0xdf: // map32
+                        if (p + 5 > limit) return INCOMPLETE;
+                        remaining += 2 * readLength(buf, (int) p + 1, 4);
+                        p += 5;
+                        break;
+                    default:
+                        throw new IllegalArgumentException(String.format("invalid msgpack type byte 0x%02x at offset %d", b, p));
+                }
+            }
+        }
+        if (p > limit) {
+            return INCOMPLETE;
+        }
+        return (int) p;
+    }
+
+    /**
+     * Find the end of a value which must be complete.
+     * @throws IllegalArgumentException if the data is not valid msgpack or the value is truncated
+     */
+    public static int requireValueEnd(ByteBuffer buf, int pos, int limit) {
+        int end = valueEnd(buf, pos, limit);
+        if (end == INCOMPLETE) {
+            throw new IllegalArgumentException("truncated msgpack value at offset " + pos);
+        }
+        return end;
+    }
+
+    /**
+     * @return true if the value at pos is nil
+     */
+    public static boolean isNil(ByteBuffer buf, int pos) {
+        return (buf.get(pos) & 0xff) == 0xc0;
+    }
+
+    /**
+     * @return true if the value at pos is a map
+     */
+    public static boolean isMap(ByteBuffer buf, int pos) {
+        int b = buf.get(pos) & 0xff;
+        return (b >= 0x80 && b <= 0x8f) || b == 0xde || b == 0xdf;
+    }
+
+    /**
+     * Read the header of a map, array, string or binary value.
+     * @return number of bytes taken by the header
+     * @throws IllegalArgumentException if the value has no header
+     */
+    public static int headerLength(ByteBuffer buf, int pos) {
+        int b = buf.get(pos) & 0xff;
+        if ((b >= 0x80 && b <= 0xbf)) {
+            return 1;
+        }
+        switch (b) {
+            case 0xc4:
+            case 0xd9:
+                return 2;
+            case 0xc5:
+            case 0xda:
+            case 0xdc:
+            case 0xde:
+                return 3;
+            case 0xc6:
+            case 0xdb:
+            case 0xdd:
+            case 0xdf:
+                return 5;
+            default:
+                throw new IllegalArgumentException(String.format("msgpack type byte 0x%02x at offset %d has no header", b, pos));
+        }
+    }
+
+    /**
+     * Read the number of entries of a map, elements of an array or bytes of a string or binary value.
+     * @throws IllegalArgumentException if the value is none of these types
+     */
+    public static int size(ByteBuffer buf, int pos) {
+        int b = buf.get(pos) & 0xff;
+        if (b >= 0x80 && b <= 0x9f) {
+            return b & 0x0f;
+        }
+        if (b >= 0xa0 && b <= 0xbf) {
+            return b & 0x1f;
+        }
+        int headerLength = headerLength(buf, pos);
+        long size = readLength(buf, pos + 1, headerLength - 1);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("msgpack value at offset " + pos + " is too large");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Compare a string value with the given UTF-8 bytes without decoding it.
+     * @return true if the value at pos is a string equal to expected
+     */
+    public static boolean stringEquals(ByteBuffer buf, int pos, byte[] expected) {
+        int b = buf.get(pos) & 0xff;
+        if (!((b >= 0xa0 && b <= 0xbf) || b == 0xd9 || b == 0xda || b == 0xdb)) {
+            return false;
+        }
+        if (size(buf, pos) != expected.length) {
+            return false;
+        }
+        int start = pos + headerLength(buf, pos);
+        for (int i = 0; i < expected.length; i++) {
+            if (buf.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Read a string or binary value.
+     * @return a copy of the payload bytes
+     */
+    public static byte[] readBytes(ByteBuffer buf, int pos) {
+        byte[] out = new byte[size(buf, pos)];
+        int start = pos + headerLength(buf, pos);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = buf.get(start + i);
+        }
+        return out;
+    }
+
+    /**
+     * Read a string value.
+     */
+    public static String readString(ByteBuffer buf, int pos) {
+        return new String(readBytes(buf, pos), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a boolean value.
+     * @throws IllegalArgumentException if the value is not a boolean
+     */
+    public static boolean readBoolean(ByteBuffer buf, int pos) {
+        int b = buf.get(pos) & 0xff;
+        if (b == 0xc2 || b == 0xc3) {
+            return b == 0xc3;
+        }
+        throw new IllegalArgumentException(String.format("expected boolean at offset %d, found type byte 0x%02x", pos, b));
+    }
+
+    /**
+     * Read an integer value. Unsigned 64 bit values are returned with the same bit pattern, callers
+     * must use {@link #isUnsigned64(ByteBuffer, int)} to tell them apart from negative numbers.
+     * @throws IllegalArgumentException if the value is not an integer
+     */
+    public static long readLong(ByteBuffer buf, int pos) {
+        int b = buf.get(pos) & 0xff;
+        if (b <= 0x7f) {
+            return b;
+        }
+        if (b >= 0xe0) {
+            return (byte) b;
+        }
+        switch (b) {
+            case 0xcc: return buf.get(pos + 1) & 0xff;
+            case 0xcd: return readLength(buf, pos + 1, 2);
+            case 0xce: return readLength(buf, pos + 1, 4);
+            case 0xcf:
+            case 0xd3:
+                return (readLength(buf, pos + 1, 4) << 32) | readLength(buf, pos + 5, 4);
+            case 0xd0: return buf.get(pos + 1);
+            case 0xd1: return (short) readLength(buf, pos + 1, 2);
+            case 0xd2: return (int) readLength(buf, pos + 1, 4);
+            default:
+                throw new IllegalArgumentException(String.format("expected integer at offset %d, found type byte 0x%02x", pos, b));
+        }
+    }
+
+    /**
+     * @return true if the value at pos is a uint64, whose value may not fit in a signed long
+     */
+    public static boolean isUnsigned64(ByteBuffer buf, int pos) {
+        return (buf.get(pos) & 0xff) == 0xcf;
+    }
+
+    /**
+     * Read an integer value of any size and sign.
+     * @throws IllegalArgumentException if the value is not an integer
+     */
+    public static BigInteger readBigInteger(ByteBuffer buf, int pos) {
+        long v = readLong(buf, pos);
+        if (v < 0 && isUnsigned64(buf, pos)) {
+            return BigInteger.valueOf(v & Long.MAX_VALUE).setBit(63);
+        }
+        return BigInteger.valueOf(v);
+    }
+
+    /**
+     * Read a big endian unsigned length of 1, 2 or 4 bytes, independent of the buffer byte order.
+     */
+    static long readLength(ByteBuffer buf, int pos, int size) {
+        long v = 0;
+        for (int i = 0; i < size; i++) {
+            v = (v << 8) | (buf.get(pos + i) & 0xff);
+        }
+        return v;
+    }
+}
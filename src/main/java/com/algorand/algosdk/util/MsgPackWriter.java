@@ -0,0 +1,405 @@
+package com.algorand.algosdk.util;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Minimal msgpack writer producing the same byte layout as the msgpack-core packer used by Jackson
+ * (smallest integer representation, str8 support, bin family for byte arrays).
+ *
+ * The writer appends to a byte array which can be supplied by the caller. If the array is too small it is
+ * replaced by a larger copy, so callers supplying their own buffer should read the result through {@link #buffer()}.
+ */
+public final class MsgPackWriter {
+    private static final int DEFAULT_CAPACITY = 256;
+    // space reserved by beginMap, large enough for a map16 header.
+    private static final int MAP_HEADER_RESERVE = 3;
+
+    private byte[] buf;
+    private final int start;
+    private int pos;
+
+    /**
+     * Create a writer with an internal, growable buffer.
+     */
+    public MsgPackWriter() {
+        this(new byte[DEFAULT_CAPACITY], 0);
+    }
+
+    /**
+     * Create a writer appending to the given buffer, starting at offset.
+     * @param buf destination buffer
+     * @param offset first byte to write
+     */
+    public MsgPackWriter(byte[] buf, int offset) {
+        if (offset < 0 || offset > buf.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + " outside of buffer");
+        }
+        this.buf = buf;
+        this.start = offset;
+        this.pos = offset;
+    }
+
+    /**
+     * @return the buffer holding the encoded data. This is the caller supplied buffer unless it had to grow.
+     */
+    public byte[] buffer() {
+        return buf;
+    }
+
+    /**
+     * @return offset of the first written byte in {@link #buffer()}
+     */
+    public int offset() {
+        return start;
+    }
+
+    /**
+     * @return offset following the last written byte in {@link #buffer()}
+     */
+    public int position() {
+        return pos;
+    }
+
+    /**
+     * @return number of bytes written
+     */
+    public int length() {
+        return pos - start;
+    }
+
+    /**
+     * Discard everything written so far, keeping the buffer.
+     */
+    public void reset() {
+        pos = start;
+    }
+
+    /**
+     * @return a copy of the written bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOfRange(buf, start, pos);
+    }
+
+    private void ensure(int n) {
+        int required = pos + n;
+        if (required > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(required, buf.length * 2));
+        }
+    }
+
+    /**
+     * Append pre-encoded bytes.
+     */
+    public void writeRaw(byte[] bytes) {
+        writeRaw(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Append pre-encoded bytes.
+     */
+    public void writeRaw(byte[] bytes, int off, int len) {
+        ensure(len);
+        System.arraycopy(bytes, off, buf, pos, len);
+        pos += len;
+    }
+
+    public void writeNil() {
+        ensure(1);
+        buf[pos++] = (byte) 0xc0;
+    }
+
+    public void writeBoolean(boolean v) {
+        ensure(1);
+        buf[pos++] = (byte) (v ? 0xc3 : 0xc2);
+    }
+
+    /**
+     * Write a signed integer using the smallest representation.
+     */
+    public void writeLong(long v) {
+        ensure(9);
+        if (v < -(1L << 5)) {
+            if (v < -(1L << 15)) {
+                if (v < -(1L << 31)) {
+                    buf[pos++] = (byte) 0xd3;
+                    putLong(v);
+                } else {
+                    buf[pos++] = (byte) 0xd2;
+                    putInt((int) v);
+                }
+            } else if (v < -(1 << 7)) {
+                buf[pos++] = (byte) 0xd1;
+                putShort((int) v);
+            } else {
+                buf[pos++] = (byte) 0xd0;
+                buf[pos++] = (byte) v;
+            }
+        } else if (v < (1 << 7)) {
+            buf[pos++] = (byte) v;
+        } else if (v < (1L << 16)) {
+            if (v < (1 << 8)) {
+                buf[pos++] = (byte) 0xcc;
+                buf[pos++] = (byte) v;
+            } else {
+                buf[pos++] = (byte) 0xcd;
+                putShort((int) v);
+            }
+        } else if (v < (1L << 32)) {
+            buf[pos++] = (byte) 0xce;
+            putInt((int) v);
+        } else {
+            buf[pos++] = (byte) 0xcf;
+            putLong(v);
+        }
+    }
+
+    /**
+     * Write an unsigned 64 bit integer, stored in a long, using the smallest representation.
+     */
+    public void writeUnsignedLong(long v) {
+        if (v < 0) {
+            ensure(9);
+            buf[pos++] = (byte) 0xcf;
+            putLong(v);
+        } else {
+            writeLong(v);
+        }
+    }
+
+    /**
+     * Write an integer which must fit in 64 bits, signed or unsigned.
+     * @throws IllegalArgumentException if the value does not fit
+     */
+    public void writeBigInteger(BigInteger v) {
+        if (v.bitLength() <= 63) {
+            writeLong(v.longValue());
+        } else if (v.bitLength() == 64 && v.signum() == 1) {
+            writeUnsignedLong(v.longValue());
+        } else {
+            throw new IllegalArgumentException("MessagePack cannot serialize BigInteger larger than 2^64-1");
+        }
+    }
+
+    public void writeString(String s) {
+        int len = s.length();
+        boolean ascii = true;
+        for (int i = 0; i < len; i++) {
+            if (s.charAt(i) >= 0x80) {
+                ascii = false;
+                break;
+            }
+        }
+        if (!ascii) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            writeStringHeader(utf8.length);
+            writeRaw(utf8);
+            return;
+        }
+        writeStringHeader(len);
+        ensure(len);
+        for (int i = 0; i < len; i++) {
+            buf[pos++] = (byte) s.charAt(i);
+        }
+    }
+
+    public void writeStringHeader(int len) {
+        ensure(5);
+        if (len < (1 << 5)) {
+            buf[pos++] = (byte) (0xa0 | len);
+        } else if (len < (1 << 8)) {
+            buf[pos++] = (byte) 0xd9;
+            buf[pos++] = (byte) len;
+        } else if (len < (1 << 16)) {
+            buf[pos++] = (byte) 0xda;
+            putShort(len);
+        } else {
+            buf[pos++] = (byte) 0xdb;
+            putInt(len);
+        }
+    }
+
+    public void writeBinary(byte[] bytes) {
+        writeBinary(bytes, 0, bytes.length);
+    }
+
+    public void writeBinary(byte[] bytes, int off, int len) {
+        writeBinaryHeader(len);
+        writeRaw(bytes, off, len);
+    }
+
+    public void writeBinaryHeader(int len) {
+        ensure(5);
+        if (len < (1 << 8)) {
+            buf[pos++] = (byte) 0xc4;
+            buf[pos++] = (byte) len;
+        } else if (len < (1 << 16)) {
+            buf[pos++] = (byte) 0xc5;
+            putShort(len);
+        } else {
+            buf[pos++] = (byte) 0xc6;
+            putInt(len);
+        }
+    }
+
+    public void writeArrayHeader(int size) {
+        ensure(5);
+        if (size < (1 << 4)) {
+            buf[pos++] = (byte) (0x90 | size);
+        } else if (size < (1 << 16)) {
+            buf[pos++] = (byte) 0xdc;
+            putShort(size);
+        } else {
+            buf[pos++] = (byte) 0xdd;
+            putInt(size);
+        }
+    }
+
+    public void writeMapHeader(int size) {
+        ensure(5);
+        if (size < (1 << 4)) {
+            buf[pos++] = (byte) (0x80 | size);
+        } else if (size < (1 << 16)) {
+            buf[pos++] = (byte) 0xde;
+            putShort(size);
+        } else {
+            buf[pos++] = (byte) 0xdf;
+            putInt(size);
+        }
+    }
+
+    /**
+     * Start a map whose size is not known yet. Space for the header is reserved and filled in by
+     * {@link #endMap(int, int)} once all entries are written.
+     * @return mark to pass to endMap
+     */
+    public int beginMap() {
+        ensure(MAP_HEADER_RESERVE);
+        int mark = pos;
+        pos += MAP_HEADER_RESERVE;
+        return mark;
+    }
+
+    /**
+     * Write the header of a map started with {@link #beginMap()}.
+     * @param mark value returned by beginMap
+     * @param size number of entries written since beginMap
+     */
+    public void endMap(int mark, int size) {
+        if (size >= (1 << 16)) {
+            throw new IllegalArgumentException("map too large: " + size);
+        }
+        if (size < (1 << 4)) {
+            // fixmap, move the entries back over the unused header space.
+            int bodyStart = mark + MAP_HEADER_RESERVE;
+            System.arraycopy(buf, bodyStart, buf, mark + 1, pos - bodyStart);
+            buf[mark] = (byte) (0x80 | size);
+            pos -= MAP_HEADER_RESERVE - 1;
+        } else {
+            buf[mark] = (byte) 0xde;
+            buf[mark + 1] = (byte) (size >>> 8);
+            buf[mark + 2] = (byte) size;
+        }
+    }
+
+    /**
+     * @return number of bytes {@link #writeLong(long)} produces for v
+     */
+    public static int sizeOfLong(long v) {
+        if (v < -(1L << 5)) {
+            if (v < -(1L << 31)) {
+                return 9;
+            }
+            return v < -(1L << 15) ? 5 : v < -(1 << 7) ? 3 : 2;
+        }
+        if (v < (1 << 7)) {
+            return 1;
+        }
+        return v < (1 << 8) ? 2 : v < (1L << 16) ? 3 : v < (1L << 32) ? 5 : 9;
+    }
+
+    /**
+     * @return number of bytes {@link #writeBigInteger(BigInteger)} produces for v
+     * @throws IllegalArgumentException if the value does not fit in 64 bits
+     */
+    public static int sizeOfBigInteger(BigInteger v) {
+        if (v.bitLength() <= 63) {
+            return sizeOfLong(v.longValue());
+        } else if (v.bitLength() == 64 && v.signum() == 1) {
+            return 9;
+        }
+        throw new IllegalArgumentException("MessagePack cannot serialize BigInteger larger than 2^64-1");
+    }
+
+    /**
+     * @return number of bytes {@link #writeString(String)} produces for s, computed without encoding it
+     */
+    public static int sizeOfString(String s) {
+        int len = s.length();
+        int utf8 = 0;
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                utf8++;
+            } else if (c < 0x800) {
+                utf8 += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+                utf8 += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogates are replaced by '?'.
+                utf8++;
+            } else {
+                utf8 += 3;
+            }
+        }
+        return sizeOfStringHeader(utf8) + utf8;
+    }
+
+    /**
+     * @return number of bytes {@link #writeStringHeader(int)} produces for len
+     */
+    public static int sizeOfStringHeader(int len) {
+        return len < (1 << 5) ? 1 : len < (1 << 8) ? 2 : len < (1 << 16) ? 3 : 5;
+    }
+
+    /**
+     * @return number of bytes {@link #writeBinary(byte[])} produces for an array of length len
+     */
+    public static int sizeOfBinary(int len) {
+        return (len < (1 << 8) ? 2 : len < (1 << 16) ? 3 : 5) + len;
+    }
+
+    /**
+     * @return number of bytes {@link #writeArrayHeader(int)} produces for size
+     */
+    public static int sizeOfArrayHeader(int size) {
+        return size < (1 << 4) ? 1 : size < (1 << 16) ? 3 : 5;
+    }
+
+    /**
+     * @return number of bytes {@link #writeMapHeader(int)} produces for size
+     */
+    public static int sizeOfMapHeader(int size) {
+        return size < (1 << 4) ? 1 : size < (1 << 16) ? 3 : 5;
+    }
+
+    private void putShort(int v) {
+        buf[pos++] = (byte) (v >>> 8);
+        buf[pos++] = (byte) v;
+    }
+
+    private void putInt(int v) {
+        buf[pos++] = (byte) (v >>> 24);
+        buf[pos++] = (byte) (v >>> 16);
+        buf[pos++] = (byte) (v >>> 8);
+        buf[pos++] = (byte) v;
+    }
+
+    private void putLong(long v) {
+        putInt((int) (v >>> 32));
+        putInt((int) v);
+    }
+}
@@ -0,0 +1,203 @@
+package com.algorand.algosdk.util;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+
+/**
+ * Pure Java SHA-512/256 (FIPS 180-4). Used by {@link Digester} when no security provider offers the algorithm,
+ * it needs no provider lookup and allocates nothing after construction.
+ */
+final class Sha512_256 extends MessageDigest implements Cloneable {
+    static final String ALGORITHM = "SHA-512/256";
+    private static final int DIGEST_LEN = 32;
+    private static final int BLOCK_LEN = 128;
+
+    private static final long[] IV = {
+            0x22312194fc2bf72cL, 0x9f555fa3c84c64c2L, 0x2393b86b6f53b151L, 0x963877195940eabdL,
+            0x96283ee2a88effe3L, 0xbe5e1e2553863992L, 0x2b0199fc2c85b8aaL, 0x0eb72ddc81c52ca2L
+    };
+
+    private static final long[] K = {
+            0x428a2f98d728ae22L, 0x7137449123ef65cdL, 0xb5c0fbcfec4d3b2fL, 0xe9b5dba58189dbbcL,
+            0x3956c25bf348b538L, 0x59f111f1b605d019L, 0x923f82a4af194f9bL, 0xab1c5ed5da6d8118L,
+            0xd807aa98a3030242L, 0x12835b0145706fbeL, 0x243185be4ee4b28cL, 0x550c7dc3d5ffb4e2L,
+            0x72be5d74f27b896fL, 0x80deb1fe3b1696b1L, 0x9bdc06a725c71235L, 0xc19bf174cf692694L,
+            0xe49b69c19ef14ad2L, 0xefbe4786384f25e3L, 0x0fc19dc68b8cd5b5L, 0x240ca1cc77ac9c65L,
+            0x2de92c6f592b0275L, 0x4a7484aa6ea6e483L, 0x5cb0a9dcbd41fbd4L, 0x76f988da831153b5L,
+            0x983e5152ee66dfabL, 0xa831c66d2db43210L, 0xb00327c898fb213fL, 0xbf597fc7beef0ee4L,
+            0xc6e00bf33da88fc2L, 0xd5a79147930aa725L, 0x06ca6351e003826fL, 0x142929670a0e6e70L,
+            0x27b70a8546d22ffcL, 0x2e1b21385c26c926L, 0x4d2c6dfc5ac42aedL, 0x53380d139d95b3dfL,
+            0x650a73548baf63deL, 0x766a0abb3c77b2a8L, 0x81c2c92e47edaee6L, 0x92722c851482353bL,
+            0xa2bfe8a14cf10364L, 0xa81a664bbc423001L, 0xc24b8b70d0f89791L, 0xc76c51a30654be30L,
+            0xd192e819d6ef5218L, 0xd69906245565a910L, 0xf40e35855771202aL, 0x106aa07032bbd1b8L,
+            0x19a4c116b8d2d0c8L, 0x1e376c085141ab53L, 0x2748774cdf8eeb99L, 0x34b0bcb5e19b48a8L,
+            0x391c0cb3c5c95a63L, 0x4ed8aa4ae3418acbL, 0x5b9cca4f7763e373L, 0x682e6ff3d6b2b8a3L,
+            0x748f82ee5defb2fcL, 0x78a5636f43172f60L, 0x84c87814a1f0ab72L, 0x8cc702081a6439ecL,
+            0x90befffa23631e28L, 0xa4506cebde82bde9L, 0xbef9a3f7b2c67915L, 0xc67178f2e372532bL,
+            0xca273eceea26619cL, 0xd186b8c721c0c207L, 0xeada7dd6cde0eb1eL, 0xf57d4f7fee6ed178L,
+            0x06f067aa72176fbaL, 0x0a637dc5a2c898a6L, 0x113f9804bef90daeL, 0x1b710b35131c471bL,
+            0x28db77f523047d84L, 0x32caab7b40c72493L, 0x3c9ebe0a15c9bebcL, 0x431d67c49c100d4cL,
+            0x4cc5d4becb3e42b6L, 0x597f299cfc657e2aL, 0x5fcb6fab3ad6faecL, 0x6c44198c4a475817L
+    };
+
+    private long[] state = new long[8];
+    private long[] w = new long[80];
+    private byte[] block = new byte[BLOCK_LEN];
+    private int blockLen;
+    // total message length in bytes, messages are far below the 2^64 bit limit.
+    private long count;
+
+    Sha512_256() {
+        super(ALGORITHM);
+        engineReset();
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return DIGEST_LEN;
+    }
+
+    @Override
+    protected void engineReset() {
+        System.arraycopy(IV, 0, state, 0, IV.length);
+        blockLen = 0;
+        count = 0;
+    }
+
+    @Override
+    protected void engineUpdate(byte input) {
+        block[blockLen++] = input;
+        count++;
+        if (blockLen == BLOCK_LEN) {
+            compress(block, 0);
+            blockLen = 0;
+        }
+    }
+
+    @Override
+    protected void engineUpdate(byte[] input, int offset, int len) {
+        count += len;
+        if (blockLen > 0) {
+            int n = Math.min(len, BLOCK_LEN - blockLen);
+            System.arraycopy(input, offset, block, blockLen, n);
+            blockLen += n;
+            offset += n;
+            len -= n;
+            if (blockLen < BLOCK_LEN) {
+                return;
+            }
+            compress(block, 0);
+            blockLen = 0;
+        }
+        while (len >= BLOCK_LEN) {
+            compress(input, offset);
+            offset += BLOCK_LEN;
+            len -= BLOCK_LEN;
+        }
+        System.arraycopy(input, offset, block, 0, len);
+        blockLen = len;
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        byte[] out = new byte[DIGEST_LEN];
+        finish(out, 0);
+        return out;
+    }
+
+    @Override
+    protected int engineDigest(byte[] buf, int offset, int len) throws DigestException {
+        if (len < DIGEST_LEN) {
+            throw new DigestException("partial digests not returned");
+        }
+        if (buf.length - offset < DIGEST_LEN) {
+            throw new DigestException("insufficient space in the output buffer to store the digest");
+        }
+        finish(buf, offset);
+        return DIGEST_LEN;
+    }
+
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        Sha512_256 copy = (Sha512_256) super.clone();
+        copy.state = state.clone();
+        copy.w = new long[80];
+        copy.block = block.clone();
+        return copy;
+    }
+
+    private void finish(byte[] out, int offset) {
+        long bits = count << 3;
+        block[blockLen++] = (byte) 0x80;
+        if (blockLen > BLOCK_LEN - 16) {
+            while (blockLen < BLOCK_LEN) {
+                block[blockLen++] = 0;
+            }
+            compress(block, 0);
+            blockLen = 0;
+        }
+        while (blockLen < BLOCK_LEN - 8) {
+            block[blockLen++] = 0;
+        }
+        for (int i = 7; i >= 0; i--) {
+            block[blockLen++] = (byte) (bits >>> (8 * i));
+        }
+        compress(block, 0);
+        for (int i = 0; i < DIGEST_LEN / 8; i++) {
+            long v = state[i];
+            for (int j = 0; j < 8; j++) {
+                out[offset + 8 * i + j] = (byte) (v >>> (56 - 8 * j));
+            }
+        }
+        engineReset();
+    }
+
+    private void compress(byte[] in, int offset) {
+        for (int t = 0; t < 16; t++) {
+            long v = 0;
+            for (int j = 0; j < 8; j++) {
+                v = (v << 8) | (in[offset + 8 * t + j] & 0xffL);
+            }
+            w[t] = v;
+        }
+        for (int t = 16; t < 80; t++) {
+            long x = w[t - 2];
+            long y = w[t - 15];
+            long s1 = Long.rotateRight(x, 19) ^ Long.rotateRight(x, 61) ^ (x >>> 6);
+            long s0 = Long.rotateRight(y, 1) ^ Long.rotateRight(y, 8) ^ (y >>> 7);
+            w[t] = s1 + w[t - 7] + s0 + w[t - 16];
+        }
+        long a = state[0];
+        long b = state[1];
+        long c = state[2];
+        long d = state[3];
+        long e = state[4];
+        long f = state[5];
+        long g = state[6];
+        long h = state[7];
+        for (int t = 0; t < 80; t++) {
+            long s1 = Long.rotateRight(e, 14) ^ Long.rotateRight(e, 18) ^ Long.rotateRight(e, 41);
+            long ch = (e & f) ^ (~e & g);
+            long t1 = h + s1 + ch + K[t] + w[t];
+            long s0 = Long.rotateRight(a, 28) ^ Long.rotateRight(a, 34) ^ Long.rotateRight(a, 39);
+            long maj = (a & b) ^ (a & c) ^ (b & c);
+            long t2 = s0 + maj;
+            h = g;
+            g = f;
+            f = e;
+            e = d + t1;
+            d = c;
+            c = b;
+            b = a;
+            a = t1 + t2;
+        }
+        state[0] += a;
+        state[1] += b;
+        state[2] += c;
+        state[3] += d;
+        state[4] += e;
+        state[5] += f;
+        state[6] += g;
+        state[7] += h;
+    }
+}
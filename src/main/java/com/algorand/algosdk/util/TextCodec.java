@@ -0,0 +1,310 @@
+package com.algorand.algosdk.util;
+
+import org.apache.commons.codec.DecoderException;
+
+import java.util.Arrays;
+
+/**
+ * Table driven Base32, Base64 and Hex codec.
+ *
+ * Every format can be encoded into and decoded from caller supplied arrays, in which case nothing is allocated.
+ * Decoding follows the lenient rules of the commons-codec implementations used previously: characters outside of
+ * the alphabet are skipped, decoding stops at the first padding character and trailing bits which do not make up
+ * a whole byte are discarded. Base32 accepts both cases, Base64 accepts both the standard and the url-safe alphabet.
+ *
+ * Buffer based methods throw {@link IndexOutOfBoundsException} when the destination is too small.
+ */
+public final class TextCodec {
+    private static final char PAD = '=';
+
+    private static final char[] BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray();
+    private static final char[] BASE64_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+    private static final char[] HEX_ALPHABET = "0123456789abcdef".toCharArray();
+
+    // ascii character to value, -1 for characters outside of the alphabet.
+    private static final byte[] BASE32_DECODE = new byte[128];
+    private static final byte[] BASE64_DECODE = new byte[128];
+    private static final byte[] HEX_DECODE = new byte[128];
+
+    static {
+        Arrays.fill(BASE32_DECODE, (byte) -1);
+        Arrays.fill(BASE64_DECODE, (byte) -1);
+        Arrays.fill(HEX_DECODE, (byte) -1);
+        for (int i = 0; i < BASE32_ALPHABET.length; i++) {
+            BASE32_DECODE[BASE32_ALPHABET[i]] = (byte) i;
+            BASE32_DECODE[Character.toLowerCase(BASE32_ALPHABET[i])] = (byte) i;
+        }
+        for (int i = 0; i < BASE64_ALPHABET.length; i++) {
+            BASE64_DECODE[BASE64_ALPHABET[i]] = (byte) i;
+        }
+        BASE64_DECODE['-'] = 62;
+        BASE64_DECODE['_'] = 63;
+        for (int i = 0; i < HEX_ALPHABET.length; i++) {
+            HEX_DECODE[HEX_ALPHABET[i]] = (byte) i;
+            HEX_DECODE[Character.toUpperCase(HEX_ALPHABET[i])] = (byte) i;
+        }
+    }
+
+    private TextCodec() {
+    }
+
+    /* Base32 ***************************************************************************/
+
+    /**
+     * @param byteCount number of bytes to encode
+     * @return number of characters of the unpadded Base32 encoding
+     */
+    public static int base32EncodedLength(int byteCount) {
+        return (int) ((byteCount * 8L + 4) / 5);
+    }
+
+    /**
+     * Encode bytes as unpadded Base32.
+     * @return encoded string
+     */
+    public static String encodeBase32(byte[] src) {
+        char[] chars = new char[base32EncodedLength(src.length)];
+        encodeBase32(src, 0, src.length, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Encode bytes as unpadded Base32 into a char array.
+     * @return number of characters written, see {@link #base32EncodedLength(int)}
+     */
+    public static int encodeBase32(byte[] src, int off, int len, char[] dst, int dstOff) {
+        checkRange(src.length, off, len);
+        checkRange(dst.length, dstOff, base32EncodedLength(len));
+        int end = off + len;
+        int i = off;
+        int o = dstOff;
+        for (; i + 5 <= end; i += 5) {
+            long block = ((src[i] & 0xffL) << 32) | ((src[i + 1] & 0xffL) << 24) | ((src[i + 2] & 0xffL) << 16)
+                    | ((src[i + 3] & 0xffL) << 8) | (src[i + 4] & 0xffL);
+            for (int shift = 35; shift >= 0; shift -= 5) {
+                dst[o++] = BASE32_ALPHABET[(int) (block >>> shift) & 0x1f];
+            }
+        }
+        int acc = 0;
+        int bits = 0;
+        for (; i < end; i++) {
+            acc = (acc << 8) | (src[i] & 0xff);
+            bits += 8;
+            while (bits >= 5) {
+                bits -= 5;
+                dst[o++] = BASE32_ALPHABET[(acc >>> bits) & 0x1f];
+            }
+        }
+        if (bits > 0) {
+            dst[o++] = BASE32_ALPHABET[(acc << (5 - bits)) & 0x1f];
+        }
+        return o - dstOff;
+    }
+
+    /**
+     * Decode Base32, padded or not.
+     * @return decoded bytes
+     */
+    public static byte[] decodeBase32(CharSequence src) {
+        byte[] out = new byte[decodedLength(src, BASE32_DECODE, 5)];
+        decode(src, 0, src.length(), out, 0, BASE32_DECODE, 5);
+        return out;
+    }
+
+    /**
+     * Decode Base32 into a byte array.
+     * @return number of bytes written, at most len * 5 / 8
+     */
+    public static int decodeBase32(CharSequence src, int off, int len, byte[] dst, int dstOff) {
+        checkRange(src.length(), off, len);
+        return decode(src, off, len, dst, dstOff, BASE32_DECODE, 5);
+    }
+
+    /* Base64 ***************************************************************************/
+
+    /**
+     * @param byteCount number of bytes to encode
+     * @return number of characters of the padded Base64 encoding
+     */
+    public static int base64EncodedLength(int byteCount) {
+        return (int) ((byteCount + 2L) / 3 * 4);
+    }
+
+    /**
+     * Encode bytes as padded Base64 using the standard alphabet.
+     * @return encoded string
+     */
+    public static String encodeBase64(byte[] src) {
+        char[] chars = new char[base64EncodedLength(src.length)];
+        encodeBase64(src, 0, src.length, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Encode bytes as padded Base64 into a char array.
+     * @return number of characters written, see {@link #base64EncodedLength(int)}
+     */
+    public static int encodeBase64(byte[] src, int off, int len, char[] dst, int dstOff) {
+        checkRange(src.length, off, len);
+        checkRange(dst.length, dstOff, base64EncodedLength(len));
+        int end = off + len;
+        int i = off;
+        int o = dstOff;
+        for (; i + 3 <= end; i += 3) {
+            int block = ((src[i] & 0xff) << 16) | ((src[i + 1] & 0xff) << 8) | (src[i + 2] & 0xff);
+            dst[o++] = BASE64_ALPHABET[block >>> 18];
+            dst[o++] = BASE64_ALPHABET[(block >>> 12) & 0x3f];
+            dst[o++] = BASE64_ALPHABET[(block >>> 6) & 0x3f];
+            dst[o++] = BASE64_ALPHABET[block & 0x3f];
+        }
+        int remaining = end - i;
+        if (remaining > 0) {
+            int block = (src[i] & 0xff) << 16;
+            if (remaining == 2) {
+                block |= (src[i + 1] & 0xff) << 8;
+            }
+            dst[o++] = BASE64_ALPHABET[block >>> 18];
+            dst[o++] = BASE64_ALPHABET[(block >>> 12) & 0x3f];
+            dst[o++] = remaining == 2 ? BASE64_ALPHABET[(block >>> 6) & 0x3f] : PAD;
+            dst[o++] = PAD;
+        }
+        return o - dstOff;
+    }
+
+    /**
+     * Decode Base64, padded or not, in the standard or url-safe alphabet.
+     * @return decoded bytes
+     */
+    public static byte[] decodeBase64(CharSequence src) {
+        byte[] out = new byte[decodedLength(src, BASE64_DECODE, 6)];
+        decode(src, 0, src.length(), out, 0, BASE64_DECODE, 6);
+        return out;
+    }
+
+    /**
+     * Decode Base64 into a byte array.
+     * @return number of bytes written, at most len * 3 / 4
+     */
+    public static int decodeBase64(CharSequence src, int off, int len, byte[] dst, int dstOff) {
+        checkRange(src.length(), off, len);
+        return decode(src, off, len, dst, dstOff, BASE64_DECODE, 6);
+    }
+
+    /* Hex ******************************************************************************/
+
+    /**
+     * Encode bytes as lower case hex.
+     * @return encoded string
+     */
+    public static String encodeHex(byte[] src) {
+        char[] chars = new char[src.length * 2];
+        encodeHex(src, 0, src.length, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Encode bytes as lower case hex into a char array.
+     * @return number of characters written, 2 * len
+     */
+    public static int encodeHex(byte[] src, int off, int len, char[] dst, int dstOff) {
+        checkRange(src.length, off, len);
+        checkRange(dst.length, dstOff, len * 2);
+        int o = dstOff;
+        for (int i = off; i < off + len; i++) {
+            dst[o++] = HEX_ALPHABET[(src[i] >>> 4) & 0x0f];
+            dst[o++] = HEX_ALPHABET[src[i] & 0x0f];
+        }
+        return o - dstOff;
+    }
+
+    /**
+     * Decode hex, in either case.
+     * @return decoded bytes
+     * @throws DecoderException if the length is odd or a character is not a hex digit
+     */
+    public static byte[] decodeHex(CharSequence src) throws DecoderException {
+        if ((src.length() & 1) != 0) {
+            throw new DecoderException("Odd number of characters.");
+        }
+        byte[] out = new byte[src.length() / 2];
+        decodeHex(src, 0, src.length(), out, 0);
+        return out;
+    }
+
+    /**
+     * Decode hex into a byte array.
+     * @return number of bytes written, len / 2
+     * @throws DecoderException if the length is odd or a character is not a hex digit
+     */
+    public static int decodeHex(CharSequence src, int off, int len, byte[] dst, int dstOff) throws DecoderException {
+        checkRange(src.length(), off, len);
+        if ((len & 1) != 0) {
+            throw new DecoderException("Odd number of characters.");
+        }
+        checkRange(dst.length, dstOff, len / 2);
+        int o = dstOff;
+        for (int i = off; i < off + len; i += 2) {
+            dst[o++] = (byte) ((hexDigit(src, i) << 4) | hexDigit(src, i + 1));
+        }
+        return o - dstOff;
+    }
+
+    private static int hexDigit(CharSequence src, int index) throws DecoderException {
+        char c = src.charAt(index);
+        int v = c < 128 ? HEX_DECODE[c] : Character.digit(c, 16);
+        if (v < 0) {
+            throw new DecoderException("Illegal hexadecimal character " + c + " at index " + index);
+        }
+        return v;
+    }
+
+    /* shared ***************************************************************************/
+
+    private static int decodedLength(CharSequence src, byte[] table, int bitsPerChar) {
+        long valid = 0;
+        for (int i = 0; i < src.length(); i++) {
+            char c = src.charAt(i);
+            if (c == PAD) {
+                break;
+            }
+            if (c < 128 && table[c] >= 0) {
+                valid++;
+            }
+        }
+        return (int) (valid * bitsPerChar / 8);
+    }
+
+    private static int decode(CharSequence src, int off, int len, byte[] dst, int dstOff, byte[] table, int bitsPerChar) {
+        int acc = 0;
+        int bits = 0;
+        int o = dstOff;
+        for (int i = off; i < off + len; i++) {
+            char c = src.charAt(i);
+            if (c == PAD) {
+                break;
+            }
+            int v = c < 128 ? table[c] : -1;
+            if (v < 0) {
+                continue;
+            }
+            acc = (acc << bitsPerChar) | v;
+            bits += bitsPerChar;
+            if (bits >= 8) {
+                bits -= 8;
+                if (o >= dst.length) {
+                    throw new IndexOutOfBoundsException("destination too small");
+                }
+                dst[o++] = (byte) (acc >>> bits);
+                acc &= (1 << bits) - 1;
+            }
+        }
+        return o - dstOff;
+    }
+
+    private static void checkRange(int length, int off, int len) {
+        if (off < 0 || len < 0 || off > length - len) {
+            throw new IndexOutOfBoundsException("range " + off + "+" + len + " outside of array of length " + length);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.algorand.algosdk.util;
+
+import java.math.BigInteger;
+
+/**
+ * Helpers for Algorand uint64 values stored in a long.
+ *
+ * The 64 bits of the long are read as an unsigned number, so values from 2^63 to 2^64-1 are stored as negative
+ * longs. Addition, comparison and conversion to text or BigInteger must go through these helpers instead of the
+ * signed operators.
+ */
+public final class UInt64 {
+    /**
+     * Largest uint64, 2^64-1.
+     */
+    public static final BigInteger MAX_VALUE = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    private UInt64() {
+    }
+
+    /**
+     * @param v number from 0 to 2^64-1
+     * @return the low 64 bits of v
+     * @throws IllegalArgumentException if v is null, negative or larger than 2^64-1
+     */
+    public static long fromBigInteger(BigInteger v) {
+        if (v == null || v.signum() < 0 || v.bitLength() > 64) {
+            throw new IllegalArgumentException("not a uint64: " + v);
+        }
+        return v.longValue();
+    }
+
+    /**
+     * @return v read as an unsigned number
+     */
+    public static BigInteger toBigInteger(long v) {
+        if (v >= 0) {
+            return BigInteger.valueOf(v);
+        }
+        return BigInteger.valueOf(v >>> 1).shiftLeft(1).or(BigInteger.valueOf(v & 1));
+    }
+
+    /**
+     * Compare two values read as unsigned numbers.
+     */
+    public static int compare(long a, long b) {
+        return Long.compare(a ^ Long.MIN_VALUE, b ^ Long.MIN_VALUE);
+    }
+
+    /**
+     * @return a + b
+     * @throws ArithmeticException if the sum is larger than 2^64-1
+     */
+    public static long add(long a, long b) {
+        long sum = a + b;
+        if (compare(sum, a) < 0) {
+            throw new ArithmeticException("uint64 overflow");
+        }
+        return sum;
+    }
+
+    /**
+     * @return a - b
+     * @throws ArithmeticException if b is larger than a
+     */
+    public static long subtract(long a, long b) {
+        if (compare(a, b) < 0) {
+            throw new ArithmeticException("uint64 underflow");
+        }
+        return a - b;
+    }
+
+    /**
+     * @return the decimal representation of v read as an unsigned number
+     */
+    public static String toString(long v) {
+        if (v >= 0) {
+            return Long.toString(v);
+        }
+        // the quotient of an unsigned division by 10 fits in a signed long.
+        long quotient = (v >>> 1) / 5;
+        long remainder = v - quotient * 10;
+        return Long.toString(quotient) + remainder;
+    }
+
+    /**
+     * Parse a decimal number from 0 to 2^64-1.
+     * @throws NumberFormatException if s is not such a number
+     */
+    public static long parse(String s) {
+        BigInteger v = new BigInteger(s);
+        if (v.signum() < 0 || v.bitLength() > 64) {
+            throw new NumberFormatException("not a uint64: " + s);
+        }
+        return v.longValue();
+    }
+}
@@ -0,0 +1,65 @@
+package com.algorand.algosdk;
+
+import com.algorand.algosdk.account.Account;
+import com.algorand.algosdk.builder.transaction.PaymentTransactionBuilder;
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.transaction.Transaction;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Accounts and transactions shared by the unit tests.
+ */
+public final class Fixtures {
+    public static final String RECEIVER = "DN7MBMCL5JQ3PFUQS7TMX5AH4EEKOBJVDUF4TCV6WERATKFLQF4MQUPZTA";
+
+    private Fixtures() {
+    }
+
+    /**
+     * @return count new random accounts
+     */
+    public static Account[] accounts(int count) throws NoSuchAlgorithmException {
+        Account[] accounts = new Account[count];
+        for (int i = 0; i < count; i++) {
+            accounts[i] = new Account();
+        }
+        return accounts;
+    }
+
+    /**
+     * @return a builder for a payment to RECEIVER with a flat fee of 1000, valid for rounds 1 to 1000, tests set any
+     * other field they need on it
+     */
+    public static PaymentTransactionBuilder<?> paymentBuilder(Address sender, long amount) {
+        return Transaction.PaymentTransactionBuilder()
+                .sender(sender)
+                .receiver(RECEIVER)
+                .amount(amount)
+                .flatFee(1000)
+                .firstValid(1)
+                .lastValid(1000)
+                .genesisHash(new Digest());
+    }
+
+    /**
+     * @return a payment built by {@link #paymentBuilder(Address, long)}
+     */
+    public static Transaction payment(Address sender, long amount) {
+        return paymentBuilder(sender, amount).build();
+    }
+
+    /**
+     * @return count payments from sender, with amounts 0 to count - 1
+     */
+    public static List<Transaction> payments(Address sender, int count) {
+        List<Transaction> txns = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            txns.add(payment(sender, i));
+        }
+        return txns;
+    }
+}
@@ -15,7 +15,11 @@ import org.junit.jupiter.api.Test;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -217,6 +221,59 @@ public class TestAccount {
         assertThat(account.getAddress().verifyBytes(b, signature)).isFalse();
     }
 
+    @Test
+    public void testSignRange() throws Exception {
+        byte[] b = new byte[40];
+        new Random().nextBytes(b);
+        Account account = new Account();
+        Signature signature = account.sign(b, 7, 20);
+        byte[] expected = Arrays.copyOfRange(b, 7, 27);
+        assertThat(signature).isEqualTo(account.sign(expected, 0, expected.length));
+
+        // signBytes signs "MX" followed by the data.
+        byte[] prefixed = new byte[22];
+        prefixed[0] = 'M';
+        prefixed[1] = 'X';
+        System.arraycopy(expected, 0, prefixed, 2, 20);
+        assertThat(account.signBytes(expected)).isEqualTo(account.sign(prefixed, 0, prefixed.length));
+    }
+
+    @Test
+    public void testConcurrentSigning() throws Exception {
+        final Account account = new Account();
+        final Transaction tx = Transaction.PaymentTransactionBuilder()
+                .sender(account.getAddress())
+                .receiver(account.getAddress())
+                .amount(1)
+                .flatFee(1000)
+                .firstValid(1)
+                .lastValid(1000)
+                .genesisHash(new Digest())
+                .build();
+        final byte[] expected = Encoder.encodeToMsgPack(account.signTransaction(tx));
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                results.add(pool.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        SignedTransaction stx = account.signTransaction(tx);
+                        if (!Arrays.equals(Encoder.encodeToMsgPack(stx), expected)
+                                || !stx.transactionID.equals(tx.txID())) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void testVerifyBytes() throws Exception {
         byte[] message = Encoder.decodeFromBase64("rTs7+dUj");
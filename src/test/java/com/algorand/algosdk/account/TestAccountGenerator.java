@@ -0,0 +1,102 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Ed25519Engine;
+import com.algorand.algosdk.mnemonic.Mnemonic;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestAccountGenerator {
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+    @AfterAll
+    public static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    public void testGenerate() throws Exception {
+        AccountGenerator generator = new AccountGenerator(EXECUTOR, 4);
+        List<AccountGenerator.GeneratedKey> keys = generator.generate(50);
+        assertThat(keys).hasSize(50);
+        Set<String> addresses = new HashSet<>();
+        for (AccountGenerator.GeneratedKey key : keys) {
+            addresses.add(key.getAddress().toString());
+        }
+        assertThat(addresses).hasSize(50);
+
+        AccountGenerator.GeneratedKey key = keys.get(0);
+        Account account = key.toAccount();
+        assertThat(account.getAddress()).isEqualTo(key.getAddress());
+        assertThat(account.toMnemonic()).isEqualTo(key.toMnemonic());
+        assertThat(Mnemonic.toKey(key.toMnemonic())).isEqualTo(key.getSeed());
+
+        AtomicInteger streamed = new AtomicInteger();
+        generator.generate(7, k -> streamed.incrementAndGet());
+        assertThat(streamed.get()).isEqualTo(7);
+    }
+
+    @Test
+    public void testFindVanity() throws Exception {
+        AccountGenerator generator = new AccountGenerator(EXECUTOR, 4);
+        List<AccountGenerator.GeneratedKey> keys = generator.findVanity("ab", 3, Long.MAX_VALUE);
+        assertThat(keys).hasSize(3);
+        for (AccountGenerator.GeneratedKey key : keys) {
+            assertThat(key.getAddress().toString()).startsWith("AB");
+            assertThat(key.toAccount().getAddress()).isEqualTo(key.getAddress());
+        }
+
+        // a prefix which is practically impossible to hit stops after maxAttempts.
+        assertThat(generator.findVanity("AAAAAAAAAAAAAAAAAAAA", 1, 200)).isEmpty();
+    }
+
+    @Test
+    public void testPrefixMatchesAddressString() throws Exception {
+        Random random = new Random(3);
+        byte[] seed = new byte[Ed25519Engine.SEED_LENGTH];
+        for (int i = 0; i < 50; i++) {
+            random.nextBytes(seed);
+            byte[] pk = Ed25519Engine.publicKey(seed);
+            String encoded = new Address(pk).toString();
+            int length = 1 + random.nextInt(AccountGenerator.MAX_PREFIX_LENGTH);
+            String prefix = encoded.substring(0, length);
+            byte[] mask = new byte[(length * 5 + 7) / 8];
+            byte[] value = new byte[mask.length];
+            AccountGenerator.compilePrefix(prefix.toLowerCase(), mask, value);
+            assertThat(AccountGenerator.matches(pk, mask, value)).isTrue();
+
+            // changing the last character of the prefix changes the bits.
+            char last = prefix.charAt(length - 1);
+            String other = prefix.substring(0, length - 1) + (last == 'A' ? 'B' : 'A');
+            mask = new byte[mask.length];
+            value = new byte[mask.length];
+            AccountGenerator.compilePrefix(other, mask, value);
+            assertThat(AccountGenerator.matches(pk, mask, value)).isFalse();
+        }
+    }
+
+    @Test
+    public void testInvalidPrefix() {
+        AccountGenerator generator = new AccountGenerator(EXECUTOR, 1);
+        assertThatThrownBy(() -> generator.findVanity("AB1", 1, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("prefix is not valid base32: AB1");
+        char[] tooLong = new char[AccountGenerator.MAX_PREFIX_LENGTH + 1];
+        Arrays.fill(tooLong, 'A');
+        assertThatThrownBy(() -> generator.findVanity(new String(tooLong), 1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AccountGenerator(EXECUTOR, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.algorand.algosdk.account;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestAccountImporter {
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+    @AfterAll
+    public static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    public void testImportInOrder() throws Exception {
+        List<Account> expected = new ArrayList<>();
+        List<String> mnemonics = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Account account = new Account();
+            expected.add(account);
+            mnemonics.add(account.toMnemonic());
+        }
+        List<Account> imported = new AccountImporter(EXECUTOR, 7).importMnemonics(mnemonics);
+        assertThat(imported).hasSize(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(imported.get(i).getAddress()).isEqualTo(expected.get(i).getAddress());
+            byte[] message = {1, 2, (byte) i};
+            assertThat(imported.get(i).signBytes(message)).isEqualTo(expected.get(i).signBytes(message));
+        }
+        assertThat(new AccountImporter(EXECUTOR).importMnemonics(new ArrayList<String>())).isEmpty();
+    }
+
+    @Test
+    public void testReportsFailingIndex() throws Exception {
+        List<String> mnemonics = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            mnemonics.add(new Account().toMnemonic());
+        }
+        String[] words = mnemonics.get(6).split(" ");
+        words[24] = words[24].equals("abandon") ? "ability" : "abandon";
+        mnemonics.set(6, String.join(" ", words));
+        AccountImporter importer = new AccountImporter(EXECUTOR, 3);
+        assertThatThrownBy(() -> importer.importMnemonics(mnemonics))
+                .isInstanceOf(GeneralSecurityException.class)
+                .hasMessage("mnemonic 6: checksum failed to validate");
+
+        mnemonics.set(6, "not a mnemonic");
+        assertThatThrownBy(() -> importer.importMnemonics(mnemonics))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("mnemonic 6: mnemonic does not have enough words");
+    }
+}
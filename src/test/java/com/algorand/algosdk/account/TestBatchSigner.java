@@ -0,0 +1,84 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.SignedTransactionReader;
+import com.algorand.algosdk.transaction.Transaction;
+import com.algorand.algosdk.transaction.TxGroup;
+import com.algorand.algosdk.util.Encoder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.algorand.algosdk.Fixtures.payments;
+import static org.assertj.core.api.Assertions.*;
+
+public class TestBatchSigner {
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(4);
+
+    @AfterAll
+    public static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void testSignTransactions() throws Exception {
+        Account account = new Account();
+        List<Transaction> txns = payments(account.getAddress(), 75);
+        List<SignedTransaction> signed = new BatchSigner(account, POOL, 8).signTransactions(txns);
+        assertThat(signed).hasSize(75);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < txns.size(); i++) {
+            SignedTransaction stx = account.signTransaction(txns.get(i));
+            assertThat(signed.get(i)).isEqualTo(stx);
+            assertThat(signed.get(i).transactionID).isEqualTo(stx.transactionID);
+            expected.write(Encoder.encodeToMsgPack(stx));
+        }
+
+        byte[] encoded = new BatchSigner(account, POOL, 8).signTransactionsEncoded(txns);
+        assertThat(encoded).isEqualTo(expected.toByteArray());
+        SignedTransactionReader reader = SignedTransactionReader.fromBytes(encoded);
+        for (SignedTransaction stx : signed) {
+            assertThat(reader.read()).isEqualTo(stx);
+        }
+        assertThat(reader.read()).isNull();
+    }
+
+    @Test
+    public void testSignGroups() throws Exception {
+        Account account = new Account();
+        Transaction[][] groups = new Transaction[3][];
+        for (int g = 0; g < groups.length; g++) {
+            List<Transaction> txns = payments(account.getAddress(), g + 1);
+            groups[g] = TxGroup.assignGroupID(txns.toArray(new Transaction[txns.size()]));
+        }
+        SignedTransaction[][] signed = new BatchSigner(account, POOL, 2).signGroups(groups);
+        assertThat(signed).hasSize(3);
+        for (int g = 0; g < groups.length; g++) {
+            assertThat(signed[g]).hasSize(g + 1);
+            for (int i = 0; i < groups[g].length; i++) {
+                assertThat(signed[g][i]).isEqualTo(account.signTransaction(groups[g][i]));
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyBatch() throws Exception {
+        BatchSigner signer = new BatchSigner(new Account(), POOL);
+        assertThat(signer.signTransactions(Collections.<Transaction>emptyList())).isEmpty();
+        assertThat(signer.signTransactionsEncoded(Collections.<Transaction>emptyList())).isEmpty();
+    }
+
+    @Test
+    public void testInvalidArguments() throws Exception {
+        Account account = new Account();
+        assertThatThrownBy(() -> new BatchSigner(account, POOL, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BatchSigner(null, POOL))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,163 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.algorand.algosdk.Fixtures.payment;
+import static org.assertj.core.api.Assertions.*;
+
+public class TestBatchingSigner {
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testAccountSigner() throws Exception {
+        Account account = new Account();
+        Transaction tx = payment(account.getAddress(), 1);
+        List<SignedTransaction> signed = account.signAsync(Collections.singletonList(tx)).get();
+        assertThat(signed).containsExactly(account.signTransaction(tx));
+    }
+
+    @Test
+    public void testCoalescesBySize() throws Exception {
+        Account account = new Account();
+        LocalSigner local = new LocalSigner(executor, account);
+        // the timer never fires during the test, batches are sent because they are full.
+        BatchingSigner signer = new BatchingSigner(local, 10, 1, TimeUnit.HOURS, scheduler);
+
+        List<Transaction> txns = new ArrayList<>();
+        List<ListenableFuture<SignedTransaction>> futures = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            txns.add(payment(account.getAddress(), i));
+            futures.add(signer.sign(txns.get(i)));
+        }
+        List<SignedTransaction> signed = Futures.allAsList(futures).get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < txns.size(); i++) {
+            assertThat(signed.get(i)).isEqualTo(account.signTransaction(txns.get(i)));
+        }
+        assertThat(local.getRequestCount()).isEqualTo(3);
+        assertThat(local.getTransactionCount()).isEqualTo(30);
+    }
+
+    @Test
+    public void testFlushesAfterLatency() throws Exception {
+        Account account = new Account();
+        LocalSigner local = new LocalSigner(executor, account);
+        BatchingSigner signer = new BatchingSigner(local, 100, 20, TimeUnit.MILLISECONDS, scheduler);
+
+        Address from = account.getAddress();
+        List<Transaction> txns = Arrays.asList(payment(from, 1), payment(from, 2), payment(from, 3));
+        List<SignedTransaction> signed = signer.signAsync(txns).get(10, TimeUnit.SECONDS);
+        assertThat(signed).hasSize(3);
+        for (int i = 0; i < txns.size(); i++) {
+            assertThat(signed.get(i)).isEqualTo(account.signTransaction(txns.get(i)));
+        }
+        assertThat(local.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFlush() throws Exception {
+        Account account = new Account();
+        LocalSigner local = new LocalSigner(executor, account);
+        BatchingSigner signer = new BatchingSigner(local, 100, 1, TimeUnit.HOURS, scheduler);
+
+        ListenableFuture<SignedTransaction> future = signer.sign(payment(account.getAddress(), 1));
+        assertThat(future.isDone()).isFalse();
+        signer.flush();
+        assertThat(future.get(10, TimeUnit.SECONDS)).isNotNull();
+        // flushing an empty queue sends nothing.
+        signer.flush();
+        assertThat(local.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testConcurrentCallers() throws Exception {
+        final Account[] accounts = {new Account(), new Account(), new Account()};
+        LocalSigner local = new LocalSigner(executor, accounts);
+        final BatchingSigner signer = new BatchingSigner(local, 16, 5, TimeUnit.MILLISECONDS, scheduler);
+
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int c = 0; c < accounts.length; c++) {
+                final Account account = accounts[c];
+                results.add(callers.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        Transaction tx = payment(account.getAddress(), i);
+                        assertThat(signer.sign(tx).get(10, TimeUnit.SECONDS))
+                                .isEqualTo(account.signTransaction(tx));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(local.getTransactionCount()).isEqualTo(150);
+    }
+
+    @Test
+    public void testFailurePropagates() throws Exception {
+        Account known = new Account();
+        Account unknown = new Account();
+        LocalSigner local = new LocalSigner(executor, known);
+        BatchingSigner signer = new BatchingSigner(local, 2, 1, TimeUnit.HOURS, scheduler);
+
+        ListenableFuture<SignedTransaction> first = signer.sign(payment(known.getAddress(), 1));
+        ListenableFuture<SignedTransaction> second = signer.sign(payment(unknown.getAddress(), 1));
+        // the whole batch fails with the cause from the delegate.
+        assertThatThrownBy(() -> first.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> second.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("no account for sender");
+
+        // later batches are not affected.
+        assertThat(signer.signAsync(Arrays.asList(payment(known.getAddress(), 2), payment(known.getAddress(), 3)))
+                .get(10, TimeUnit.SECONDS)).hasSize(2);
+    }
+
+    @Test
+    public void testMismatchedResultFails() throws Exception {
+        Account account = new Account();
+        Signer broken = txns -> Futures.immediateFuture(Collections.<SignedTransaction>emptyList());
+        BatchingSigner signer = new BatchingSigner(broken, 1, 1, TimeUnit.HOURS, scheduler);
+
+        assertThatThrownBy(() -> signer.sign(payment(account.getAddress(), 1)).get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,153 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Signature;
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+import com.algorand.algosdk.util.Encoder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.algorand.algosdk.Fixtures.payment;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class TestKeyVault {
+    @Test
+    public void testSignsLikeAccount() throws Exception {
+        try (KeyVault vault = new KeyVault(4)) {
+            Account account = new Account();
+            Address address = vault.addMnemonic(account.toMnemonic());
+            assertThat(address).isEqualTo(account.getAddress());
+            assertThat(vault.contains(address)).isTrue();
+
+            byte[] message = {1, 2, 3, 4, 5};
+            assertThat(vault.signBytes(address, message)).isEqualTo(account.signBytes(message));
+            assertThat(vault.sign(address, message, 1, 3)).isEqualTo(account.sign(message, 1, 3));
+
+            Transaction tx = payment(address, 1234);
+            SignedTransaction fromVault = vault.signTransaction(address, tx);
+            SignedTransaction fromAccount = account.signTransaction(tx);
+            assertThat(fromVault.transactionID).isEqualTo(fromAccount.transactionID);
+            assertThat(Encoder.encodeToMsgPack(fromVault)).isEqualTo(Encoder.encodeToMsgPack(fromAccount));
+        }
+    }
+
+    @Test
+    public void testFullPowerOfTwoVault() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int capacity : new int[]{1, 2, 4, 8, 1024}) {
+                KeyVault vault = new KeyVault(capacity);
+                List<Address> stored = new ArrayList<>();
+                for (int i = 0; i < capacity; i++) {
+                    stored.add(vault.generate());
+                }
+                Address missing = new Address(new byte[32]);
+                assertThat(vault.contains(missing)).isFalse();
+                assertThat(vault.remove(missing)).isFalse();
+                assertThatThrownBy(() -> vault.signBytes(missing, new byte[]{1}))
+                        .isInstanceOf(IllegalArgumentException.class);
+                assertThatThrownBy(vault::generate)
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("key vault is full");
+                for (Address address : stored) {
+                    assertThat(vault.contains(address)).isTrue();
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testCapacityAndRemoval() throws Exception {
+        KeyVault vault = new KeyVault(2);
+        Address first = vault.generate();
+        Address second = vault.generate();
+        assertThat(vault.size()).isEqualTo(2);
+        // adding a stored key again does not use a slot.
+        Account account = new Account();
+        assertThatThrownBy(() -> vault.addMnemonic(account.toMnemonic()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("key vault is full");
+
+        assertThat(vault.remove(first)).isTrue();
+        assertThat(vault.remove(first)).isFalse();
+        assertThat(vault.contains(first)).isFalse();
+        assertThatThrownBy(() -> vault.signBytes(first, new byte[]{1}))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Address third = vault.addMnemonic(account.toMnemonic());
+        assertThat(vault.addMnemonic(account.toMnemonic())).isEqualTo(third);
+        assertThat(vault.size()).isEqualTo(2);
+        assertThat(vault.signBytes(third, new byte[]{1})).isEqualTo(account.signBytes(new byte[]{1}));
+        assertThat(third.verifyBytes(new byte[]{1}, vault.signBytes(third, new byte[]{1}))).isTrue();
+        assertThat(second.verifyBytes(new byte[]{2}, vault.signBytes(second, new byte[]{2}))).isTrue();
+
+        vault.close();
+        assertThat(vault.size()).isEqualTo(0);
+        assertThat(vault.contains(second)).isFalse();
+        assertThatThrownBy(() -> vault.signBytes(second, new byte[]{1}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("key vault is closed");
+        assertThatThrownBy(vault::generate).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testChurn() throws Exception {
+        KeyVault vault = new KeyVault(64);
+        List<Address> stored = new ArrayList<>();
+        Random random = new Random(11);
+        for (int round = 0; round < 2000; round++) {
+            if (stored.size() < 64 && (stored.isEmpty() || random.nextBoolean())) {
+                stored.add(vault.generate());
+            } else {
+                assertThat(vault.remove(stored.remove(random.nextInt(stored.size())))).isTrue();
+            }
+            assertThat(vault.size()).isEqualTo(stored.size());
+        }
+        for (Address address : stored) {
+            assertThat(vault.contains(address)).isTrue();
+            assertThat(address.verifyBytes(new byte[]{7}, vault.signBytes(address, new byte[]{7}))).isTrue();
+        }
+        vault.close();
+    }
+
+    @Test
+    public void testConcurrentSigning() throws Exception {
+        final KeyVault vault = new KeyVault(8);
+        final List<Address> addresses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            addresses.add(vault.generate());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 40; i++) {
+                        Address address = addresses.get((thread + i) % addresses.size());
+                        byte[] message = {(byte) thread, (byte) i};
+                        Signature sig = vault.signBytes(address, message);
+                        if (!address.verifyBytes(message, sig)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+            vault.close();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.algorand.algosdk.account;
+
+import com.algorand.algosdk.crypto.Ed25519PublicKey;
+import com.algorand.algosdk.crypto.MultisigAddress;
+import com.algorand.algosdk.transaction.BatchVerifier;
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.algorand.algosdk.Fixtures.accounts;
+import static com.algorand.algosdk.Fixtures.payment;
+import static com.algorand.algosdk.Fixtures.paymentBuilder;
+import static org.assertj.core.api.Assertions.*;
+
+public class TestMultisigAggregator {
+    private static MultisigAddress multisigAddress(int threshold, Account[] accounts) {
+        List<Ed25519PublicKey> keys = new ArrayList<>();
+        for (Account account : accounts) {
+            keys.add(account.getEd25519PublicKey());
+        }
+        return new MultisigAddress(1, threshold, keys);
+    }
+
+    @Test
+    public void testEmitsAtThreshold() throws Exception {
+        Account[] accounts = accounts(3);
+        MultisigAddress from = multisigAddress(2, accounts);
+        Transaction tx = payment(from.toAddress(), 10);
+        MultisigAggregator aggregator = new MultisigAggregator();
+
+        assertThat(aggregator.add(accounts[2].signMultisigTransaction(from, tx))).isNull();
+        assertThat(aggregator.signatureCount(tx.txID())).isEqualTo(1);
+        // a duplicate signature is ignored.
+        assertThat(aggregator.add(accounts[2].signMultisigTransaction(from, tx))).isNull();
+        assertThat(aggregator.signatureCount(tx.txID())).isEqualTo(1);
+
+        SignedTransaction completed = aggregator.add(accounts[0].signMultisigTransaction(from, tx));
+        assertThat(completed).isNotNull();
+        assertThat(completed.transactionID).isEqualTo(tx.txID());
+        assertThat(BatchVerifier.verify(completed)).isTrue();
+
+        // the same result as merging the partial transactions.
+        SignedTransaction merged = Account.mergeMultisigTransactions(
+                accounts[0].signMultisigTransaction(from, tx),
+                accounts[2].signMultisigTransaction(from, tx));
+        assertThat(completed.mSig).isEqualTo(merged.mSig);
+
+        // late signatures do not emit the transaction again.
+        assertThat(aggregator.add(accounts[1].signMultisigTransaction(from, tx))).isNull();
+        assertThat(aggregator.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSingleSubsig() throws Exception {
+        Account[] accounts = accounts(3);
+        MultisigAddress from = multisigAddress(2, accounts);
+        Transaction tx = payment(from.toAddress(), 10);
+        MultisigAggregator aggregator = new MultisigAggregator();
+
+        assertThat(aggregator.add(tx, from, accounts[1].getEd25519PublicKey(), accounts[1].signTransaction(tx).sig)).isNull();
+        SignedTransaction completed = aggregator.add(tx, from, accounts[0].getEd25519PublicKey(), accounts[0].signTransaction(tx).sig);
+        assertThat(completed).isNotNull();
+        assertThat(BatchVerifier.verify(completed)).isTrue();
+
+        Account stranger = new Account();
+        assertThatThrownBy(() -> aggregator.add(tx, from, stranger.getEd25519PublicKey(), stranger.signTransaction(tx).sig))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Multisig account does not contain this public key");
+        assertThatThrownBy(() -> aggregator.add(tx, from, accounts[0].getEd25519PublicKey(), accounts[1].signTransaction(tx).sig))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("transaction msig has mismatched signatures");
+    }
+
+    @Test
+    public void testRejectsMismatchedMultisig() throws Exception {
+        Account[] accounts = accounts(3);
+        MultisigAddress from = multisigAddress(2, accounts);
+        MultisigAddress other = multisigAddress(1, accounts);
+        Transaction tx = payment(from.toAddress(), 10);
+        MultisigAggregator aggregator = new MultisigAggregator();
+
+        assertThatThrownBy(() -> aggregator.add(tx, other, accounts[0].getEd25519PublicKey(), accounts[0].signTransaction(tx).sig))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Transaction sender does not match multisig account");
+        assertThatThrownBy(() -> accounts[0].signMultisigTransaction(other, tx))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Transaction sender does not match multisig account");
+    }
+
+    @Test
+    public void testEvictExpired() throws Exception {
+        Account[] accounts = accounts(2);
+        MultisigAddress from = multisigAddress(2, accounts);
+        Transaction early = paymentBuilder(from.toAddress(), 1).lastValid(100).build();
+        Transaction late = paymentBuilder(from.toAddress(), 2).lastValid(200).build();
+        MultisigAggregator aggregator = new MultisigAggregator();
+        aggregator.add(accounts[0].signMultisigTransaction(from, early));
+        aggregator.add(accounts[0].signMultisigTransaction(from, late));
+
+        assertThat(aggregator.evictExpired(BigInteger.valueOf(100))).isEqualTo(0);
+        assertThat(aggregator.evictExpired(BigInteger.valueOf(101))).isEqualTo(1);
+        assertThat(aggregator.signatureCount(early.txID())).isEqualTo(0);
+        assertThat(aggregator.signatureCount(late.txID())).isEqualTo(1);
+        assertThat(aggregator.remove(late.txID())).isTrue();
+        assertThat(aggregator.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testConflictingPartialDoesNotLoseCompletion() throws Exception {
+        Account[] accounts = accounts(3);
+        MultisigAddress from = multisigAddress(2, accounts);
+        Transaction tx = payment(from.toAddress(), 10);
+        Transaction other = payment(from.toAddress(), 11);
+        MultisigAggregator aggregator = new MultisigAggregator();
+        assertThat(aggregator.add(accounts[2].signMultisigTransaction(from, tx))).isNull();
+
+        // subsig 0 would reach the threshold, but subsig 2 conflicts with the merged signature.
+        SignedTransaction partial = Account.mergeMultisigTransactions(
+                accounts[0].signMultisigTransaction(from, tx),
+                accounts[2].signMultisigTransaction(from, tx));
+        partial.mSig.subsigs.get(2).sig = accounts[2].signTransaction(other).sig;
+        assertThatThrownBy(() -> aggregator.add(partial))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("transaction msig has mismatched signatures");
+        assertThat(aggregator.signatureCount(tx.txID())).isEqualTo(1);
+
+        SignedTransaction completed = aggregator.add(accounts[0].signMultisigTransaction(from, tx));
+        assertThat(completed).isNotNull();
+        assertThat(BatchVerifier.verify(completed)).isTrue();
+    }
+
+    @Test
+    public void testEvictKeepsTransactionsWithoutLastValid() throws Exception {
+        Account[] accounts = accounts(2);
+        MultisigAddress from = multisigAddress(2, accounts);
+        Transaction tx = paymentBuilder(from.toAddress(), 1).lastValid(100).build();
+        MultisigAggregator aggregator = new MultisigAggregator();
+        aggregator.add(tx, from, accounts[0].getEd25519PublicKey(), accounts[0].signTransaction(tx).sig);
+        tx.lastValid = null;
+
+        assertThat(aggregator.evictExpired(BigInteger.valueOf(1000))).isEqualTo(0);
+        assertThat(aggregator.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testConcurrentSigners() throws Exception {
+        final Account[] accounts = accounts(5);
+        final MultisigAddress from = multisigAddress(3, accounts);
+        final List<Transaction> txns = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            txns.add(payment(from.toAddress(), i));
+        }
+        final MultisigAggregator aggregator = new MultisigAggregator();
+        ExecutorService executor = Executors.newFixedThreadPool(accounts.length);
+        try {
+            List<Future<List<SignedTransaction>>> futures = new ArrayList<>();
+            for (final Account account : accounts) {
+                futures.add(executor.submit(() -> {
+                    List<SignedTransaction> emitted = new ArrayList<>();
+                    for (Transaction tx : txns) {
+                        SignedTransaction completed = aggregator.add(account.signMultisigTransaction(from, tx));
+                        if (completed != null) {
+                            emitted.add(completed);
+                        }
+                    }
+                    return emitted;
+                }));
+            }
+            List<SignedTransaction> emitted = new ArrayList<>();
+            for (Future<List<SignedTransaction>> future : futures) {
+                emitted.addAll(future.get());
+            }
+            // every transaction is emitted exactly once, with a valid multisig.
+            assertThat(emitted).hasSize(txns.size());
+            List<String> ids = new ArrayList<>();
+            for (SignedTransaction stx : emitted) {
+                ids.add(stx.transactionID);
+                assertThat(BatchVerifier.verify(stx)).isTrue();
+            }
+            List<String> expected = new ArrayList<>();
+            for (Transaction tx : txns) {
+                expected.add(tx.txID());
+            }
+            assertThat(ids).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(aggregator.signatureCount(expected.get(0))).isEqualTo(accounts.length);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -3,7 +3,11 @@ package com.algorand.algosdk.crypto;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
+import java.util.TreeSet;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -49,4 +53,70 @@ public class TestAddress {
         assertThat(o).isEqualTo(a);
         assertThat("VKM6KSCTDHEM6KGEAMSYCNEGIPFJMHDSEMIRAQLK76CJDIRMMDHKAIRMFQ").isEqualTo(o.encodeAsString());
     }
+
+    @Test
+    public void testAddressSerialVersionUID() {
+        // pinned to the value computed for earlier releases, so their serialized addresses still load.
+        assertThat(ObjectStreamClass.lookup(Address.class).getSerialVersionUID()).isEqualTo(6667453880927147912L);
+    }
+
+    @Test
+    public void testHashCodeAndOrder() throws Exception {
+        Random r = new Random(1);
+        Map<Address, Integer> map = new HashMap<>();
+        Address[] addrs = new Address[100];
+        for (int i = 0; i < addrs.length; i++) {
+            byte[] key = new byte[32];
+            r.nextBytes(key);
+            addrs[i] = new Address(key);
+            map.put(addrs[i], i);
+        }
+        for (int i = 0; i < addrs.length; i++) {
+            Address copy = new Address(addrs[i].getBytes());
+            assertThat(copy.hashCode()).isEqualTo(addrs[i].hashCode());
+            assertThat(map.get(copy)).isEqualTo(i);
+        }
+
+        byte[] low = new byte[32];
+        byte[] high = new byte[32];
+        low[0] = 0x7f;
+        high[0] = (byte) 0x80;
+        // bytes compare as unsigned numbers.
+        assertThat(new Address(low).compareTo(new Address(high))).isNegative();
+        assertThat(new Address(high).compareTo(new Address(low))).isPositive();
+        assertThat(new Address(low).compareTo(new Address(low))).isZero();
+        TreeSet<Address> sorted = new TreeSet<>(map.keySet());
+        Address previous = null;
+        for (Address a : sorted) {
+            if (previous != null) {
+                assertThat(new BigInteger(1, previous.getBytes()))
+                        .isLessThan(new BigInteger(1, a.getBytes()));
+            }
+            previous = a;
+        }
+    }
+
+    @Test
+    public void testZeroCopyAccessors() throws Exception {
+        Address a = new Address("VKM6KSCTDHEM6KGEAMSYCNEGIPFJMHDSEMIRAQLK76CJDIRMMDHKAIRMFQ");
+        byte[] bytes = a.getBytes();
+        byte[] dst = new byte[40];
+        a.writeTo(dst, 8);
+        for (int i = 0; i < Address.LEN_BYTES; i++) {
+            assertThat(dst[8 + i]).isEqualTo(bytes[i]);
+            assertThat(a.byteAt(i)).isEqualTo(bytes[i]);
+        }
+        assertThatThrownBy(() -> a.writeTo(dst, 9)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testStringCached() throws Exception {
+        Address a = new Address("VKM6KSCTDHEM6KGEAMSYCNEGIPFJMHDSEMIRAQLK76CJDIRMMDHKAIRMFQ");
+        assertThat(a.toString()).isSameAs(a.toString());
+        assertThat(a.encodeAsString()).isSameAs(a.toString());
+        // mutating a copy of the bytes does not affect the address.
+        byte[] bytes = a.getBytes();
+        bytes[0] ^= 1;
+        assertThat(a.toString()).isEqualTo("VKM6KSCTDHEM6KGEAMSYCNEGIPFJMHDSEMIRAQLK76CJDIRMMDHKAIRMFQ");
+    }
 }
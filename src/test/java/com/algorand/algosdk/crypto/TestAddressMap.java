@@ -0,0 +1,140 @@
+package com.algorand.algosdk.crypto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestAddressMap {
+    private static List<Address> addresses(Random r, int count) {
+        List<Address> addresses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[32];
+            r.nextBytes(bytes);
+            addresses.add(new Address(bytes));
+        }
+        return addresses;
+    }
+
+    private static void checkAgainstHashMap(AddressMap map) {
+        Random r = new Random(5);
+        List<Address> addresses = addresses(r, 2000);
+        Map<Address, Long> expected = new HashMap<>();
+        for (int op = 0; op < 50000; op++) {
+            Address a = addresses.get(r.nextInt(addresses.size()));
+            switch (r.nextInt(4)) {
+                case 0:
+                    long value = r.nextLong();
+                    assertThat(map.put(a, value)).isEqualTo(expected.put(a, value) == null);
+                    break;
+                case 1:
+                    long delta = r.nextInt(100);
+                    Long old = expected.get(a);
+                    long sum = (old == null ? 0 : old) + delta;
+                    expected.put(a, sum);
+                    assertThat(map.addTo(a, delta)).isEqualTo(sum);
+                    break;
+                case 2:
+                    assertThat(map.remove(a)).isEqualTo(expected.remove(a) != null);
+                    break;
+                default:
+                    assertThat(map.containsKey(a)).isEqualTo(expected.containsKey(a));
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        for (Address a : addresses) {
+            Long value = expected.get(a);
+            assertThat(map.get(a, -1)).isEqualTo(value == null ? -1 : value);
+        }
+        final Map<Address, Long> visited = new HashMap<>();
+        map.forEach((address, value) -> visited.put(address, value));
+        assertThat(visited).isEqualTo(expected);
+    }
+
+    @Test
+    public void testMatchesHashMap() {
+        checkAgainstHashMap(new AddressMap());
+    }
+
+    @Test
+    public void testMatchesHashMapOffHeap() {
+        AddressMap map = AddressMap.offHeap(10);
+        assertThat(map.isOffHeap()).isTrue();
+        checkAgainstHashMap(map);
+    }
+
+    @Test
+    public void testByteRangeKeys() {
+        Address a = addresses(new Random(6), 1).get(0);
+        byte[] buf = new byte[100];
+        a.writeTo(buf, 37);
+        AddressMap map = new AddressMap();
+        assertThat(map.put(buf, 37, 42)).isTrue();
+        assertThat(map.get(a, 0)).isEqualTo(42);
+        assertThat(map.addTo(buf, 37, 8)).isEqualTo(50);
+        assertThat(map.containsKey(buf, 36)).isFalse();
+        assertThatThrownBy(() -> map.get(buf, 69, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(map.remove(buf, 37)).isTrue();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testZeroAddress() {
+        AddressMap map = new AddressMap();
+        assertThat(map.containsKey(new Address())).isFalse();
+        assertThat(map.get(new Address(), -1)).isEqualTo(-1);
+        map.put(new Address(), 0);
+        assertThat(map.containsKey(new Address())).isTrue();
+        assertThat(map.get(new Address(), -1)).isEqualTo(0);
+    }
+
+    @Test
+    public void testGrowAndClear() {
+        AddressMap map = new AddressMap(4);
+        long initial = map.storageBytes();
+        List<Address> addresses = addresses(new Random(7), 10000);
+        for (int i = 0; i < addresses.size(); i++) {
+            map.put(addresses.get(i), i);
+        }
+        assertThat(map.size()).isEqualTo(10000);
+        assertThat(map.storageBytes()).isGreaterThan(initial);
+        for (int i = 0; i < addresses.size(); i++) {
+            assertThat(map.get(addresses.get(i), -1)).isEqualTo(i);
+        }
+        map.clear();
+        assertThat(map.size()).isZero();
+        assertThat(map.containsKey(addresses.get(0))).isFalse();
+    }
+
+    @Test
+    public void testSet() {
+        for (AddressSet set : new AddressSet[]{new AddressSet(), AddressSet.offHeap(0)}) {
+            Random r = new Random(8);
+            List<Address> addresses = addresses(r, 1000);
+            Set<Address> expected = new HashSet<>();
+            for (int op = 0; op < 20000; op++) {
+                Address a = addresses.get(r.nextInt(addresses.size()));
+                if (r.nextBoolean()) {
+                    assertThat(set.add(a)).isEqualTo(expected.add(a));
+                } else {
+                    byte[] buf = a.getBytes();
+                    assertThat(set.remove(buf, 0)).isEqualTo(expected.remove(a));
+                }
+            }
+            assertThat(set.size()).isEqualTo(expected.size());
+            for (Address a : addresses) {
+                assertThat(set.contains(a)).isEqualTo(expected.contains(a));
+            }
+            final Set<Address> visited = new HashSet<>();
+            set.forEach(visited::add);
+            assertThat(visited).isEqualTo(expected);
+        }
+    }
+}
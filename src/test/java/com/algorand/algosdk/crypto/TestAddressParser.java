@@ -0,0 +1,124 @@
+package com.algorand.algosdk.crypto;
+
+import com.algorand.algosdk.crypto.AddressParser.ParseError;
+import com.algorand.algosdk.crypto.AddressParser.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestAddressParser {
+    private static final String ADDR = "VKM6KSCTDHEM6KGEAMSYCNEGIPFJMHDSEMIRAQLK76CJDIRMMDHKAIRMFQ";
+    // last checksum character changed
+    private static final String BAD_CHECKSUM = "VKM6KSCTDHEM6KGEAMSYCNEGIPFJMHDSEMIRAQLK76CJDIRMMDHKAIRMFA";
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static List<String> randomAddresses(int count) {
+        Random r = new Random(9);
+        List<String> addresses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[32];
+            r.nextBytes(bytes);
+            addresses.add(new Address(bytes).toString());
+        }
+        return addresses;
+    }
+
+    @Test
+    public void testParseList() throws Exception {
+        List<String> input = Arrays.asList(ADDR, ADDR.toLowerCase(), "  " + ADDR + "\t", BAD_CHECKSUM,
+                ADDR.substring(1), ADDR.replace('V', '1'), "", null);
+        Result result = new AddressParser(executor).parse(input);
+
+        assertThat(result.size()).isEqualTo(8);
+        assertThat(result.validCount()).isEqualTo(3);
+        for (int i = 0; i < 3; i++) {
+            assertThat(result.isValid(i)).isTrue();
+            assertThat(result.getAddress(i)).isEqualTo(new Address(ADDR));
+            assertThat(result.getError(i)).isNull();
+        }
+        assertThat(result.getErrorIndexes()).containsExactly(3, 4, 5, 6, 7);
+        assertThat(result.getError(3)).isEqualTo(ParseError.CHECKSUM);
+        assertThat(result.getError(4)).isEqualTo(ParseError.MALFORMED);
+        assertThat(result.getError(5)).isEqualTo(ParseError.MALFORMED);
+        assertThat(result.getError(6)).isEqualTo(ParseError.MALFORMED);
+        assertThat(result.getError(7)).isEqualTo(ParseError.MALFORMED);
+        assertThat(result.getAddress(3)).isNull();
+        assertThat(Arrays.copyOfRange(result.getBytes(), 3 * 32, 4 * 32)).containsOnly(0);
+        assertThat(result.getValidityBitmap()).containsExactly(0b111L);
+        assertThatThrownBy(() -> result.isValid(8)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testParseLines() throws Exception {
+        AddressParser parser = new AddressParser(executor);
+        Result result = parser.parseLines(ADDR + "\r\n" + BAD_CHECKSUM + "\n\n" + ADDR + "\n");
+        assertThat(result.size()).isEqualTo(4);
+        assertThat(result.getErrorIndexes()).containsExactly(1, 2);
+        assertThat(result.getError(1)).isEqualTo(ParseError.CHECKSUM);
+        assertThat(result.getError(2)).isEqualTo(ParseError.MALFORMED);
+        assertThat(result.getAddress(3)).isEqualTo(new Address(ADDR));
+
+        assertThat(parser.parseLines((ADDR + "\n" + ADDR).toCharArray()).validCount()).isEqualTo(2);
+        assertThat(parser.parseLines("").size()).isZero();
+    }
+
+    @Test
+    public void testParallelMatchesAddress() throws Exception {
+        List<String> input = randomAddresses(1000);
+        // corrupt a checksum character of every seventh entry, the low bits of the last one are ignored.
+        for (int i = 0; i < input.size(); i += 7) {
+            String a = input.get(i);
+            input.set(i, a.substring(0, 55) + (a.charAt(55) == 'A' ? 'Q' : 'A') + a.substring(56));
+        }
+        Result result = new AddressParser(executor, 64).parse(input);
+        StringBuilder column = new StringBuilder();
+        for (int i = 0; i < input.size(); i++) {
+            column.append(input.get(i)).append('\n');
+            if (i % 7 == 0) {
+                assertThat(result.getError(i)).isEqualTo(ParseError.CHECKSUM);
+            } else {
+                assertThat(result.getAddress(i)).isEqualTo(new Address(input.get(i)));
+            }
+        }
+        Result lines = new AddressParser(executor, 128).parseLines(column);
+        assertThat(lines.getBytes()).isEqualTo(result.getBytes());
+        assertThat(lines.getValidityBitmap()).isEqualTo(result.getValidityBitmap());
+        assertThat(lines.getErrorIndexes()).isEqualTo(result.getErrorIndexes());
+    }
+
+    @Test
+    public void testAddressConstructor() throws Exception {
+        assertThat(new Address(ADDR.toLowerCase())).isEqualTo(new Address(ADDR));
+        assertThatThrownBy(() -> new Address(BAD_CHECKSUM))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Input checksum did not validate");
+        assertThatThrownBy(() -> new Address(ADDR.substring(8)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Wrong length");
+    }
+
+    @Test
+    public void testInvalidChunkSize() {
+        assertThatThrownBy(() -> new AddressParser(executor, 100)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
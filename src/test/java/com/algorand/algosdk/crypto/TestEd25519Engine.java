@@ -0,0 +1,110 @@
+package com.algorand.algosdk.crypto;
+
+import com.algorand.algosdk.account.Account;
+import com.algorand.algosdk.mnemonic.Mnemonic;
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+import com.algorand.algosdk.util.Encoder;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestEd25519Engine {
+    // RFC 8032 section 7.1, TEST 3
+    private static final byte[] SEED = Hex.decode("c5aa8df43f9f837bedb7442f31dcb7b166d38535076f094b85ce3a2e0b4458f7");
+    private static final byte[] PUBLIC_KEY = Hex.decode("fc51cd8e6218a1a38da47ed00230f0580816ed13ba3303ac5deb911548908025");
+    private static final byte[] MESSAGE = Hex.decode("af82");
+    private static final byte[] SIGNATURE = Hex.decode("6291d657deec24024827e69c3abe01a30ce548a284743a445e3680d7db5ac3ac18ff9b538d16f290ae67f760984dc6594a7c15e9716ed28dc027beceea1ec40a");
+
+    @AfterEach
+    public void restore() {
+        Ed25519Engine.setBackend(Ed25519Engine.Backend.RAW);
+    }
+
+    @Test
+    public void testRfc8032Vector() {
+        assertThat(Ed25519Engine.publicKey(SEED)).isEqualTo(PUBLIC_KEY);
+        byte[] sig = new byte[Ed25519Engine.SIGNATURE_LENGTH + 3];
+        Ed25519Engine.sign(SEED, 0, PUBLIC_KEY, 0, null, MESSAGE, 0, MESSAGE.length, sig, 3);
+        assertThat(Arrays.copyOfRange(sig, 3, sig.length)).isEqualTo(SIGNATURE);
+
+        for (Ed25519Engine.Backend backend : Ed25519Engine.Backend.values()) {
+            Ed25519Engine.setBackend(backend);
+            assertThat(Ed25519Engine.verify(PUBLIC_KEY, 0, null, MESSAGE, 0, MESSAGE.length, SIGNATURE, 0)).isTrue();
+            assertThat(Ed25519Engine.verify(new Ed25519PublicKey(PUBLIC_KEY), MESSAGE, new Signature(SIGNATURE))).isTrue();
+            // the prefix is part of the signed message.
+            assertThat(Ed25519Engine.verify(PUBLIC_KEY, 0, new byte[]{(byte) 0xaf}, MESSAGE, 1, 1, SIGNATURE, 0)).isTrue();
+            assertThat(Ed25519Engine.verify(PUBLIC_KEY, 0, null, MESSAGE, 1, 1, SIGNATURE, 0)).isFalse();
+        }
+    }
+
+    @Test
+    public void testMalformedInputs() {
+        for (Ed25519Engine.Backend backend : Ed25519Engine.Backend.values()) {
+            Ed25519Engine.setBackend(backend);
+            assertThat(Ed25519Engine.verify(PUBLIC_KEY, 0, null, MESSAGE, 0, MESSAGE.length, new byte[63], 0)).isFalse();
+            assertThat(Ed25519Engine.verify(new byte[31], 0, null, MESSAGE, 0, MESSAGE.length, SIGNATURE, 0)).isFalse();
+            assertThat(Ed25519Engine.verify(PUBLIC_KEY, 0, null, MESSAGE, 0, MESSAGE.length, new byte[64], 0)).isFalse();
+            byte[] notAPoint = new byte[32];
+            Arrays.fill(notAPoint, (byte) 0xff);
+            assertThat(Ed25519Engine.verify(notAPoint, 0, null, MESSAGE, 0, MESSAGE.length, SIGNATURE, 0)).isFalse();
+        }
+        assertThatThrownBy(() -> Ed25519Engine.publicKey(new byte[16]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("seed must be 32 bytes");
+        assertThatThrownBy(() -> Ed25519Engine.setBackend(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testBackendsAgree() throws Exception {
+        Random random = new Random(7);
+        Account account = new Account();
+        for (int i = 0; i < 20; i++) {
+            byte[] message = new byte[random.nextInt(6000)];
+            random.nextBytes(message);
+            Ed25519Engine.setBackend(Ed25519Engine.Backend.RAW);
+            Signature raw = account.signBytes(message);
+            Ed25519Engine.setBackend(Ed25519Engine.Backend.JCA);
+            Signature jca = account.signBytes(message);
+            // Ed25519 signatures are deterministic.
+            assertThat(raw).isEqualTo(jca);
+            assertThat(account.getAddress().verifyBytes(message, raw)).isTrue();
+            Ed25519Engine.setBackend(Ed25519Engine.Backend.RAW);
+            assertThat(account.getAddress().verifyBytes(message, jca)).isTrue();
+            message[0] ^= 1;
+            assertThat(message.length == 0 || !account.getAddress().verifyBytes(message, jca)).isTrue();
+        }
+    }
+
+    @Test
+    public void testSignTransactionGolden() throws Exception {
+        // same reference as TestAccount.testSignsTransactionE2E, signed with each backend.
+        final String REF_SIG_TXN = "82a3736967c4403f5a5cbc5cb038b0d29a53c0adf8a643822da0e41681bcab050e406fd40af20aa56a2f8c0e05d3bee8d4e8489ef13438151911b31b5ed5b660cac6bae4080507a374786e87a3616d74cd04d2a3666565cd03e8a26676ce0001a04fa26c76ce0001a437a3726376c4207d3f99e53d34ae49eb2f458761cf538408ffdaee35c70d8234166de7abe3e517a3736e64c4201bd63dc672b0bb29d42fcafa3422a4d385c0c8169bb01595babf8855cf596979a474797065a3706179";
+        final String REF_TX_ID = "BXSNCHKYEXB4AQXFRROUJGZ4ZWD7WL2F5D27YUPFR7ONDK5TMN5Q";
+        final String FROM_SK = "actress tongue harbor tray suspect odor load topple vocal avoid ignore apple lunch unknown tissue museum once switch captain place lemon sail outdoor absent creek";
+        byte[] seed = Mnemonic.toKey(FROM_SK);
+        Account account = new Account(seed);
+        assertThat(Ed25519Engine.publicKey(seed)).isEqualTo(account.getClearTextPublicKey());
+        Transaction tx = Transaction.PaymentTransactionBuilder()
+                .sender(account.getAddress())
+                .receiver("PU7ZTZJ5GSXET2ZPIWDWDT2TQQEP7WXOGXDQ3ARUCZW6PK7D4ULSE6NYCE")
+                .flatFee(Account.MIN_TX_FEE_UALGOS)
+                .amount(1234)
+                .firstValid(106575)
+                .lastValid(107575)
+                .genesisHash(new Digest())
+                .build();
+        for (Ed25519Engine.Backend backend : Ed25519Engine.Backend.values()) {
+            Ed25519Engine.setBackend(backend);
+            SignedTransaction stx = account.signTransaction(tx);
+            assertThat(Encoder.encodeToHexStr(Encoder.encodeToMsgPack(stx))).isEqualTo(REF_SIG_TXN);
+            assertThat(stx.transactionID).isEqualTo(REF_TX_ID);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.algorand.algosdk.crypto;
+
+import com.algorand.algosdk.account.Account;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.algorand.algosdk.Fixtures.accounts;
+import static org.assertj.core.api.Assertions.*;
+
+public class TestMultisigVerifier {
+    private static final byte[] MESSAGE = {0x4d, 0x58, 1, 2, 3, 4};
+
+    // Builds a multisig over the accounts, signed by the accounts at the given indexes.
+    private static MultisigSignature multisig(int threshold, Account[] accounts, int... signers) throws Exception {
+        MultisigSignature msig = new MultisigSignature(1, threshold);
+        for (Account account : accounts) {
+            msig.subsigs.add(new MultisigSignature.MultisigSubsig(account.getEd25519PublicKey()));
+        }
+        for (int i : signers) {
+            msig.subsigs.get(i).sig = accounts[i].sign(MESSAGE, 0, MESSAGE.length);
+        }
+        return msig;
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int i : indexes) {
+            bits.set(i);
+        }
+        return bits;
+    }
+
+    @Test
+    public void testStopsAtThreshold() throws Exception {
+        Account[] accounts = accounts(4);
+        MultisigSignature msig = multisig(2, accounts, 0, 1, 2, 3);
+        MultisigVerifier.Result result = new MultisigVerifier().verify(msig, MESSAGE);
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getValidSubsigs()).isEqualTo(bits(0, 1));
+        assertThat(result.getInvalidSubsigs().isEmpty()).isTrue();
+        assertThat(msig.verify(MESSAGE)).isTrue();
+    }
+
+    @Test
+    public void testStopsWhenThresholdUnreachable() throws Exception {
+        Account[] accounts = accounts(4);
+        MultisigSignature msig = multisig(3, accounts, 0, 1, 2, 3);
+        // corrupt the first two signatures, the threshold can no longer be reached after them.
+        msig.subsigs.get(0).sig = accounts[1].sign(MESSAGE, 0, MESSAGE.length);
+        msig.subsigs.get(1).sig = accounts[0].sign(MESSAGE, 0, MESSAGE.length);
+        MultisigVerifier.Result result = new MultisigVerifier().verify(msig, MESSAGE);
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getInvalidSubsigs()).isEqualTo(bits(0, 1));
+        assertThat(result.getValidSubsigs().isEmpty()).isTrue();
+        assertThat(msig.verify(MESSAGE)).isFalse();
+    }
+
+    @Test
+    public void testSkipsEmptySubsigs() throws Exception {
+        Account[] accounts = accounts(3);
+        MultisigSignature msig = multisig(2, accounts, 0, 2);
+        MultisigVerifier.Result result = new MultisigVerifier().verify(msig, MESSAGE);
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getValidSubsigs()).isEqualTo(bits(0, 2));
+
+        MultisigSignature insufficient = multisig(2, accounts, 1);
+        result = new MultisigVerifier().verify(insufficient, MESSAGE);
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getValidSubsigs().isEmpty()).isTrue();
+        assertThat(result.getInvalidSubsigs().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testMalformed() throws Exception {
+        Account[] accounts = accounts(2);
+        MultisigSignature msig = multisig(2, accounts, 0, 1);
+        msig.version = 2;
+        assertThat(new MultisigVerifier().verify(msig, MESSAGE).isValid()).isFalse();
+        msig.version = 1;
+        msig.threshold = 3;
+        assertThat(new MultisigVerifier().verify(msig, MESSAGE).isValid()).isFalse();
+        msig.threshold = 0;
+        assertThat(new MultisigVerifier().verify(msig, MESSAGE).isValid()).isFalse();
+    }
+
+    @Test
+    public void testConcurrentMatchesSequential() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            MultisigVerifier concurrent = new MultisigVerifier(executor);
+            Account[] accounts = accounts(6);
+            List<MultisigSignature> cases = new ArrayList<>();
+            cases.add(multisig(3, accounts, 0, 1, 2, 3, 4, 5));
+            cases.add(multisig(6, accounts, 0, 1, 2, 3, 4, 5));
+            cases.add(multisig(4, accounts, 1, 3, 5));
+            MultisigSignature corrupted = multisig(5, accounts, 0, 1, 2, 3, 4, 5);
+            corrupted.subsigs.get(4).sig = accounts[0].sign(MESSAGE, 0, MESSAGE.length);
+            corrupted.subsigs.get(5).sig = accounts[0].sign(MESSAGE, 0, MESSAGE.length);
+            cases.add(corrupted);
+
+            for (MultisigSignature msig : cases) {
+                MultisigVerifier.Result result = concurrent.verify(msig, MESSAGE);
+                assertThat(result.isValid()).isEqualTo(new MultisigVerifier().verify(msig, MESSAGE).isValid());
+                assertThat(msig.verify(MESSAGE, concurrent)).isEqualTo(result.isValid());
+                assertThat(result.getValidSubsigs().intersects(result.getInvalidSubsigs())).isFalse();
+            }
+            assertThat(concurrent.verify(cases.get(0), MESSAGE).getValidSubsigs().cardinality()).isGreaterThanOrEqualTo(3);
+            assertThat(concurrent.verify(corrupted, MESSAGE).isValid()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLogicsigWithVerifier() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Account[] accounts = accounts(3);
+            MultisigAddress ma = new MultisigAddress(1, 2, Arrays.asList(
+                    accounts[0].getEd25519PublicKey(),
+                    accounts[1].getEd25519PublicKey(),
+                    accounts[2].getEd25519PublicKey()));
+            LogicsigSignature lsig = new LogicsigSignature(new byte[]{0x01, 0x20, 0x01, 0x01, 0x22}, null);
+            lsig = accounts[0].signLogicsig(lsig, ma);
+            lsig = accounts[2].appendToLogicsig(lsig);
+            assertThat(lsig.verify(ma.toAddress())).isTrue();
+            assertThat(lsig.verify(ma.toAddress(), new MultisigVerifier(executor))).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
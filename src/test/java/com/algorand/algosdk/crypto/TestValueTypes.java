@@ -0,0 +1,80 @@
+package com.algorand.algosdk.crypto;
+
+import com.algorand.algosdk.util.Encoder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ObjectStreamClass;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestValueTypes {
+    private static byte[] random(Random r, int len) {
+        byte[] bytes = new byte[len];
+        r.nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    public void testSerialVersionUIDs() {
+        // pinned to the values computed for earlier releases, so their serialized objects still load.
+        assertThat(ObjectStreamClass.lookup(Digest.class).getSerialVersionUID()).isEqualTo(4134192968845728033L);
+        assertThat(ObjectStreamClass.lookup(Signature.class).getSerialVersionUID()).isEqualTo(-5634070947212973383L);
+        assertThat(ObjectStreamClass.lookup(Ed25519PublicKey.class).getSerialVersionUID()).isEqualTo(-3447401102162543602L);
+        assertThat(ObjectStreamClass.lookup(MultisigSignature.class).getSerialVersionUID()).isEqualTo(-541921353928474123L);
+    }
+
+    @Test
+    public void testDigest() {
+        Random r = new Random(2);
+        byte[] bytes = random(r, 32);
+        Digest d = new Digest(bytes);
+        Digest copy = new Digest(bytes.clone());
+        assertThat(d.hashCode()).isEqualTo(copy.hashCode());
+        assertThat(d.compareTo(copy)).isZero();
+        assertThat(new Digest().compareTo(d)).isNegative();
+        assertThat(d.toString()).isEqualTo(Encoder.encodeToBase64(bytes)).isSameAs(d.toString());
+        assertThat(new Digest(d.toString())).isEqualTo(d);
+        assertThat(d.byteAt(31)).isEqualTo(bytes[31]);
+
+        Set<Digest> set = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            set.add(new Digest(random(r, 32)));
+        }
+        set.add(copy);
+        assertThat(set).hasSize(101).contains(d);
+    }
+
+    @Test
+    public void testSignature() {
+        Random r = new Random(3);
+        byte[] bytes = random(r, 64);
+        Signature s = new Signature(bytes);
+        assertThat(s.hashCode()).isEqualTo(new Signature(bytes.clone()).hashCode());
+        assertThat(s.toString()).isEqualTo(Encoder.encodeToBase64(bytes));
+        byte[] dst = new byte[64];
+        s.writeTo(dst, 0);
+        assertThat(dst).isEqualTo(bytes);
+
+        byte[] other = bytes.clone();
+        other[63] = (byte) (bytes[63] + 1);
+        int expected = (bytes[63] & 0xff) == 0xff ? 1 : -1;
+        assertThat(Integer.signum(s.compareTo(new Signature(other)))).isEqualTo(expected);
+    }
+
+    @Test
+    public void testEd25519PublicKey() {
+        Random r = new Random(4);
+        byte[] bytes = random(r, 32);
+        Ed25519PublicKey pk = new Ed25519PublicKey(bytes);
+        assertThat(pk.hashCode()).isEqualTo(new Ed25519PublicKey(bytes.clone()).hashCode());
+        assertThat(pk.hashCode()).isEqualTo(new Address(bytes).hashCode());
+        assertThat(pk.compareTo(new Ed25519PublicKey(bytes.clone()))).isZero();
+        byte[] dst = new byte[33];
+        pk.writeTo(dst, 1);
+        assertThat(pk.byteAt(0)).isEqualTo(dst[1]);
+        assertThatThrownBy(() -> pk.writeTo(dst, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
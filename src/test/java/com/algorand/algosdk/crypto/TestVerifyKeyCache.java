@@ -0,0 +1,97 @@
+package com.algorand.algosdk.crypto;
+
+import com.algorand.algosdk.account.Account;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.PublicKey;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestVerifyKeyCache {
+    @AfterEach
+    public void restore() {
+        VerifyKeyCache.setMaximumSize(VerifyKeyCache.DEFAULT_MAXIMUM_SIZE);
+        Ed25519Engine.setBackend(Ed25519Engine.Backend.RAW);
+    }
+
+    @Test
+    public void testHitsAndMisses() throws Exception {
+        // only the JCA backend needs decoded keys.
+        Ed25519Engine.setBackend(Ed25519Engine.Backend.JCA);
+        VerifyKeyCache.setMaximumSize(100);
+        Account account = new Account();
+        PublicKey first = account.getAddress().toVerifyKey();
+        assertThat(VerifyKeyCache.missCount()).isEqualTo(1);
+        assertThat(VerifyKeyCache.hitCount()).isEqualTo(0);
+
+        assertThat(VerifyKeyCache.get(account.getEd25519PublicKey())).isSameAs(first);
+        assertThat(VerifyKeyCache.get(account.getClearTextPublicKey())).isSameAs(first);
+        assertThat(VerifyKeyCache.hitCount()).isEqualTo(2);
+        assertThat(VerifyKeyCache.size()).isEqualTo(1);
+
+        // the cached key verifies signatures.
+        byte[] message = {1, 2, 3};
+        assertThat(account.getAddress().verifyBytes(message, account.signBytes(message))).isTrue();
+        assertThat(VerifyKeyCache.hitCount()).isEqualTo(3);
+
+        VerifyKeyCache.clear();
+        assertThat(VerifyKeyCache.size()).isEqualTo(0);
+        assertThat(VerifyKeyCache.get(account.getAddress())).isNotSameAs(first);
+        assertThat(VerifyKeyCache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRawBackendSkipsCache() throws Exception {
+        Ed25519Engine.setBackend(Ed25519Engine.Backend.RAW);
+        VerifyKeyCache.setMaximumSize(100);
+        Account account = new Account();
+        byte[] message = {1, 2, 3};
+        assertThat(account.getAddress().verifyBytes(message, account.signBytes(message))).isTrue();
+        assertThat(account.getAddress().verifyBytes(message, account.signBytes(message))).isTrue();
+        assertThat(VerifyKeyCache.hitCount()).isEqualTo(0);
+        assertThat(VerifyKeyCache.missCount()).isEqualTo(0);
+        assertThat(VerifyKeyCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testBounded() throws Exception {
+        VerifyKeyCache.setMaximumSize(2);
+        Account a = new Account();
+        Account b = new Account();
+        Account c = new Account();
+        VerifyKeyCache.get(a.getAddress());
+        VerifyKeyCache.get(b.getAddress());
+        VerifyKeyCache.get(a.getAddress());
+        VerifyKeyCache.get(c.getAddress());
+        assertThat(VerifyKeyCache.size()).isEqualTo(2);
+        // b was the least recently used key.
+        VerifyKeyCache.get(a.getAddress());
+        VerifyKeyCache.get(c.getAddress());
+        assertThat(VerifyKeyCache.hitCount()).isEqualTo(3);
+        assertThat(VerifyKeyCache.missCount()).isEqualTo(3);
+
+        VerifyKeyCache.setMaximumSize(0);
+        assertThat(VerifyKeyCache.get(a.getAddress())).isNotNull();
+        assertThat(VerifyKeyCache.size()).isEqualTo(0);
+        assertThatThrownBy(() -> VerifyKeyCache.setMaximumSize(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMultisigUsesCache() throws Exception {
+        Ed25519Engine.setBackend(Ed25519Engine.Backend.JCA);
+        Account a = new Account();
+        Account b = new Account();
+        MultisigAddress msa = new MultisigAddress(1, 2, Arrays.asList(a.getEd25519PublicKey(), b.getEd25519PublicKey()));
+        LogicsigSignature lsig = new LogicsigSignature(new byte[]{0x01, 0x20, 0x01, 0x01, 0x22});
+        a.signLogicsig(lsig, msa);
+        b.appendToLogicsig(lsig);
+        VerifyKeyCache.setMaximumSize(100);
+        assertThat(lsig.verify(msa.toAddress())).isTrue();
+        long misses = VerifyKeyCache.missCount();
+        assertThat(lsig.verify(msa.toAddress())).isTrue();
+        assertThat(VerifyKeyCache.missCount()).isEqualTo(misses);
+        assertThat(VerifyKeyCache.hitCount()).isGreaterThanOrEqualTo(2);
+    }
+}
@@ -27,6 +27,44 @@ public class TestMnemonic {
                 .hasMessage("mnemonic contains word that is not in word list");
     }
 
+    @Test
+    public void testPrefixForm() throws Exception {
+        Random r = new Random(5);
+        for (int i = 0; i < 100; i++) {
+            byte[] randKey = new byte[32];
+            r.nextBytes(randKey);
+            String[] words = Mnemonic.fromKey(randKey).split(" ");
+            StringBuilder s = new StringBuilder();
+            for (int j = 0; j < words.length; j++) {
+                if (j > 0) s.append(" ");
+                // mix full words and prefixes, including the checksum word.
+                s.append(j % 2 == 0 ? words[j].substring(0, Math.min(4, words[j].length())) : words[j]);
+            }
+            assertThat(Mnemonic.toKey(s.toString())).isEqualTo(randKey);
+        }
+        // prefixes must be exactly four letters.
+        String zeros = "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon inve";
+        assertThat(Mnemonic.toKey(zeros)).isEqualTo(new byte[32]);
+        assertThat(Mnemonic.toKey(zeros.replaceFirst("abandon", "aban"))).isEqualTo(new byte[32]);
+        assertThatThrownBy(() -> Mnemonic.toKey(zeros.replaceFirst("abandon", "abil")))
+                .isInstanceOf(GeneralSecurityException.class)
+                .hasMessage("checksum failed to validate");
+        assertThatThrownBy(() -> Mnemonic.toKey(zeros.replaceFirst("abandon", "aba")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("mnemonic contains word that is not in word list");
+        assertThatThrownBy(() -> Mnemonic.toKey(zeros.replaceFirst("abandon", "abandonx")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("mnemonic contains word that is not in word list");
+    }
+
+    @Test
+    public void testWordlistIndex() {
+        for (int i = 0; i < Wordlist.RAW.length; i++) {
+            assertThat(Wordlist.indexOf(Wordlist.RAW[i])).isEqualTo(i);
+        }
+        assertThat(Wordlist.indexOf("zzz")).isEqualTo(-1);
+    }
+
     @Test
     public void testGenerateAndRecovery() throws Exception {
         Random r = new Random();
@@ -0,0 +1,158 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.util.Digester;
+import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.MsgPackWriter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestBatchTxHasher {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private final Random r = new Random(8);
+
+    @AfterAll
+    public static void shutdown() {
+        POOL.shutdown();
+    }
+
+    private byte[] bytes(int len) {
+        byte[] b = new byte[len];
+        r.nextBytes(b);
+        return b;
+    }
+
+    private Transaction payment() {
+        return Transaction.PaymentTransactionBuilder()
+                .sender(new Address(bytes(32)))
+                .receiver(new Address(bytes(32)))
+                .amount(r.nextInt(1000000))
+                .flatFee(1000)
+                .firstValid(r.nextInt(10000))
+                .lastValid(10000 + r.nextInt(1000))
+                .note(r.nextBoolean() ? null : bytes(r.nextInt(64) + 1))
+                .genesisID("testnet-v1.0")
+                .genesisHash(new Digest(bytes(32)))
+                .build();
+    }
+
+    private List<Transaction> payments(int count) {
+        List<Transaction> txns = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            txns.add(payment());
+        }
+        return txns;
+    }
+
+    @Test
+    public void testTxIDs() throws Exception {
+        List<Transaction> txns = payments(1000);
+        byte[] ids = new BatchTxHasher(POOL).computeTxIDs(txns);
+        assertThat(ids).hasSize(1000 * 32);
+        for (int i = 0; i < txns.size(); i++) {
+            assertThat(BatchTxHasher.digestAt(ids, i)).isEqualTo(txns.get(i).rawTxID());
+        }
+
+        byte[] out = new byte[10 + 1000 * 32];
+        new BatchTxHasher(POOL).computeTxIDs(txns, out, 10);
+        assertThat(Arrays.copyOfRange(out, 10, out.length)).isEqualTo(ids);
+        assertThatThrownBy(() -> new BatchTxHasher(POOL).computeTxIDs(txns, out, 11))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(new BatchTxHasher().computeTxIDs(Collections.<Transaction>emptyList())).isEmpty();
+    }
+
+    @Test
+    public void testGroupEncodingMatchesJackson() throws Exception {
+        byte[] txIDs = bytes(3 * 32);
+        List<byte[]> list = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            list.add(Arrays.copyOfRange(txIDs, i * 32, i * 32 + 32));
+        }
+        byte[] encoded = Encoder.encodeToMsgPack(Collections.singletonMap("txlist", list));
+        byte[] expected = Digester.digest("TG".getBytes(StandardCharsets.UTF_8), encoded);
+
+        byte[] out = new byte[32];
+        TxGroup.computeGroupID(txIDs, 0, 3, new MsgPackWriter(), out, 0);
+        assertThat(out).isEqualTo(expected);
+    }
+
+    @Test
+    public void testAssignGroupIDs() throws Exception {
+        int groupCount = 200;
+        Transaction[][] groups = new Transaction[groupCount][];
+        Transaction[][] expected = new Transaction[groupCount][];
+        for (int g = 0; g < groupCount; g++) {
+            int size = 1 + r.nextInt(16);
+            groups[g] = payments(size).toArray(new Transaction[size]);
+            expected[g] = new Transaction[size];
+            for (int i = 0; i < size; i++) {
+                expected[g][i] = Encoder.decodeFromMsgPack(Encoder.encodeToMsgPack(groups[g][i]), Transaction.class);
+            }
+        }
+        // an existing group is hashed and then replaced, as TxGroup.assignGroupID does.
+        groups[0][0].group = new Digest(bytes(32));
+        expected[0][0].group = groups[0][0].group;
+
+        byte[] groupIDs = new byte[groupCount * 32];
+        int total = 0;
+        for (Transaction[] group : groups) {
+            total += group.length;
+        }
+        byte[] txIDs = new byte[total * 32];
+        new BatchTxHasher(POOL).assignGroupIDs(groups, groupIDs, txIDs);
+
+        int t = 0;
+        for (int g = 0; g < groupCount; g++) {
+            Digest gid = TxGroup.computeGroupID(expected[g]);
+            assertThat(BatchTxHasher.digestAt(groupIDs, g)).isEqualTo(gid);
+            Transaction[] assigned = TxGroup.assignGroupID(expected[g]);
+            for (int i = 0; i < groups[g].length; i++, t++) {
+                assertThat(groups[g][i].group).isEqualTo(gid);
+                assertThat(groups[g][i]).isEqualTo(assigned[i]);
+                assertThat(BatchTxHasher.digestAt(txIDs, t)).isEqualTo(assigned[i].rawTxID());
+            }
+        }
+    }
+
+    @Test
+    public void testAssignGroupIDsList() {
+        List<Transaction[]> groups = new ArrayList<>();
+        for (int g = 0; g < 5; g++) {
+            groups.add(payments(3).toArray(new Transaction[3]));
+        }
+        byte[] groupIDs = new BatchTxHasher(POOL).assignGroupIDs(groups);
+        for (int g = 0; g < 5; g++) {
+            assertThat(groups.get(g)[2].group).isEqualTo(BatchTxHasher.digestAt(groupIDs, g));
+        }
+    }
+
+    @Test
+    public void testEmptyGroup() {
+        Transaction[][] groups = {{payment()}, {}};
+        assertThatThrownBy(() -> new BatchTxHasher(POOL).assignGroupIDs(groups))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("empty transaction list in group 1");
+        assertThat(groups[0][0].group).isEqualTo(new Digest());
+    }
+
+    @Test
+    public void testLargeAmounts() throws Exception {
+        Transaction tx = payment();
+        tx.amount = new BigInteger("18446744073709551615");
+        byte[] ids = new BatchTxHasher(POOL).computeTxIDs(Collections.singletonList(tx));
+        assertThat(BatchTxHasher.digestAt(ids, 0)).isEqualTo(tx.rawTxID());
+    }
+}
@@ -0,0 +1,143 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.account.Account;
+import com.algorand.algosdk.crypto.LogicsigSignature;
+import com.algorand.algosdk.crypto.MultisigAddress;
+import com.algorand.algosdk.crypto.Signature;
+import com.algorand.algosdk.util.Encoder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.algorand.algosdk.Fixtures.payment;
+import static org.assertj.core.api.Assertions.*;
+
+public class TestBatchVerifier {
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(4);
+    private static final byte[] PROGRAM = {0x01, 0x20, 0x01, 0x01, 0x22};
+
+    @AfterAll
+    public static void shutdown() {
+        POOL.shutdown();
+    }
+
+    private static SignedTransaction copy(SignedTransaction stx) throws Exception {
+        return Encoder.decodeFromMsgPack(Encoder.encodeToMsgPack(stx), SignedTransaction.class);
+    }
+
+    @Test
+    public void testMixedBatch() throws Exception {
+        Account a = new Account();
+        Account b = new Account();
+        Account c = new Account();
+        MultisigAddress msa = new MultisigAddress(1, 2,
+                Arrays.asList(a.getEd25519PublicKey(), b.getEd25519PublicKey(), c.getEd25519PublicKey()));
+        LogicsigSignature contract = new LogicsigSignature(PROGRAM);
+        LogicsigSignature delegated = a.signLogicsig(new LogicsigSignature(PROGRAM));
+
+        List<SignedTransaction> batch = new ArrayList<>();
+        BitSet expected = new BitSet();
+        for (int i = 0; i < 40; i++) {
+            SignedTransaction stx;
+            switch (i % 5) {
+                case 0:
+                    stx = a.signTransaction(payment(a.getAddress(), i));
+                    break;
+                case 1: {
+                    Transaction tx = payment(msa.toAddress(), i);
+                    stx = b.appendMultisigTransaction(msa, a.signMultisigTransaction(msa, tx));
+                    break;
+                }
+                case 2:
+                    stx = Account.signLogicsigTransaction(contract, payment(contract.toAddress(), i));
+                    break;
+                case 3:
+                    stx = Account.signLogicsigTransaction(delegated, payment(a.getAddress(), i));
+                    break;
+                default:
+                    stx = c.signTransaction(payment(c.getAddress(), i));
+            }
+            stx = copy(stx);
+            switch (i % 7) {
+                case 1:
+                    // amount changed after signing, logic signatures only sign the program.
+                    stx.tx.amount = BigInteger.valueOf(1000 + i);
+                    if (stx.lSig.logic == null) {
+                        expected.set(i);
+                    }
+                    break;
+                case 4:
+                    // signed by someone other than the sender.
+                    stx.tx.sender = b.getAddress();
+                    expected.set(i);
+                    break;
+                default:
+            }
+            batch.add(stx);
+        }
+
+        assertThat(new BatchVerifier().findInvalid(batch)).isEqualTo(expected);
+        assertThat(new BatchVerifier(POOL, 3).findInvalid(batch)).isEqualTo(expected);
+        assertThat(new BatchVerifier(POOL).verifyAll(batch)).isFalse();
+
+        List<SignedTransaction> valid = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (!expected.get(i)) {
+                valid.add(batch.get(i));
+            }
+        }
+        assertThat(new BatchVerifier(POOL).verifyAll(valid)).isTrue();
+    }
+
+    @Test
+    public void testMultisigRules() throws Exception {
+        Account a = new Account();
+        Account b = new Account();
+        MultisigAddress msa = new MultisigAddress(1, 2, Arrays.asList(a.getEd25519PublicKey(), b.getEd25519PublicKey()));
+        Transaction tx = payment(msa.toAddress(), 5);
+
+        // below threshold.
+        assertThat(BatchVerifier.verify(a.signMultisigTransaction(msa, tx))).isFalse();
+        SignedTransaction full = b.appendMultisigTransaction(msa, a.signMultisigTransaction(msa, tx));
+        assertThat(BatchVerifier.verify(full)).isTrue();
+
+        // keys of a different multisig account than the sender.
+        MultisigAddress other = new MultisigAddress(1, 1, Arrays.asList(a.getEd25519PublicKey(), b.getEd25519PublicKey()));
+        SignedTransaction wrongAccount = copy(full);
+        wrongAccount.mSig.threshold = 1;
+        assertThat(other.toAddress()).isNotEqualTo(msa.toAddress());
+        assertThat(BatchVerifier.verify(wrongAccount)).isFalse();
+    }
+
+    @Test
+    public void testSignatureKinds() throws Exception {
+        Account a = new Account();
+        SignedTransaction stx = a.signTransaction(payment(a.getAddress(), 1));
+        assertThat(BatchVerifier.verify(stx)).isTrue();
+
+        SignedTransaction unsigned = copy(stx);
+        unsigned.sig = new Signature();
+        assertThat(BatchVerifier.verify(unsigned)).isFalse();
+
+        SignedTransaction both = copy(stx);
+        both.lSig = a.signLogicsig(new LogicsigSignature(PROGRAM));
+        assertThat(BatchVerifier.verify(both)).isFalse();
+
+        SignedTransaction badSig = copy(stx);
+        byte[] sig = badSig.sig.getBytes();
+        sig[3] ^= 1;
+        badSig.sig = new Signature(sig);
+        assertThat(BatchVerifier.verify(badSig)).isFalse();
+
+        assertThat(new BatchVerifier().findInvalid(Collections.<SignedTransaction>emptyList()).isEmpty()).isTrue();
+        assertThat(new BatchVerifier().findInvalid(Arrays.asList(stx, null))).isEqualTo(BitSet.valueOf(new long[]{2}));
+    }
+}
@@ -0,0 +1,194 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.crypto.Ed25519PublicKey;
+import com.algorand.algosdk.crypto.LogicsigSignature;
+import com.algorand.algosdk.crypto.MultisigSignature;
+import com.algorand.algosdk.crypto.MultisigSignature.MultisigSubsig;
+import com.algorand.algosdk.crypto.ParticipationPublicKey;
+import com.algorand.algosdk.crypto.Signature;
+import com.algorand.algosdk.crypto.VRFPublicKey;
+import com.algorand.algosdk.util.Encoder;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestCanonicalEncoder {
+    private static final BigInteger[] NUMBERS = {
+            BigInteger.ZERO, BigInteger.ONE, BigInteger.valueOf(127), BigInteger.valueOf(128), BigInteger.valueOf(255),
+            BigInteger.valueOf(256), BigInteger.valueOf(65535), BigInteger.valueOf(65536), BigInteger.valueOf(4294967295L),
+            BigInteger.valueOf(4294967296L), BigInteger.valueOf(Long.MAX_VALUE), new BigInteger("18446744073709551615"),
+            BigInteger.valueOf(-1), BigInteger.valueOf(-33), BigInteger.valueOf(-129), BigInteger.valueOf(-40000),
+            BigInteger.valueOf(Long.MIN_VALUE), null
+    };
+
+    private final Random r = new Random(1234);
+
+    private BigInteger number() {
+        return NUMBERS[r.nextInt(NUMBERS.length)];
+    }
+
+    private byte[] bytes(int len) {
+        byte[] b = new byte[len];
+        r.nextBytes(b);
+        return b;
+    }
+
+    private Address address() {
+        switch (r.nextInt(4)) {
+            case 0: return new Address();
+            case 1: return null;
+            default: return new Address(bytes(32));
+        }
+    }
+
+    private String string() {
+        switch (r.nextInt(6)) {
+            case 0: return "";
+            case 1: return null;
+            case 2: return "testnet-v1.0";
+            case 3: return "héllo € 😀";
+            case 4: return new String(new char[40]).replace('\0', 'x');
+            default: return new String(new char[300]).replace('\0', 'y');
+        }
+    }
+
+    private byte[] optionalBytes() {
+        switch (r.nextInt(5)) {
+            case 0: return null;
+            case 1: return new byte[0];
+            case 2: return bytes(300);
+            case 3: return r.nextInt(10) == 0 ? bytes(70000) : bytes(1000);
+            default: return bytes(1 + r.nextInt(40));
+        }
+    }
+
+    private Transaction randomTransaction() {
+        Transaction tx = new Transaction();
+        Transaction.Type[] types = Transaction.Type.values();
+        tx.type = r.nextInt(10) == 0 ? null : types[r.nextInt(types.length)];
+        tx.sender = address();
+        tx.fee = number();
+        tx.firstValid = number();
+        tx.lastValid = number();
+        tx.note = optionalBytes();
+        tx.genesisID = string();
+        tx.genesisHash = r.nextBoolean() ? new Digest(bytes(32)) : new Digest();
+        tx.group = r.nextBoolean() ? new Digest(bytes(32)) : new Digest();
+        tx.lease = r.nextBoolean() ? null : bytes(32);
+        tx.amount = number();
+        tx.receiver = address();
+        tx.closeRemainderTo = address();
+        tx.votePK = r.nextBoolean() ? new ParticipationPublicKey(bytes(32)) : new ParticipationPublicKey();
+        tx.selectionPK = r.nextBoolean() ? new VRFPublicKey(bytes(32)) : new VRFPublicKey();
+        tx.voteFirst = number();
+        tx.voteLast = number();
+        tx.voteKeyDilution = number();
+        if (r.nextBoolean()) {
+            Transaction.AssetParams params = new Transaction.AssetParams();
+            params.assetTotal = number();
+            params.assetDecimals = r.nextInt(5) == 0 ? null : r.nextInt(20);
+            params.assetDefaultFrozen = r.nextBoolean();
+            params.assetUnitName = string();
+            params.assetName = string();
+            params.url = string();
+            params.metadataHash = optionalBytes();
+            params.assetManager = address();
+            params.assetReserve = address();
+            params.assetFreeze = address();
+            params.assetClawback = address();
+            tx.assetParams = params;
+        }
+        tx.assetIndex = number();
+        tx.xferAsset = number();
+        tx.assetAmount = number();
+        tx.assetSender = address();
+        tx.assetReceiver = address();
+        tx.assetCloseTo = address();
+        tx.freezeTarget = address();
+        tx.assetFreezeID = number();
+        tx.freezeState = r.nextBoolean();
+        return tx;
+    }
+
+    private MultisigSignature randomMultisig() {
+        MultisigSignature msig = new MultisigSignature(r.nextInt(3), r.nextInt(3));
+        int n = r.nextInt(20);
+        for (int i = 0; i < n; i++) {
+            switch (r.nextInt(4)) {
+                case 0: msig.subsigs.add(new MultisigSubsig(new Ed25519PublicKey(bytes(32)))); break;
+                case 1: msig.subsigs.add(new MultisigSubsig()); break;
+                default: msig.subsigs.add(new MultisigSubsig(new Ed25519PublicKey(bytes(32)), new Signature(bytes(64))));
+            }
+        }
+        return msig;
+    }
+
+    @Test
+    public void testTransactionsMatchJackson() throws Exception {
+        for (int i = 0; i < 500; i++) {
+            Transaction tx = randomTransaction();
+            byte[] expected;
+            try {
+                expected = Encoder.encodeToMsgPack(tx);
+            } catch (Exception e) {
+                // values Jackson cannot encode either, such as numbers outside of 64 bits.
+                continue;
+            }
+            assertThat(CanonicalEncoder.encode(tx)).isEqualTo(expected);
+            assertThat(CanonicalEncoder.encodedSize(tx)).isEqualTo(expected.length);
+        }
+    }
+
+    @Test
+    public void testSignedTransactionsMatchJackson() throws Exception {
+        for (int i = 0; i < 500; i++) {
+            Transaction tx = randomTransaction();
+            tx.fee = BigInteger.valueOf(1000);
+            SignedTransaction stx;
+            switch (i % 4) {
+                case 0:
+                    stx = new SignedTransaction(tx, new Signature(bytes(64)), "");
+                    break;
+                case 1:
+                    stx = new SignedTransaction(tx, randomMultisig(), "");
+                    break;
+                case 2:
+                    List<byte[]> args = new ArrayList<>();
+                    for (int j = r.nextInt(3); j > 0; j--) args.add(bytes(r.nextInt(40)));
+                    LogicsigSignature lsig = new LogicsigSignature(new byte[]{0x01, 0x20, 0x01, 0x01, 0x22}, r.nextBoolean() ? args : null);
+                    if (r.nextBoolean()) lsig.sig = new Signature(bytes(64));
+                    else if (r.nextBoolean()) lsig.msig = randomMultisig();
+                    stx = new SignedTransaction(tx, lsig, "");
+                    break;
+                default:
+                    stx = new SignedTransaction(tx, new Signature(), "");
+            }
+            byte[] expected = Encoder.encodeToMsgPack(stx);
+            assertThat(CanonicalEncoder.encode(stx)).isEqualTo(expected);
+            assertThat(CanonicalEncoder.encodedSize(stx)).isEqualTo(expected.length);
+        }
+    }
+
+    @Test
+    public void testEncodeIntoBuffer() throws Exception {
+        Transaction tx = randomTransaction();
+        tx.note = null;
+        tx.fee = BigInteger.TEN;
+        byte[] expected = Encoder.encodeToMsgPack(tx);
+        byte[] dst = new byte[expected.length + 10];
+        int n = CanonicalEncoder.encode(tx, dst, 7);
+        assertThat(n).isEqualTo(expected.length);
+        assertThat(Arrays.copyOfRange(dst, 7, 7 + n)).isEqualTo(expected);
+
+        assertThatThrownBy(() -> CanonicalEncoder.encode(tx, new byte[expected.length - 1], 0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,193 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.account.Account;
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.crypto.ParticipationPublicKey;
+import com.algorand.algosdk.crypto.VRFPublicKey;
+import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.UInt64;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestCompactTransaction {
+    private static final Address ADDR = addr("BH55E5RMBD4GYWXGX5W5PJ5JAHPGM5OXKDQH5DC4O2MGI7NW4H6VOE4CP4");
+    private static final Address OTHER = addr("DN7MBMCL5JQ3PFUQS7TMX5AH4EEKOBJVDUF4TCV6WERATKFLQF4MQUPZTA");
+    private static final byte[] GH = Encoder.decodeFromBase64("SGO1GKSzyE7IEPItTxCByw9x8FmnrCDexi9/cOUJOiI=");
+
+    private static Address addr(String s) {
+        try {
+            return new Address(s);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<Transaction> transactions() {
+        byte[] lease = new byte[32];
+        lease[0] = 1;
+        Transaction payment = Transaction.PaymentTransactionBuilder()
+                .sender(ADDR)
+                .fee(1000)
+                .firstValid(322575)
+                .lastValid(323575)
+                .note(new byte[]{1, 2, 3})
+                .genesisID("testnet-v1.0")
+                .genesisHash(GH)
+                .amount(BigInteger.valueOf(1234567890123L))
+                .receiver(OTHER)
+                .closeRemainderTo(OTHER)
+                .lease(lease)
+                .build();
+        payment.assignGroupID(new Digest(GH));
+
+        Transaction keyreg = new Transaction(Transaction.Type.KeyRegistration, ADDR, BigInteger.valueOf(2000),
+                BigInteger.valueOf(1), BigInteger.valueOf(1000), null, "", new Digest(GH), null, null, null, null,
+                null, new ParticipationPublicKey(new byte[32]), new VRFPublicKey(GH), BigInteger.valueOf(10),
+                BigInteger.valueOf(100000), BigInteger.valueOf(10000), null, null, null, null, null, null, null,
+                null, null, false);
+        keyreg.votePK = new ParticipationPublicKey(GH);
+
+        Transaction create = Transaction.AssetCreateTransactionBuilder()
+                .sender(ADDR)
+                .fee(10)
+                .firstValid(322575)
+                .lastValid(323575)
+                .genesisHash(GH)
+                .assetTotal(UInt64.MAX_VALUE)
+                .assetDecimals(2)
+                .assetUnitName("tst")
+                .assetName("testcoin")
+                .url("website")
+                .manager(ADDR)
+                .reserve(OTHER)
+                .build();
+
+        Transaction transfer = Transaction.AssetTransferTransactionBuilder()
+                .sender(ADDR)
+                .assetReceiver(OTHER)
+                .assetCloseTo(OTHER)
+                .assetAmount(1)
+                .fee(10)
+                .firstValid(322575)
+                .lastValid(323576)
+                .genesisHash(GH)
+                .assetIndex(1)
+                .build();
+
+        Transaction freeze = Transaction.AssetFreezeTransactionBuilder()
+                .sender(ADDR)
+                .freezeTarget(OTHER)
+                .freezeState(true)
+                .fee(10)
+                .firstValid(322575)
+                .lastValid(323576)
+                .genesisHash(GH)
+                .assetIndex(BigInteger.valueOf(7))
+                .build();
+
+        // values from 2^63 to 2^64-1 do not fit a signed long.
+        Transaction large = Transaction.PaymentTransactionBuilder()
+                .sender(ADDR)
+                .flatFee(UInt64.MAX_VALUE)
+                .firstValid(BigInteger.ONE.shiftLeft(63))
+                .lastValid(UInt64.MAX_VALUE)
+                .genesisHash(GH)
+                .amount(UInt64.MAX_VALUE.subtract(BigInteger.TEN))
+                .receiver(OTHER)
+                .build();
+        return Arrays.asList(payment, keyreg, create, transfer, freeze, large);
+    }
+
+    @Test
+    public void testEncodesLikeTransaction() throws Exception {
+        for (Transaction tx : transactions()) {
+            CompactTransaction compact = CompactTransaction.of(tx);
+            assertThat(compact.bytes()).isEqualTo(tx.bytes());
+            assertThat(compact.bytesToSign()).isEqualTo(tx.bytesToSign());
+            assertThat(compact.rawTxID()).isEqualTo(tx.rawTxID());
+            assertThat(compact.txID()).isEqualTo(tx.txID());
+            assertThat(compact.toTransaction()).isEqualTo(tx);
+            assertThat(compact.toTransaction().bytes()).isEqualTo(tx.bytes());
+            assertThat(CompactTransaction.of(compact.toTransaction())).isEqualTo(compact);
+            assertThat(CompactTransaction.of(compact.toTransaction()).hashCode()).isEqualTo(compact.hashCode());
+        }
+    }
+
+    @Test
+    public void testViews() {
+        List<Transaction> txns = transactions();
+        Transaction payment = txns.get(0);
+        CompactTransaction compact = CompactTransaction.of(payment);
+        assertThat(compact.getFee()).isEqualTo(payment.fee);
+        assertThat(compact.getFeeUnsigned()).isEqualTo(payment.fee.longValue());
+        assertThat(compact.getAmount()).isEqualTo(BigInteger.valueOf(1234567890123L));
+        assertThat(compact.getSender()).isEqualTo(ADDR);
+        assertThat(compact.getNote()).containsExactly(1, 2, 3);
+        assertThat(compact.getAssetParams()).isEqualTo(new Transaction.AssetParams());
+
+        CompactTransaction large = CompactTransaction.of(txns.get(5));
+        assertThat(large.getFee()).isEqualTo(UInt64.MAX_VALUE);
+        assertThat(large.getFeeUnsigned()).isEqualTo(-1L);
+        assertThat(large.getFirstValid()).isEqualTo(BigInteger.ONE.shiftLeft(63));
+        assertThat(large.getFirstValidUnsigned()).isEqualTo(Long.MIN_VALUE);
+
+        CompactTransaction create = CompactTransaction.of(txns.get(2));
+        assertThat(create.getAssetTotal()).isEqualTo(UInt64.MAX_VALUE);
+        assertThat(create.getAssetTotalUnsigned()).isEqualTo(-1L);
+    }
+
+    @Test
+    public void testImmutable() throws Exception {
+        Transaction payment = transactions().get(0);
+        byte[] encoded = payment.bytes();
+        CompactTransaction compact = CompactTransaction.of(payment);
+        payment.note[0] = 9;
+        payment.amount = BigInteger.ONE;
+        compact.getNote()[1] = 9;
+        compact.toTransaction().lease[0] = 9;
+        payment.genesisHash.getBytes()[0] = 9;
+        compact.getGenesisHash().getBytes()[1] = 9;
+        compact.toTransaction().genesisHash.getBytes()[2] = 9;
+        // group and keys are left at their defaults, which are shared by all compact transactions.
+        compact.getGroup().getBytes()[0] = 9;
+        compact.toTransaction().group.getBytes()[1] = 9;
+        compact.getVotePK().getBytes()[0] = 9;
+        compact.toTransaction().votePK.getBytes()[1] = 9;
+        compact.getSelectionPK().getBytes()[0] = 9;
+        compact.toTransaction().selectionPK.getBytes()[1] = 9;
+        assertThat(compact.bytes()).isEqualTo(encoded);
+
+        Transaction other = transactions().get(0);
+        assertThat(CompactTransaction.of(other).bytes()).isEqualTo(other.bytes());
+    }
+
+    @Test
+    public void testRejectsNonUInt64() {
+        Transaction tx = transactions().get(0);
+        tx.amount = BigInteger.valueOf(-1);
+        assertThatThrownBy(() -> CompactTransaction.of(tx))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("amount");
+        tx.amount = UInt64.MAX_VALUE.add(BigInteger.ONE);
+        assertThatThrownBy(() -> CompactTransaction.of(tx)).isInstanceOf(IllegalArgumentException.class);
+        tx.amount = null;
+        assertThatThrownBy(() -> CompactTransaction.of(tx)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testSignsLikeTransaction() throws Exception {
+        Account account = new Account();
+        Transaction tx = transactions().get(3);
+        tx.sender = account.getAddress();
+        CompactTransaction compact = CompactTransaction.of(tx);
+        assertThat(account.signTransaction(compact.toTransaction())).isEqualTo(account.signTransaction(tx));
+        byte[] bytesToSign = compact.bytesToSign();
+        assertThat(account.sign(bytesToSign, 0, bytesToSign.length)).isEqualTo(account.signTransaction(tx).sig);
+    }
+}
@@ -0,0 +1,138 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.account.Account;
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.crypto.Ed25519PublicKey;
+import com.algorand.algosdk.crypto.LogicsigSignature;
+import com.algorand.algosdk.crypto.MultisigAddress;
+import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.MsgPackWriter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestEncodedSize {
+    private static final byte[] PROGRAM = {0x01, 0x20, 0x01, 0x01, 0x22};
+
+    private final Random r = new Random(5);
+
+    private byte[] bytes(int len) {
+        byte[] b = new byte[len];
+        r.nextBytes(b);
+        return b;
+    }
+
+    private Transaction payment(Address sender) {
+        return Transaction.PaymentTransactionBuilder()
+                .sender(sender)
+                .receiver(new Address(bytes(32)))
+                .amount(r.nextInt(100000000))
+                .fee(r.nextInt(50))
+                .firstValid(r.nextInt(1000000))
+                .lastValid(1000000 + r.nextInt(1000))
+                .note(r.nextBoolean() ? null : bytes(r.nextInt(1200)))
+                .genesisID("testnet-v1.0")
+                .genesisHash(new Digest(bytes(32)))
+                .build();
+    }
+
+    @Test
+    public void testSingleSig() throws Exception {
+        Account account = new Account();
+        for (int i = 0; i < 50; i++) {
+            Transaction tx = payment(account.getAddress());
+            int expected = Encoder.encodeToMsgPack(account.signTransaction(tx)).length;
+            assertThat(EncodedSize.singleSig(tx)).isEqualTo(expected);
+            assertThat(Account.estimatedEncodedSize(tx)).isEqualTo(BigInteger.valueOf(expected));
+            assertThat(EncodedSize.transaction(tx)).isEqualTo(Encoder.encodeToMsgPack(tx).length);
+        }
+    }
+
+    @Test
+    public void testFeePerByte() throws Exception {
+        Account account = new Account();
+        Transaction tx = payment(account.getAddress());
+        Transaction expected = Encoder.decodeFromMsgPack(Encoder.encodeToMsgPack(tx), Transaction.class);
+        Account.setFeeByFeePerByte(tx, BigInteger.valueOf(10));
+        // the fee is part of the signed size, the previous implementation signed with the fee per byte set.
+        expected.fee = BigInteger.valueOf(10);
+        int size = Encoder.encodeToMsgPack(account.signTransaction(expected)).length;
+        assertThat(tx.fee).isEqualTo(BigInteger.valueOf(Math.max(1000, 10 * size)));
+    }
+
+    @Test
+    public void testMultisig() throws Exception {
+        List<Account> accounts = new ArrayList<>();
+        List<Ed25519PublicKey> keys = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            accounts.add(new Account());
+            keys.add(accounts.get(i).getEd25519PublicKey());
+        }
+        MultisigAddress from = new MultisigAddress(1, 2, keys);
+        Transaction tx = payment(from.toAddress());
+
+        SignedTransaction one = accounts.get(0).signMultisigTransaction(from, tx);
+        assertThat(EncodedSize.multisig(tx, 1, 2, 3, 1)).isEqualTo(Encoder.encodeToMsgPack(one).length);
+        assertThat(EncodedSize.signedTransaction(one)).isEqualTo(Encoder.encodeToMsgPack(one).length);
+
+        SignedTransaction two = accounts.get(1).appendMultisigTransaction(from, one);
+        assertThat(EncodedSize.multisig(tx, from)).isEqualTo(Encoder.encodeToMsgPack(two).length);
+
+        assertThatThrownBy(() -> EncodedSize.multisig(tx, 1, 2, 3, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testLogicsig() throws Exception {
+        List<byte[]> args = Arrays.asList(bytes(10), bytes(300));
+        for (List<byte[]> a : Arrays.asList(null, new ArrayList<byte[]>(), args)) {
+            LogicsigSignature lsig = new LogicsigSignature(PROGRAM, a);
+            Transaction tx = payment(lsig.toAddress());
+            int expected = Encoder.encodeToMsgPack(Account.signLogicsigTransaction(lsig, tx)).length;
+            assertThat(EncodedSize.logicsig(tx, PROGRAM, a)).isEqualTo(expected);
+            assertThat(EncodedSize.logicsig(tx, lsig)).isEqualTo(expected);
+        }
+
+        Account account = new Account();
+        LogicsigSignature delegated = account.signLogicsig(new LogicsigSignature(PROGRAM, args));
+        Transaction tx = payment(account.getAddress());
+        assertThat(EncodedSize.logicsig(tx, delegated))
+                .isEqualTo(Encoder.encodeToMsgPack(Account.signLogicsigTransaction(delegated, tx)).length);
+    }
+
+    @Test
+    public void testWriterSizes() {
+        long[] longs = {0, 1, 127, 128, 255, 256, 65535, 65536, 4294967295L, 4294967296L, Long.MAX_VALUE,
+                -1, -32, -33, -128, -129, -32768, -32769, Integer.MIN_VALUE, Integer.MIN_VALUE - 1L, Long.MIN_VALUE};
+        for (long v : longs) {
+            MsgPackWriter out = new MsgPackWriter();
+            out.writeLong(v);
+            assertThat(MsgPackWriter.sizeOfLong(v)).as("%d", v).isEqualTo(out.length());
+        }
+        BigInteger max = new BigInteger("18446744073709551615");
+        assertThat(MsgPackWriter.sizeOfBigInteger(max)).isEqualTo(9);
+        assertThatThrownBy(() -> MsgPackWriter.sizeOfBigInteger(max.add(BigInteger.ONE)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        String[] strings = {"", "a", "héllo € 😀", "lone \ud83d surrogate \ude00", "\ud83d",
+                new String(new char[31]).replace('\0', 'x'), new String(new char[32]).replace('\0', 'x'),
+                new String(new char[70000]).replace('\0', 'é')};
+        for (String s : strings) {
+            MsgPackWriter out = new MsgPackWriter();
+            out.writeString(s);
+            assertThat(MsgPackWriter.sizeOfString(s)).isEqualTo(out.length());
+        }
+        for (int len : new int[]{0, 255, 256, 65535, 65536}) {
+            MsgPackWriter out = new MsgPackWriter();
+            out.writeBinary(new byte[len]);
+            assertThat(MsgPackWriter.sizeOfBinary(len)).isEqualTo(out.length());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.account.Account;
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.util.Encoder;
+import com.algorand.algosdk.util.MsgPackWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Modifier;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.algorand.algosdk.Fixtures.payment;
+import static com.algorand.algosdk.Fixtures.paymentBuilder;
+import static org.assertj.core.api.Assertions.*;
+
+public class TestFrozenTransaction {
+    private static final String SEED = "awful drop leaf tennis indoor begin mandate discover uncle seven only coil atom any hospital uncover make any climb actor armed measure need above hundred";
+
+    @Test
+    public void matchesSourceTransaction() throws Exception {
+        Transaction tx = payment(new Account(SEED).getAddress(), 1234);
+        FrozenTransaction frozen = tx.freeze();
+
+        assertThat(frozen.bytes()).isEqualTo(tx.bytes());
+        assertThat(frozen.bytesToSign()).isEqualTo(tx.bytesToSign());
+        assertThat(frozen.encodedLength()).isEqualTo(tx.bytes().length);
+        assertThat(frozen.rawTxID()).isEqualTo(tx.rawTxID());
+        assertThat(frozen.txID()).isEqualTo(tx.txID());
+        assertThat(frozen.getTransaction()).isEqualTo(tx);
+        assertThat(frozen.getCompactTransaction()).isEqualTo(CompactTransaction.of(tx));
+        assertThat(FrozenTransaction.of(CompactTransaction.of(tx))).isEqualTo(frozen);
+
+        MsgPackWriter out = new MsgPackWriter();
+        frozen.writeTo(out);
+        assertThat(out.toByteArray()).isEqualTo(tx.bytes());
+    }
+
+    @Test
+    public void isNotChangedBySourceOrCallers() throws Exception {
+        Transaction tx = paymentBuilder(new Account(SEED).getAddress(), 1234).note(new byte[]{1, 2, 3}).build();
+        FrozenTransaction frozen = tx.freeze();
+        String txID = tx.txID();
+
+        tx.amount = BigInteger.valueOf(5678);
+        tx.note[0] = 9;
+        frozen.bytes()[0] = 0;
+        frozen.bytesToSign()[0] = 0;
+        frozen.getTransaction().fee = BigInteger.ZERO;
+
+        assertThat(frozen.txID()).isEqualTo(txID);
+        assertThat(frozen.bytesToSign()).isEqualTo(paymentBuilder(tx.sender, 1234).note(new byte[]{1, 2, 3}).build().bytesToSign());
+        assertThat(frozen.rawTxID()).isSameAs(frozen.rawTxID());
+        assertThat(frozen.txID()).isSameAs(frozen.txID());
+        assertThat(tx.freeze()).isNotEqualTo(frozen);
+    }
+
+    @Test
+    public void rejectsTransactionsThatCanNotBeMadeCompact() throws Exception {
+        Transaction tx = payment(new Account(SEED).getAddress(), 1234);
+        tx.fee = BigInteger.valueOf(-1);
+        assertThatThrownBy(tx::freeze).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void signsLikeTransaction() throws Exception {
+        Account account = new Account(SEED);
+        Transaction tx = payment(account.getAddress(), 1234);
+        FrozenTransaction frozen = tx.freeze();
+
+        SignedTransaction expected = account.signTransaction(tx);
+        SignedTransaction actual = account.signTransaction(frozen);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.transactionID).isEqualTo(expected.transactionID);
+        assertThat(Encoder.encodeToMsgPack(actual)).isEqualTo(Encoder.encodeToMsgPack(expected));
+        assertThat(new SignedTransaction(frozen, expected.sig)).isEqualTo(expected);
+    }
+
+    @Test
+    public void signedTransactionEncodesCurrentTransaction() throws Exception {
+        Account account = new Account(SEED);
+        FrozenTransaction frozen = payment(account.getAddress(), 1234).freeze();
+        SignedTransaction stx = account.signTransaction(frozen);
+        assertThat(CanonicalEncoder.encode(stx)).isEqualTo(Encoder.encodeToMsgPack(stx));
+
+        // the signed transaction holds its own copy of the fields, edits to it are encoded like any other.
+        stx.tx.amount = BigInteger.valueOf(5678);
+        assertThat(frozen.getTransaction().amount).isEqualTo(BigInteger.valueOf(1234));
+        byte[] encoded = Encoder.encodeToMsgPack(stx);
+        assertThat(CanonicalEncoder.encode(stx)).isEqualTo(encoded);
+        assertThat(CanonicalEncoder.encodedSize(stx)).isEqualTo(encoded.length);
+    }
+
+    @Test
+    public void signingCanNotBeOverridden() throws Exception {
+        // FrozenTransaction hands its memoized bytes to Account.sign.
+        assertThat(Modifier.isFinal(Account.class.getMethod("sign", byte[].class, int.class, int.class).getModifiers()))
+                .isTrue();
+    }
+
+    @Test
+    public void sharedAcrossThreads() throws Exception {
+        final Account account = new Account(SEED);
+        final FrozenTransaction frozen = payment(account.getAddress(), 1234).freeze();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SignedTransaction>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(new Callable<SignedTransaction>() {
+                    @Override
+                    public SignedTransaction call() throws Exception {
+                        return account.signTransaction(frozen);
+                    }
+                }));
+            }
+            SignedTransaction first = futures.get(0).get();
+            for (Future<SignedTransaction> future : futures) {
+                SignedTransaction stx = future.get();
+                assertThat(stx).isEqualTo(first);
+                assertThat(stx.transactionID).isSameAs(frozen.txID());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void groupsLikeTransactions() throws Exception {
+        Address sender = new Account(SEED).getAddress();
+        Transaction tx1 = payment(sender, 1);
+        Transaction tx2 = payment(sender, 2);
+        List<FrozenTransaction> frozen = Arrays.asList(tx1.freeze(), tx2.freeze());
+
+        Digest gid = TxGroup.computeGroupID(tx1, tx2);
+        assertThat(TxGroup.computeGroupID(frozen)).isEqualTo(gid);
+
+        List<FrozenTransaction> grouped = TxGroup.assignGroupID(frozen);
+        Transaction[] expected = TxGroup.assignGroupID(tx1, tx2);
+        assertThat(grouped).hasSize(2);
+        for (int i = 0; i < 2; i++) {
+            assertThat(grouped.get(i).getCompactTransaction().getGroup()).isEqualTo(gid);
+            assertThat(grouped.get(i).txID()).isEqualTo(expected[i].txID());
+            assertThat(frozen.get(i).getCompactTransaction().getGroup()).isNotEqualTo(gid);
+        }
+
+        assertThatThrownBy(() -> TxGroup.computeGroupID(new ArrayList<FrozenTransaction>()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("empty transaction list");
+    }
+
+    @Test
+    public void javaSerialization() throws Exception {
+        FrozenTransaction frozen = payment(new Account(SEED).getAddress(), 1234).freeze();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(frozen);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            FrozenTransaction copy = (FrozenTransaction) in.readObject();
+            assertThat(copy).isEqualTo(frozen);
+            assertThat(copy.getCompactTransaction()).isNotSameAs(frozen.getCompactTransaction());
+            assertThat(copy.bytesToSign()).isEqualTo(frozen.bytesToSign());
+            assertThat(copy.txID()).isEqualTo(frozen.txID());
+            assertThat(copy.getTransaction()).isEqualTo(frozen.getTransaction());
+        }
+    }
+}
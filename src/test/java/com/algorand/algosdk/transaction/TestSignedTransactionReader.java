@@ -0,0 +1,155 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.crypto.Signature;
+import com.algorand.algosdk.util.Encoder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestSignedTransactionReader {
+    private final Random r = new Random(42);
+    private final List<SignedTransaction> records = new ArrayList<>();
+    private final List<Integer> offsets = new ArrayList<>();
+    private final byte[] encoded;
+
+    public TestSignedTransactionReader() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 50; i++) {
+            // include notes larger than the stream chunk size to exercise buffer growth.
+            byte[] note = bytes(i % 10 == 0 ? 100000 : r.nextInt(500));
+            Transaction tx = Transaction.PaymentTransactionBuilder()
+                    .sender(new Address(bytes(32)))
+                    .flatFee(1000)
+                    .firstValid(i)
+                    .lastValid(i + 1000)
+                    .note(note)
+                    .genesisID("testnet-v1.0")
+                    .genesisHash(new Digest(bytes(32)))
+                    .amount(r.nextInt(100000))
+                    .receiver(new Address(bytes(32)))
+                    .build();
+            SignedTransaction stx = new SignedTransaction(tx, new Signature(bytes(64)), "");
+            records.add(stx);
+            offsets.add(out.size());
+            out.write(Encoder.encodeToMsgPack(stx));
+        }
+        encoded = out.toByteArray();
+    }
+
+    private byte[] bytes(int len) {
+        byte[] b = new byte[len];
+        r.nextBytes(b);
+        return b;
+    }
+
+    private void assertReadsAll(SignedTransactionReader reader) throws IOException {
+        try {
+            for (int i = 0; i < records.size(); i++) {
+                assertThat(reader.hasNext()).isTrue();
+                assertThat(reader.next()).isEqualTo(records.get(i));
+                assertThat(reader.getRecordOffset()).isEqualTo(offsets.get(i).longValue());
+                int end = i + 1 < offsets.size() ? offsets.get(i + 1) : encoded.length;
+                assertThat(reader.getRecordLength()).isEqualTo(end - offsets.get(i));
+            }
+            assertThat(reader.hasNext()).isFalse();
+            assertThat(reader.read()).isNull();
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testReadBytes() throws Exception {
+        assertReadsAll(SignedTransactionReader.fromBytes(encoded));
+    }
+
+    @Test
+    public void testReadDirectBuffer() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocateDirect(encoded.length);
+        buf.put(encoded);
+        buf.flip();
+        assertReadsAll(SignedTransactionReader.fromBuffer(buf));
+    }
+
+    @Test
+    public void testReadStream() throws Exception {
+        assertReadsAll(SignedTransactionReader.fromStream(new ByteArrayInputStream(encoded)));
+    }
+
+    @Test
+    public void testReadFragmentedStream() throws Exception {
+        // return small, irregular chunks so records straddle every refill boundary.
+        InputStream in = new FilterInputStream(new ByteArrayInputStream(encoded)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1 + r.nextInt(97)));
+            }
+        };
+        assertReadsAll(SignedTransactionReader.fromStream(in));
+    }
+
+    @Test
+    public void testReadFile() throws Exception {
+        File file = File.createTempFile("stxn", ".msgp");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(encoded);
+        out.close();
+        assertReadsAll(SignedTransactionReader.fromFile(file));
+        file.delete();
+    }
+
+    @Test
+    public void testNextEncoded() throws Exception {
+        SignedTransactionReader reader = SignedTransactionReader.fromBytes(encoded);
+        for (int i = 0; i < records.size(); i++) {
+            ByteBuffer record = reader.nextEncoded();
+            byte[] copy = new byte[record.remaining()];
+            record.get(copy);
+            assertThat(copy).isEqualTo(Encoder.encodeToMsgPack(records.get(i)));
+        }
+        assertThatThrownBy(reader::nextEncoded).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void testTruncatedInput() throws Exception {
+        byte[] truncated = Arrays.copyOf(encoded, offsets.get(3) + 10);
+        SignedTransactionReader reader = SignedTransactionReader.fromStream(new ByteArrayInputStream(truncated));
+        for (int i = 0; i < 3; i++) {
+            assertThat(reader.read()).isEqualTo(records.get(i));
+        }
+        assertThatThrownBy(reader::read)
+                .isInstanceOf(IOException.class)
+                .hasMessage("truncated record at offset " + offsets.get(3));
+    }
+
+    @Test
+    public void testInvalidInput() throws Exception {
+        SignedTransactionReader reader = SignedTransactionReader.fromBytes(new byte[]{(byte) 0xc1});
+        assertThatThrownBy(reader::read)
+                .isInstanceOf(IOException.class)
+                .hasMessage("invalid record at offset 0");
+    }
+
+    @Test
+    public void testEmptyInput() throws Exception {
+        assertThat(SignedTransactionReader.fromStream(new ByteArrayInputStream(new byte[0])).hasNext()).isFalse();
+        assertThat(SignedTransactionReader.fromBytes(new byte[0]).hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,223 @@
+package com.algorand.algosdk.transaction;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.crypto.Ed25519PublicKey;
+import com.algorand.algosdk.crypto.LogicsigSignature;
+import com.algorand.algosdk.crypto.MultisigSignature;
+import com.algorand.algosdk.crypto.ParticipationPublicKey;
+import com.algorand.algosdk.crypto.Signature;
+import com.algorand.algosdk.crypto.VRFPublicKey;
+import com.algorand.algosdk.util.Encoder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestSignedTransactionView {
+    private static final BigInteger[] NUMBERS = {
+            BigInteger.ZERO, BigInteger.ONE, BigInteger.valueOf(300), BigInteger.valueOf(4294967296L),
+            new BigInteger("18446744073709551615"), BigInteger.valueOf(-5), null
+    };
+
+    private final Random r = new Random(99);
+
+    private byte[] bytes(int len) {
+        byte[] b = new byte[len];
+        r.nextBytes(b);
+        return b;
+    }
+
+    private BigInteger number() {
+        return NUMBERS[r.nextInt(NUMBERS.length)];
+    }
+
+    private Address address() {
+        return r.nextBoolean() ? new Address(bytes(32)) : new Address();
+    }
+
+    private Transaction randomTransaction() {
+        Transaction tx = new Transaction();
+        Transaction.Type[] types = Transaction.Type.values();
+        tx.type = types[r.nextInt(types.length)];
+        tx.sender = address();
+        tx.fee = number();
+        tx.firstValid = number();
+        tx.lastValid = number();
+        tx.note = r.nextBoolean() ? null : bytes(r.nextInt(300));
+        tx.genesisID = r.nextBoolean() ? "" : "testnet-v1.0";
+        tx.genesisHash = r.nextBoolean() ? new Digest(bytes(32)) : new Digest();
+        tx.group = r.nextBoolean() ? new Digest(bytes(32)) : new Digest();
+        tx.lease = r.nextBoolean() ? null : bytes(32);
+        tx.amount = number();
+        tx.receiver = address();
+        tx.closeRemainderTo = address();
+        tx.votePK = r.nextBoolean() ? new ParticipationPublicKey(bytes(32)) : new ParticipationPublicKey();
+        tx.selectionPK = r.nextBoolean() ? new VRFPublicKey(bytes(32)) : new VRFPublicKey();
+        tx.voteFirst = number();
+        tx.voteLast = number();
+        tx.voteKeyDilution = number();
+        if (r.nextBoolean()) {
+            tx.assetParams = new Transaction.AssetParams(BigInteger.valueOf(100), 2, r.nextBoolean(), "unit",
+                    "asset", "http://example.com", null, address(), address(), address(), address());
+        }
+        tx.assetIndex = number();
+        tx.xferAsset = number();
+        tx.assetAmount = number();
+        tx.assetSender = address();
+        tx.assetReceiver = address();
+        tx.assetCloseTo = address();
+        tx.freezeTarget = address();
+        tx.assetFreezeID = number();
+        tx.freezeState = r.nextBoolean();
+        return tx;
+    }
+
+    private SignedTransaction randomSignedTransaction(int i) throws Exception {
+        Transaction tx = randomTransaction();
+        switch (i % 4) {
+            case 0:
+                return new SignedTransaction(tx, new Signature(bytes(64)), "");
+            case 1:
+                MultisigSignature msig = new MultisigSignature(1, 2);
+                msig.subsigs.add(new MultisigSignature.MultisigSubsig(new Ed25519PublicKey(bytes(32)), new Signature(bytes(64))));
+                msig.subsigs.add(new MultisigSignature.MultisigSubsig(new Ed25519PublicKey(bytes(32))));
+                return new SignedTransaction(tx, msig, "");
+            case 2:
+                LogicsigSignature lsig = new LogicsigSignature(new byte[]{0x01, 0x20, 0x01, 0x01, 0x22}, null);
+                return new SignedTransaction(tx, lsig, "");
+            default:
+                return new SignedTransaction(tx, new Signature(), "");
+        }
+    }
+
+    private void assertMatches(SignedTransactionView view, SignedTransaction expected) {
+        Transaction tx = expected.tx;
+        assertThat(view.getType()).isEqualTo(tx.type);
+        assertThat(view.getSender()).isEqualTo(tx.sender);
+        assertThat(view.getFee()).isEqualTo(tx.fee);
+        assertThat(view.getFirstValid()).isEqualTo(tx.firstValid);
+        assertThat(view.getLastValid()).isEqualTo(tx.lastValid);
+        assertThat(view.getNote()).isEqualTo(tx.note);
+        assertThat(view.getGenesisID()).isEqualTo(tx.genesisID);
+        assertThat(view.getGenesisHash()).isEqualTo(tx.genesisHash);
+        assertThat(view.getGroup()).isEqualTo(tx.group);
+        assertThat(view.getLease()).isEqualTo(tx.lease);
+        assertThat(view.getAmount()).isEqualTo(tx.amount);
+        assertThat(view.getReceiver()).isEqualTo(tx.receiver);
+        assertThat(view.getCloseRemainderTo()).isEqualTo(tx.closeRemainderTo);
+        assertThat(view.getVotePK()).isEqualTo(tx.votePK);
+        assertThat(view.getSelectionPK()).isEqualTo(tx.selectionPK);
+        assertThat(view.getVoteFirst()).isEqualTo(tx.voteFirst);
+        assertThat(view.getVoteLast()).isEqualTo(tx.voteLast);
+        assertThat(view.getVoteKeyDilution()).isEqualTo(tx.voteKeyDilution);
+        assertThat(view.getAssetParams()).isEqualTo(tx.assetParams);
+        assertThat(view.getAssetIndex()).isEqualTo(tx.assetIndex);
+        assertThat(view.getXferAsset()).isEqualTo(tx.xferAsset);
+        assertThat(view.getAssetAmount()).isEqualTo(tx.assetAmount);
+        assertThat(view.getAssetSender()).isEqualTo(tx.assetSender);
+        assertThat(view.getAssetReceiver()).isEqualTo(tx.assetReceiver);
+        assertThat(view.getAssetCloseTo()).isEqualTo(tx.assetCloseTo);
+        assertThat(view.getFreezeTarget()).isEqualTo(tx.freezeTarget);
+        assertThat(view.getAssetFreezeID()).isEqualTo(tx.assetFreezeID);
+        assertThat(view.getFreezeState()).isEqualTo(tx.freezeState);
+        assertThat(view.getTransaction()).isEqualTo(tx);
+        assertThat(view.getSig()).isEqualTo(expected.sig);
+        assertThat(view.getMultisig()).isEqualTo(expected.mSig);
+        assertThat(view.getLogicsig()).isEqualTo(expected.lSig);
+        assertThat(view.toSignedTransaction()).isEqualTo(expected);
+    }
+
+    @Test
+    public void testViewMatchesDecoder() throws Exception {
+        for (int i = 0; i < 200; i++) {
+            SignedTransaction stx = randomSignedTransaction(i);
+            byte[] encoded;
+            try {
+                encoded = Encoder.encodeToMsgPack(stx);
+            } catch (Exception e) {
+                continue;
+            }
+            SignedTransaction decoded = Encoder.decodeFromMsgPack(encoded, SignedTransaction.class);
+            assertMatches(SignedTransactionView.wrap(encoded), decoded);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length + 8);
+            direct.position(8);
+            direct.put(encoded);
+            direct.position(8);
+            assertMatches(SignedTransactionView.wrap(direct), decoded);
+        }
+    }
+
+    @Test
+    public void testTxnBytes() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            SignedTransaction stx = randomSignedTransaction(i);
+            stx.tx.fee = BigInteger.valueOf(1000);
+            byte[] encoded = Encoder.encodeToMsgPack(stx);
+            byte[] padded = new byte[encoded.length + 6];
+            System.arraycopy(encoded, 0, padded, 3, encoded.length);
+
+            SignedTransactionView view = SignedTransactionView.wrap(padded, 3, encoded.length);
+            ByteBuffer txn = view.txnBytes();
+            byte[] txnBytes = new byte[txn.remaining()];
+            txn.get(txnBytes);
+            assertThat(txnBytes).isEqualTo(Encoder.encodeToMsgPack(stx.tx));
+            byte[] all = new byte[view.bytes().remaining()];
+            view.bytes().get(all);
+            assertThat(all).isEqualTo(encoded);
+            assertThat(view.hasSig()).isEqualTo(i % 4 == 0);
+            assertThat(view.hasMultisig()).isEqualTo(i % 4 == 1);
+            assertThat(view.hasLogicsig()).isEqualTo(i % 4 == 2);
+        }
+    }
+
+    @Test
+    public void testTxIDFromSignedBytes() throws Exception {
+        ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            SignedTransaction stx = randomSignedTransaction(i);
+            stx.tx.fee = BigInteger.valueOf(1000);
+            byte[] encoded = Encoder.encodeToMsgPack(stx);
+            concatenated.write(encoded);
+            expected.add(stx.tx.txID());
+
+            assertThat(Transaction.rawTxIDFromSignedBytes(encoded)).isEqualTo(stx.tx.rawTxID());
+            assertThat(Transaction.txIDFromSignedBytes(encoded)).isEqualTo(stx.tx.txID());
+            assertThat(SignedTransactionView.wrap(encoded).txID()).isEqualTo(stx.tx.txID());
+        }
+        assertThat(Transaction.txIDsFromSignedBytes(concatenated.toByteArray())).isEqualTo(expected);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(concatenated.size());
+        direct.put(concatenated.toByteArray());
+        direct.flip();
+        List<Digest> raw = Transaction.rawTxIDsFromSignedBytes(direct);
+        assertThat(direct.position()).isEqualTo(0);
+        assertThat(raw).hasSize(expected.size());
+        for (int i = 0; i < raw.size(); i++) {
+            assertThat(Encoder.encodeToBase32StripPad(raw.get(i).getBytes())).isEqualTo(expected.get(i));
+        }
+
+        assertThatThrownBy(() -> Transaction.rawTxIDFromSignedBytes(new byte[]{(byte) 0x80}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testInvalidInput() throws Exception {
+        byte[] encoded = Encoder.encodeToMsgPack(randomSignedTransaction(0));
+        assertThatThrownBy(() -> SignedTransactionView.wrap(Arrays.copyOf(encoded, encoded.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SignedTransactionView.wrap(Arrays.copyOf(encoded, encoded.length + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SignedTransactionView.wrap(new byte[]{(byte) 0x91, 0x01}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -692,4 +692,17 @@ public class TestTransaction {
         assertThat(tx.note).isNull();
         assertThat(tx.lease).isNull();
     }
+
+    @Test
+    public void serialVersionUIDsMatchRelease() {
+        // objects serialized by earlier releases must still deserialize.
+        assertThat(ObjectStreamClass.lookup(Transaction.class).getSerialVersionUID())
+                .isEqualTo(7077544170247368205L);
+        assertThat(ObjectStreamClass.lookup(Transaction.AssetParams.class).getSerialVersionUID())
+                .isEqualTo(5314547278713807912L);
+        assertThat(ObjectStreamClass.lookup(SignedTransaction.class).getSerialVersionUID())
+                .isEqualTo(-7659192401039494375L);
+        assertThat(ObjectStreamClass.lookup(TxGroup.class).getSerialVersionUID())
+                .isEqualTo(1645766690720083900L);
+    }
 }
@@ -0,0 +1,71 @@
+package com.algorand.algosdk.util;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestChunkedTasks {
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(4);
+
+    @AfterAll
+    public static void shutdown() {
+        POOL.shutdownNow();
+    }
+
+    @Test
+    public void testResultsInChunkOrder() throws Exception {
+        List<String> results = ChunkedTasks.run(POOL, 10, 4, RuntimeException.class,
+                (chunk, from, to) -> chunk + ":" + from + "-" + to);
+        assertThat(results).containsExactly("0:0-4", "1:4-8", "2:8-10");
+        assertThat(ChunkedTasks.run(POOL, 0, 4, RuntimeException.class, (chunk, from, to) -> chunk)).isEmpty();
+    }
+
+    @Test
+    public void testRethrowsTaskFailure() {
+        assertThatThrownBy(() -> ChunkedTasks.run(POOL, 8, 2, IOException.class, (chunk, from, to) -> {
+            if (chunk == 2) {
+                throw new IOException("chunk " + chunk);
+            }
+            return null;
+        })).isExactlyInstanceOf(IOException.class).hasMessage("chunk 2");
+
+        assertThatThrownBy(() -> ChunkedTasks.run(POOL, 8, 2, IOException.class, (chunk, from, to) -> {
+            throw new IllegalStateException("bad");
+        })).isExactlyInstanceOf(IllegalStateException.class).hasMessage("bad");
+    }
+
+    @Test
+    public void testCancelsRemainingTasks() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        assertThatThrownBy(() -> ChunkedTasks.run(POOL, 2, 1, InterruptedException.class, (chunk, from, to) -> {
+            if (chunk == 0) {
+                started.await();
+                throw new IllegalStateException("first");
+            }
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        })).hasMessage("first");
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testChunkSizes() throws Exception {
+        List<Integer> sizes = ChunkedTasks.run(POOL, 7, 3, RuntimeException.class, (chunk, from, to) -> to - from);
+        assertThat(sizes).isEqualTo(Arrays.asList(3, 3, 1));
+    }
+}
@@ -0,0 +1,121 @@
+package com.algorand.algosdk.util;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestDigester {
+    private static final BouncyCastleProvider BC = new BouncyCastleProvider();
+
+    private final Random r = new Random(3);
+
+    private byte[] bytes(int len) {
+        byte[] b = new byte[len];
+        r.nextBytes(b);
+        return b;
+    }
+
+    private static byte[] reference(byte[]... segments) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-512/256", BC);
+        for (byte[] segment : segments) {
+            digest.update(segment);
+        }
+        return digest.digest();
+    }
+
+    @Test
+    public void testPureJavaKnownAnswer() throws Exception {
+        assertThat(Encoder.encodeToHexStr(new Sha512_256().digest("abc".getBytes(StandardCharsets.US_ASCII))))
+                .isEqualTo("53048e2681941ef99b2e29b76b4c7dabe4c2d0c634fc6d46e0e2f13107e7af23");
+        assertThat(Encoder.encodeToHexStr(new Sha512_256().digest(new byte[0])))
+                .isEqualTo("c672b8d1ef56ed28ab87c3622c5114069bdd3ad7b8f9737498d0c01ecef0967a");
+    }
+
+    @Test
+    public void testPureJavaMatchesProvider() throws Exception {
+        Sha512_256 digest = new Sha512_256();
+        for (int len = 0; len < 600; len++) {
+            byte[] data = bytes(len);
+            assertThat(digest.digest(data)).isEqualTo(reference(data));
+
+            // feed irregular chunks, and single bytes, through the same instance.
+            int split = len == 0 ? 0 : r.nextInt(len);
+            digest.update(data, 0, split);
+            for (int i = split; i < len; i++) {
+                digest.update(data[i]);
+            }
+            byte[] out = new byte[40];
+            digest.digest(out, 5, 32);
+            assertThat(Arrays.copyOfRange(out, 5, 37)).isEqualTo(reference(data));
+        }
+    }
+
+    @Test
+    public void testSegments() throws Exception {
+        byte[] prefix = "TX".getBytes(StandardCharsets.UTF_8);
+        byte[] body = bytes(300);
+        byte[] expected = reference(prefix, Arrays.copyOfRange(body, 10, 250));
+
+        assertThat(Digester.digest(prefix, body)).isEqualTo(reference(prefix, body));
+        assertThat(Digester.digest(prefix, body, 10, 240)).isEqualTo(expected);
+        assertThat(Digester.digest(body, 10, 240)).isEqualTo(reference(Arrays.copyOfRange(body, 10, 250)));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(300);
+        direct.put(body);
+        direct.position(10);
+        direct.limit(250);
+        assertThat(Digester.digest(prefix, direct)).isEqualTo(expected);
+        assertThat(direct.position()).isEqualTo(10);
+
+        byte[] out = new byte[70];
+        Digester.digestInto(prefix, body, 10, 240, out, 3);
+        Digester.digestInto(prefix, direct, out, 38);
+        assertThat(Arrays.copyOfRange(out, 3, 35)).isEqualTo(expected);
+        assertThat(Arrays.copyOfRange(out, 38, 70)).isEqualTo(expected);
+        assertThatThrownBy(() -> Digester.digestInto(prefix, body, 0, 1, out, 39))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testConcurrentDigests() throws Exception {
+        final List<byte[]> inputs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            inputs.add(bytes(r.nextInt(1000)));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                results.add(pool.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() throws Exception {
+                        for (byte[] input : inputs) {
+                            if (!Arrays.equals(Digester.digest(input), reference(input))) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
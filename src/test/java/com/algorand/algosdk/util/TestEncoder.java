@@ -0,0 +1,119 @@
+package com.algorand.algosdk.util;
+
+import com.algorand.algosdk.crypto.Address;
+import com.algorand.algosdk.crypto.Digest;
+import com.algorand.algosdk.transaction.SignedTransaction;
+import com.algorand.algosdk.transaction.Transaction;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestEncoder {
+    private static final Transaction TX = makeTransaction();
+
+    private static Transaction makeTransaction() {
+        try {
+            return Transaction.AssetCreateTransactionBuilder()
+                    .sender(new Address("VKM6KSCTDHEM6KGEAMSYCNEGIPFJMHDSEMIRAQLK76CJDIRMMDHKAIRMFQ"))
+                    .flatFee(1000)
+                    .firstValid(322575)
+                    .lastValid(323575)
+                    .genesisHash(new Digest("SGO1GKSzyE7IEPItTxCByw9x8FmnrCDexi9/cOUJOiI="))
+                    .assetTotal(100)
+                    .assetDecimals(5)
+                    .assetUnitName("tst")
+                    .assetName("testcoin")
+                    .url("website")
+                    .metadataHash("fACPO4nRgO55j1ndAK3W6Sgc4APkcyFh".getBytes())
+                    .manager(new Address("BH55E5RMBD4GYWXGX5W5PJ5JAHPGM5OXKDQH5DC4O2MGI7NW4H6VOE4CP4"))
+                    .build();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // The encoding Encoder produced before the codec was shared.
+    private static byte[] legacyEncode(Object o) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper(new MessagePackFactory());
+        objectMapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_DEFAULT);
+        return objectMapper.writeValueAsBytes(o);
+    }
+
+    @Test
+    public void testMsgpackMatchesLegacyEncoding() throws Exception {
+        assertThat(Encoder.encodeToMsgPack(TX)).isEqualTo(legacyEncode(TX));
+
+        SignedTransaction stx = new SignedTransaction(TX, new com.algorand.algosdk.crypto.Signature(new byte[64]), "");
+        assertThat(Encoder.encodeToMsgPack(stx)).isEqualTo(legacyEncode(stx));
+
+        Transaction decoded = Encoder.decodeFromMsgPack(Encoder.encodeToMsgPack(TX), Transaction.class);
+        assertThat(decoded).isEqualTo(TX);
+    }
+
+    @Test
+    public void testConcurrentEncoding() throws Exception {
+        final byte[] expected = legacyEncode(TX);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() throws Exception {
+                        for (int j = 0; j < 50; j++) {
+                            byte[] encoded = Encoder.encodeToMsgPack(TX);
+                            if (!java.util.Arrays.equals(expected, encoded)) return false;
+                            if (!TX.equals(Encoder.decodeFromMsgPack(encoded, Transaction.class))) return false;
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testJsonRoundTrip() throws Exception {
+        String json = Encoder.encodeToJson(TX);
+        assertThat(Encoder.decodeFromJson(json, Transaction.class)).isEqualTo(TX);
+        assertThat(Encoder.encodeToJson(TX)).isEqualTo(json);
+    }
+
+    @Test
+    public void testEncodesNullLikeMapper() throws Exception {
+        assertThat(Encoder.encodeToMsgPack(null)).isEqualTo(new ObjectMapper(new MessagePackFactory()).writeValueAsBytes(null));
+        assertThat(Encoder.encodeToJson(null)).isEqualTo("null");
+    }
+
+    @Test
+    public void testWriterCacheIsBounded() throws Exception {
+        CanonicalCodec codec = CanonicalCodec.json();
+        // every array rank is a distinct class.
+        for (int rank = 1; rank <= 255; rank++) {
+            codec.writerFor(Array.newInstance(Integer.class, new int[rank]).getClass());
+            codec.writerFor(Array.newInstance(Long.class, new int[rank]).getClass());
+        }
+        assertThat(codec.cachedWriterCount()).isEqualTo(CanonicalCodec.MAX_CACHED_CLASSES);
+        assertThat(codec.encodeToString(new Integer[][]{{1}, {2, 3}})).isEqualTo("[[1],[2,3]]");
+    }
+}
@@ -0,0 +1,104 @@
+package com.algorand.algosdk.util;
+
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Base32;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestTextCodec {
+    // alphabet characters mixed with padding, whitespace, invalid and non-ascii characters.
+    private static final String NOISE = "ABCXYZabcxyz0123456789+/-_=  \n\t.!é€";
+
+    private final Random r = new Random(7);
+
+    private byte[] bytes(int len) {
+        byte[] b = new byte[len];
+        r.nextBytes(b);
+        return b;
+    }
+
+    private String noisy(String s) {
+        StringBuilder sb = new StringBuilder(s);
+        for (int i = r.nextInt(4); i > 0; i--) {
+            sb.insert(r.nextInt(sb.length() + 1), NOISE.charAt(r.nextInt(NOISE.length())));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testEncodeMatchesCommons() {
+        for (int len = 0; len < 100; len++) {
+            byte[] b = bytes(len);
+            assertThat(TextCodec.encodeBase32(b)).isEqualTo(new Base32().encodeAsString(b).replace("=", ""));
+            assertThat(TextCodec.encodeBase64(b)).isEqualTo(new Base64().encodeToString(b));
+            assertThat(TextCodec.encodeHex(b)).isEqualTo(Hex.encodeHexString(b));
+        }
+    }
+
+    @Test
+    public void testDecodeMatchesCommons() throws Exception {
+        for (int i = 0; i < 2000; i++) {
+            byte[] b = bytes(r.nextInt(60));
+            String base32 = noisy(r.nextBoolean() ? new Base32().encodeAsString(b) : TextCodec.encodeBase32(b).toLowerCase());
+            String base64 = noisy(r.nextBoolean() ? new Base64().encodeToString(b) : new Base64(true).encodeToString(b));
+            assertThat(TextCodec.decodeBase32(base32)).isEqualTo(new Base32().decode(base32));
+            assertThat(TextCodec.decodeBase64(base64)).isEqualTo(new Base64().decode(base64));
+
+            String hex = r.nextBoolean() ? Hex.encodeHexString(b) : Hex.encodeHexString(b).toUpperCase();
+            assertThat(TextCodec.decodeHex(hex)).isEqualTo(Hex.decodeHex(hex));
+        }
+    }
+
+    @Test
+    public void testHexErrorsMatchCommons() {
+        for (String bad : new String[]{"abc", "zz", "0g", "aé"}) {
+            Throwable expected = catchThrowable(() -> Hex.decodeHex(bad));
+            assertThatThrownBy(() -> TextCodec.decodeHex(bad))
+                    .isInstanceOf(DecoderException.class)
+                    .hasMessage(expected.getMessage());
+        }
+    }
+
+    @Test
+    public void testBufferApis() throws Exception {
+        byte[] b = bytes(36);
+        char[] chars = new char[100];
+        int n = TextCodec.encodeBase32(b, 0, b.length, chars, 3);
+        assertThat(n).isEqualTo(TextCodec.base32EncodedLength(b.length)).isEqualTo(58);
+        String encoded = new String(chars, 3, n);
+        assertThat(encoded).isEqualTo(TextCodec.encodeBase32(b));
+
+        byte[] out = new byte[40];
+        assertThat(TextCodec.decodeBase32(encoded, 0, encoded.length(), out, 2)).isEqualTo(36);
+        assertThat(Arrays.copyOfRange(out, 2, 38)).isEqualTo(b);
+
+        n = TextCodec.encodeBase64(b, 4, 10, chars, 0);
+        assertThat(n).isEqualTo(TextCodec.base64EncodedLength(10)).isEqualTo(16);
+        assertThat(TextCodec.decodeBase64(new String(chars, 0, n), 0, n, out, 0)).isEqualTo(10);
+        assertThat(Arrays.copyOf(out, 10)).isEqualTo(Arrays.copyOfRange(b, 4, 14));
+
+        n = TextCodec.encodeHex(b, 0, 5, chars, 1);
+        assertThat(n).isEqualTo(10);
+        assertThat(TextCodec.decodeHex(new String(chars, 1, n), 0, n, out, 0)).isEqualTo(5);
+        assertThat(Arrays.copyOf(out, 5)).isEqualTo(Arrays.copyOf(b, 5));
+
+        assertThatThrownBy(() -> TextCodec.encodeBase32(b, 0, b.length, new char[57], 0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> TextCodec.decodeBase32(encoded, 0, encoded.length(), new byte[35], 0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testEncoderNullHandling() {
+        assertThat(Encoder.encodeToBase64(null)).isNull();
+        assertThat(Encoder.decodeFromBase64(null)).isNull();
+        assertThat(Encoder.encodeToBase64(new byte[0])).isEmpty();
+        assertThat(Encoder.decodeFromBase64("")).isEmpty();
+    }
+}
@@ -0,0 +1,53 @@
+package com.algorand.algosdk.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TestUInt64 {
+    private static final long[] VALUES = {0, 1, 9, 10, Long.MAX_VALUE, Long.MIN_VALUE, -10, -1};
+
+    @Test
+    public void testConversions() {
+        for (long v : VALUES) {
+            BigInteger big = UInt64.toBigInteger(v);
+            assertThat(big.signum()).isGreaterThanOrEqualTo(0);
+            assertThat(big.longValue()).isEqualTo(v);
+            assertThat(UInt64.fromBigInteger(big)).isEqualTo(v);
+            assertThat(UInt64.toString(v)).isEqualTo(big.toString());
+            assertThat(UInt64.parse(big.toString())).isEqualTo(v);
+        }
+        assertThat(UInt64.toBigInteger(-1)).isEqualTo(UInt64.MAX_VALUE);
+        assertThat(UInt64.toString(-1)).isEqualTo("18446744073709551615");
+        assertThatThrownBy(() -> UInt64.fromBigInteger(BigInteger.valueOf(-1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UInt64.fromBigInteger(UInt64.MAX_VALUE.add(BigInteger.ONE)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UInt64.parse("18446744073709551616")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> UInt64.parse("-1")).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void testArithmetic() {
+        for (long a : VALUES) {
+            for (long b : VALUES) {
+                BigInteger x = UInt64.toBigInteger(a);
+                BigInteger y = UInt64.toBigInteger(b);
+                assertThat(Integer.signum(UInt64.compare(a, b))).isEqualTo(x.compareTo(y));
+                BigInteger sum = x.add(y);
+                if (sum.compareTo(UInt64.MAX_VALUE) > 0) {
+                    assertThatThrownBy(() -> UInt64.add(a, b)).isInstanceOf(ArithmeticException.class);
+                } else {
+                    assertThat(UInt64.toBigInteger(UInt64.add(a, b))).isEqualTo(sum);
+                }
+                BigInteger difference = x.subtract(y);
+                if (difference.signum() < 0) {
+                    assertThatThrownBy(() -> UInt64.subtract(a, b)).isInstanceOf(ArithmeticException.class);
+                } else {
+                    assertThat(UInt64.toBigInteger(UInt64.subtract(a, b))).isEqualTo(difference);
+                }
+            }
+        }
+    }
+}